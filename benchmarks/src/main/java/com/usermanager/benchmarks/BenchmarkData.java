@@ -0,0 +1,155 @@
+package com.usermanager.benchmarks;
+
+import com.usermanager.domain.entity.BaseEntity;
+import com.usermanager.domain.entity.Permission;
+import com.usermanager.domain.entity.Role;
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.domain.enums.PermissionType;
+import com.usermanager.domain.enums.UserStatus;
+import com.usermanager.event.PaperSnapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Deterministic object graphs shaped like production data: users with a few roles drawn from
+ * a shared pool, each role granting a slice of a shared permission catalogue.
+ */
+final class BenchmarkData {
+
+    static final String[] DEPARTMENTS = {"Engineering", "Finance", "Sales", "Support", "Legal", "Operations"};
+    static final String[] ACTIONS = {"read", "create", "update", "delete", "approve"};
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static List<Permission> permissions(int count) {
+        PermissionType[] types = PermissionType.values();
+        List<Permission> permissions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String resource = "resource" + (i / ACTIONS.length);
+            String action = ACTIONS[i % ACTIONS.length];
+            Permission permission = new Permission(resource.toUpperCase() + "_" + action.toUpperCase(),
+                    "Permission " + i, "Allows " + action + " on " + resource,
+                    types[i % types.length], resource, action);
+            audit(permission, i);
+            permissions.add(permission);
+        }
+        return permissions;
+    }
+
+    static List<Role> roles(int count, List<Permission> permissions, int permissionsPerRole, Random random) {
+        List<Role> roles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Role role = new Role("Role " + i, "ROLE_" + i, "Benchmark role " + i, i == 0);
+            audit(role, i);
+            for (Permission permission : sample(permissions, permissionsPerRole, random)) {
+                role.getPermissions().add(permission);
+            }
+            roles.add(role);
+        }
+        return roles;
+    }
+
+    static List<User> users(int count, List<Role> roles, int rolesPerUser, Random random) {
+        UserStatus[] statuses = UserStatus.values();
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "First" + i, "Last" + i);
+            audit(user, i);
+            user.setPhoneNumber("+1555" + String.format("%07d", i));
+            user.setKeycloakId(new UUID(random.nextLong(), random.nextLong()).toString());
+            user.setStatus(statuses[random.nextInt(statuses.length)]);
+            user.setEmailVerified(random.nextBoolean());
+            user.setLastLoginAt(NOW.minusMinutes(random.nextInt(100_000)));
+            user.setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+            user.setPosition("Position " + random.nextInt(40));
+            user.setBio("Bio of user " + i);
+            for (Role role : sample(roles, rolesPerUser, random)) {
+                user.getRoles().add(role);
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<PaperSnapshot> papers(int count, int tagVocabulary, int tagsPerPaper, Random random) {
+        PaperStatus[] statuses = PaperStatus.values();
+        PaperType[] types = PaperType.values();
+        List<PaperSnapshot> papers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<String> tags = new HashSet<>();
+            while (tags.size() < tagsPerPaper) {
+                tags.add(tag(skewed(random, tagVocabulary)));
+            }
+            papers.add(new PaperSnapshot(new UUID(0, i + 1L), "P-" + i, "Paper " + i,
+                    types[random.nextInt(types.length)], statuses[random.nextInt(statuses.length)],
+                    "category" + random.nextInt(20), true, random.nextInt(10) > 0,
+                    NOW.minusDays(random.nextInt(365)), null, Set.copyOf(tags), Set.of()));
+        }
+        return papers;
+    }
+
+    static String tag(int index) {
+        return "tag" + index;
+    }
+
+    /**
+     * Text shaped like a paper's extracted content or a CSV attachment: sentences over a skewed
+     * vocabulary interleaved with rows of numbers, so it compresses like real documents do.
+     */
+    static byte[] document(int size, Random random) {
+        StringBuilder text = new StringBuilder(size + 256);
+        while (text.length() < size) {
+            if (random.nextInt(4) == 0) {
+                text.append(random.nextInt(100_000)).append(',')
+                        .append(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]).append(',')
+                        .append(String.format("%.2f", random.nextDouble() * 1000)).append(',')
+                        .append(NOW.minusMinutes(random.nextInt(500_000))).append('\n');
+            } else {
+                int words = 6 + random.nextInt(14);
+                for (int i = 0; i < words; i++) {
+                    text.append(i == 0 ? "" : " ").append("word").append(skewed(random, 5_000));
+                }
+                text.append(".\n");
+            }
+        }
+        return text.substring(0, size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Helper methods
+    private static <T> List<T> sample(List<T> source, int count, Random random) {
+        List<T> sample = new ArrayList<>(count);
+        Set<Integer> picked = new HashSet<>();
+        while (sample.size() < Math.min(count, source.size())) {
+            int index = random.nextInt(source.size());
+            if (picked.add(index)) {
+                sample.add(source.get(index));
+            }
+        }
+        return sample;
+    }
+
+    // Low indexes are much more common, like real tag usage
+    private static int skewed(Random random, int bound) {
+        double u = random.nextDouble();
+        return (int) (bound * u * u * u);
+    }
+
+    private static void audit(BaseEntity entity, int seed) {
+        entity.setId(new UUID(seed + 1L, entity.getClass().getSimpleName().hashCode()));
+        entity.setCreatedAt(NOW.minusDays(seed % 1000));
+        entity.setUpdatedAt(NOW.minusHours(seed % 1000));
+        entity.setVersion((long) (seed % 7));
+        entity.setActive(true);
+    }
+}
@@ -0,0 +1,71 @@
+package com.usermanager.benchmarks;
+
+import com.usermanager.config.SecurityConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a decoded Keycloak access token into an authentication with role authorities,
+ * which runs on every authenticated request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtAuthorityBenchmark {
+
+    @Param({"3", "20"})
+    private int realmRoles;
+
+    private JwtAuthenticationConverter converter;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        converter = new SecurityConfig().jwtAuthenticationConverter();
+
+        List<String> roles = new ArrayList<>(List.of("admin", "user_manager", "offline_access"));
+        for (int i = roles.size(); i < realmRoles; i++) {
+            roles.add("role_" + i);
+        }
+        Instant issuedAt = Instant.parse("2024-01-01T12:00:00Z");
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .header("kid", "benchmark")
+                .issuer("http://localhost:8080/realms/usermanager")
+                .subject("5f1c1d2e-0000-4000-8000-000000000001")
+                .audience(List.of("account"))
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(3600))
+                .claim("preferred_username", "benchmark.user")
+                .claim("email", "benchmark.user@example.com")
+                .claim("realm_access", Map.of("roles", roles.subList(0, realmRoles)))
+                .claim("resource_access", Map.of("account", Map.of("roles", List.of("manage-account"))))
+                .build();
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convert() {
+        return converter.convert(jwt);
+    }
+}
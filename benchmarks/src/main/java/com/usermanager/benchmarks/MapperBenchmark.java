@@ -0,0 +1,103 @@
+package com.usermanager.benchmarks;
+
+import com.usermanager.domain.entity.Permission;
+import com.usermanager.domain.entity.Role;
+import com.usermanager.domain.entity.User;
+import com.usermanager.dto.PermissionDto;
+import com.usermanager.dto.RoleDto;
+import com.usermanager.dto.UserDto;
+import com.usermanager.mapper.PermissionMapper;
+import com.usermanager.mapper.PermissionMapperImpl;
+import com.usermanager.mapper.RoleMapper;
+import com.usermanager.mapper.RoleMapperImpl;
+import com.usermanager.mapper.UserMapper;
+import com.usermanager.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mapping of entity graphs as the controllers do it: a page of users with their roles
+ * and the roles' permissions, a single user, and the role and permission lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"3"})
+    private int rolesPerUser;
+
+    @Param({"25"})
+    private int permissionsPerRole;
+
+    private AnnotationConfigApplicationContext context;
+    private UserMapper userMapper;
+    private RoleMapper roleMapper;
+    private PermissionMapper permissionMapper;
+
+    private List<User> users;
+    private List<Role> roles;
+    private List<Permission> permissions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The generated mappers inject each other, so wire them the way the application does
+        context = new AnnotationConfigApplicationContext(
+                UserMapperImpl.class, RoleMapperImpl.class, PermissionMapperImpl.class);
+        userMapper = context.getBean(UserMapper.class);
+        roleMapper = context.getBean(RoleMapper.class);
+        permissionMapper = context.getBean(PermissionMapper.class);
+
+        Random random = new Random(42);
+        permissions = BenchmarkData.permissions(200);
+        roles = BenchmarkData.roles(30, permissions, permissionsPerRole, random);
+        users = BenchmarkData.users(pageSize, roles, rolesPerUser, random);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserDto> userPage() {
+        return userMapper.toDtoList(users);
+    }
+
+    @Benchmark
+    public UserDto singleUser() {
+        return userMapper.toDto(users.get(0));
+    }
+
+    @Benchmark
+    public List<RoleDto> roleList() {
+        return roleMapper.toDtoList(roles);
+    }
+
+    @Benchmark
+    public List<PermissionDto> permissionList() {
+        return permissionMapper.toDtoList(permissions);
+    }
+}
@@ -0,0 +1,68 @@
+package com.usermanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanager.dto.UserDto;
+import com.usermanager.mapper.PermissionMapperImpl;
+import com.usermanager.mapper.RoleMapperImpl;
+import com.usermanager.mapper.UserMapper;
+import com.usermanager.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the {@code Page<UserDto>} returned by the user listing endpoints, with
+ * an object mapper configured like Spring Boot's (Java time module, ISO dates).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<UserDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        UserMapper userMapper;
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+                UserMapperImpl.class, RoleMapperImpl.class, PermissionMapperImpl.class)) {
+            userMapper = context.getBean(UserMapper.class);
+        }
+        Random random = new Random(42);
+        List<UserDto> users = userMapper.toDtoList(BenchmarkData.users(pageSize,
+                BenchmarkData.roles(30, BenchmarkData.permissions(200), 25, random), 3, random));
+        page = new PageImpl<>(users, PageRequest.of(0, pageSize, Sort.by("username")), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
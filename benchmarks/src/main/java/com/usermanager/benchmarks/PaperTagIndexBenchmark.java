@@ -0,0 +1,144 @@
+package com.usermanager.benchmarks;
+
+import com.usermanager.benchmarks.dataset.SchemaSetup;
+import com.usermanager.domain.entity.BaseEntity;
+import com.usermanager.domain.entity.Paper;
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PaperSnapshot;
+import com.usermanager.index.PaperDocIdRegistry;
+import com.usermanager.index.PaperTagHits;
+import com.usermanager.index.PaperTagIndex;
+import com.usermanager.index.PaperTagQuery;
+import com.usermanager.repository.PaperRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Faceted tag search on the in-memory {@link PaperTagIndex}, fed through the same change events
+ * the application publishes, against the JPQL it replaces: {@code findByTagAndActive} over the
+ * same papers in an in-memory H2 database. The index also computes facets; the query only pages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PaperTagIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    private int papers;
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private PaperTagIndex index;
+    private PaperTagQuery commonTag;
+    private PaperTagQuery combined;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private PaperRepository paperRepository;
+
+    @Setup
+    public void setUp() throws SQLException {
+        List<PaperSnapshot> snapshots = BenchmarkData.papers(papers, 500, 5, new Random(42));
+        // The repository is only used by rebuild(), which the benchmark does not call
+        index = new PaperTagIndex(null, new PaperDocIdRegistry());
+        for (PaperSnapshot paper : snapshots) {
+            index.onPaperChanged(PaperChangedEvent.created(paper));
+        }
+
+        sessionFactory = SchemaSetup.openEntitySchema("jdbc:h2:mem:paper-tags-" + papers + ";DB_CLOSE_DELAY=-1", "sa", "");
+        store(snapshots);
+        entityManager = sessionFactory.createEntityManager();
+        paperRepository = new JpaRepositoryFactory(entityManager).getRepository(PaperRepository.class);
+
+        commonTag = new PaperTagQuery(Set.of(BenchmarkData.tag(0)), null, null, null, null, false);
+        combined = new PaperTagQuery(Set.of(BenchmarkData.tag(1)), Set.of(BenchmarkData.tag(2), BenchmarkData.tag(3)),
+                PaperStatus.PUBLISHED, null, null, true);
+    }
+
+    @Benchmark
+    public PaperTagHits singleTag() {
+        return index.search(commonTag, 0, 20, 10);
+    }
+
+    @Benchmark
+    public PaperTagHits tagsWithStatus() {
+        return index.search(combined, 0, 20, 10);
+    }
+
+    @Benchmark
+    public Page<Paper> singleTagJpql() {
+        Page<Paper> page = paperRepository.findByTagAndActive(BenchmarkData.tag(0), FIRST_PAGE);
+        // Every call hydrates its page, as a fresh request would
+        entityManager.clear();
+        return page;
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    // Helper methods
+    private void store(List<PaperSnapshot> snapshots) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setJdbcBatchSize(INSERT_BATCH_SIZE);
+            Transaction transaction = session.beginTransaction();
+            User author = new User("author", "author@example.com", "Paper", "Author");
+            stamp(author);
+            session.persist(author);
+            int stored = 0;
+            for (PaperSnapshot snapshot : snapshots) {
+                Paper paper = new Paper(snapshot.code(), snapshot.title(), snapshot.type(), author);
+                paper.setStatus(snapshot.status());
+                paper.setCategory(snapshot.category());
+                paper.setIsLatestVersion(snapshot.latestVersion());
+                paper.setPublishedAt(snapshot.publishedAt());
+                paper.getTags().addAll(snapshot.tags());
+                stamp(paper);
+                session.persist(paper);
+                if (++stored % INSERT_BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        }
+    }
+
+    private static void stamp(BaseEntity entity) {
+        // Auditing is a Spring listener and does not run here
+        entity.setCreatedAt(BenchmarkData.NOW);
+        entity.setUpdatedAt(BenchmarkData.NOW);
+    }
+}
@@ -0,0 +1,55 @@
+package com.usermanager.benchmarks;
+
+import com.usermanager.domain.entity.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity helper logic: {@link Role#hasPermission(String)} for a granted and a missing code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RoleBenchmark {
+
+    @Param({"10", "100"})
+    private int permissionsPerRole;
+
+    private Role role;
+    private String grantedCode;
+    private String missingCode;
+
+    @Setup
+    public void setUp() {
+        List<Role> roles = BenchmarkData.roles(1, BenchmarkData.permissions(500), permissionsPerRole, new Random(42));
+        role = roles.get(0);
+        grantedCode = role.getPermissions().iterator().next().getCode();
+        missingCode = "MISSING_PERMISSION";
+    }
+
+    @Benchmark
+    public boolean hasPermissionGranted() {
+        return role.hasPermission(grantedCode);
+    }
+
+    @Benchmark
+    public boolean hasPermissionMissing() {
+        return role.hasPermission(missingCode);
+    }
+}
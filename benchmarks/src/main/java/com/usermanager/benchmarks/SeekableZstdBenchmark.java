@@ -0,0 +1,126 @@
+package com.usermanager.benchmarks;
+
+import com.usermanager.storage.SeekableZstd;
+import com.usermanager.storage.SeekableZstdInputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compression level x frame size sweep of the seekable zstd format used for paper blobs
+ * ({@code app.storage.papers.compression.level} and {@code frame-size}).
+ *
+ * {@code compress} and {@code decompress} report the {@code uncompressed} and {@code compressed}
+ * byte rates as secondary results: the first is the throughput in bytes/s, and compressed divided
+ * by uncompressed is the ratio, which is also printed once per combination. {@code rangeRead}
+ * reads 64 KB at a random offset, the cost of a range request that larger frames make higher.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeekableZstdBenchmark {
+
+    private static final int SAMPLE_SIZE = 16 * 1024 * 1024;
+    private static final int RANGE_SIZE = 64 * 1024;
+
+    @Param({"1", "3", "6", "9", "15"})
+    private int level;
+
+    @Param({"262144", "1048576", "4194304"})
+    private int frameSize;
+
+    private Path directory;
+    private Path source;
+    private Path compressed;
+    private Path target;
+    private long compressedSize;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("zstd-benchmark");
+        source = directory.resolve("sample.txt");
+        Files.write(source, BenchmarkData.document(SAMPLE_SIZE, new Random(42)));
+        compressed = directory.resolve("sample.zst");
+        compressedSize = SeekableZstd.compress(source, compressed, level, frameSize);
+        target = directory.resolve("target.zst");
+        System.out.printf("%nlevel %d, frame size %d: ratio %.3f%n", level, frameSize,
+                (double) compressedSize / SAMPLE_SIZE);
+    }
+
+    @Benchmark
+    public long compress(ByteCounters bytes) throws IOException {
+        long written = SeekableZstd.compress(source, target, level, frameSize);
+        bytes.uncompressed += SAMPLE_SIZE;
+        bytes.compressed += written;
+        return written;
+    }
+
+    @Benchmark
+    public long decompress(ByteCounters bytes) throws IOException {
+        try (InputStream in = SeekableZstd.open(compressed)) {
+            long read = in.transferTo(OutputStream.nullOutputStream());
+            bytes.uncompressed += read;
+            bytes.compressed += compressedSize;
+            return read;
+        }
+    }
+
+    @Benchmark
+    public int rangeRead(RangeState range) throws IOException {
+        try (SeekableZstdInputStream in = SeekableZstd.open(compressed)) {
+            in.skipNBytes(range.random.nextInt(SAMPLE_SIZE - RANGE_SIZE));
+            return in.readNBytes(range.buffer, 0, RANGE_SIZE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(target);
+        Files.deleteIfExists(compressed);
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(directory);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ByteCounters {
+
+        public long uncompressed;
+        public long compressed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            uncompressed = 0;
+            compressed = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RangeState {
+
+        final Random random = new Random(7);
+        final byte[] buffer = new byte[RANGE_SIZE];
+    }
+}
@@ -0,0 +1,43 @@
+package com.usermanager.benchmarks.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes rows with batched prepared INSERTs. Used for databases without COPY, such as H2.
+ */
+final class BatchRowSink implements RowSink {
+
+    private final Connection connection;
+    private final int batchSize;
+
+    BatchRowSink(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void write(DatasetTable table, List<Object[]> rows) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(table.getColumns().size(), "?"));
+        String sql = "INSERT INTO " + table.getTableName() + " (" + table.columnList() + ") VALUES (" + placeholders + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int pending = 0;
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i] instanceof Enum<?> value ? value.name() : row[i]);
+                }
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+}
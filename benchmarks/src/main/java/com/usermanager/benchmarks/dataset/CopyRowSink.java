@@ -0,0 +1,58 @@
+package com.usermanager.benchmarks.dataset;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Streams rows into PostgreSQL with {@code COPY ... FROM STDIN} in CSV format.
+ */
+final class CopyRowSink implements RowSink {
+
+    private final CopyManager copyManager;
+
+    CopyRowSink(Connection connection) throws SQLException {
+        this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    @Override
+    public void write(DatasetTable table, List<Object[]> rows) throws SQLException {
+        StringBuilder csv = new StringBuilder(rows.size() * 32 * table.getColumns().size());
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                appendValue(csv, row[i]);
+            }
+            csv.append('\n');
+        }
+
+        String sql = "COPY " + table.getTableName() + " (" + table.columnList() + ") FROM STDIN WITH (FORMAT csv)";
+        try {
+            copyManager.copyIn(sql, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new SQLException("COPY into " + table.getTableName() + " failed", e);
+        }
+    }
+
+    // Helper methods
+    private static void appendValue(StringBuilder csv, Object value) {
+        if (value == null) {
+            return; // Unquoted empty field is NULL in CSV format
+        }
+        if (value instanceof String text) {
+            csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else if (value instanceof Enum<?> constant) {
+            csv.append(constant.name());
+        } else {
+            // UUID, numbers, booleans and ISO-8601 timestamps are valid COPY input as-is
+            csv.append(value);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.usermanager.benchmarks.dataset;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of {@link DatasetGenerator}, parsed from {@code --name=value} arguments. Entity counts
+ * are multiplied by {@code scale}, so {@code --scale=0.01} produces a 1% sample with the same shape.
+ */
+record DatasetConfig(
+    String url,
+    String username,
+    String password,
+    boolean createSchema,
+    long seed,
+    LocalDateTime baseTime,
+    int threads,
+    int chunkSize,
+    int users,
+    int roles,
+    int permissions,
+    int menuDepth,
+    int menuFanout,
+    int screens,
+    int papers,
+    int departments,
+    int tags
+) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+            "url", "username", "password", "create-schema", "seed", "base-time", "threads", "chunk-size", "scale",
+            "users", "roles", "permissions", "menu-depth", "menu-fanout", "screens", "papers", "departments", "tags");
+
+    static DatasetConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(separator > 0 ? arg.substring(2, separator) : arg.substring(2),
+                    separator > 0 ? arg.substring(separator + 1) : "true");
+        }
+
+        double scale = Double.parseDouble(options.getOrDefault("scale", "1"));
+        DatasetConfig config = new DatasetConfig(
+            options.getOrDefault("url", "jdbc:postgresql://localhost:5432/usermanager"),
+            options.getOrDefault("username", "usermanager"),
+            options.getOrDefault("password", "password"),
+            Boolean.parseBoolean(options.getOrDefault("create-schema", "false")),
+            Long.parseLong(options.getOrDefault("seed", "42")),
+            LocalDateTime.parse(options.getOrDefault("base-time", "2025-01-01T00:00")),
+            Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+            // Multiple of 8 so every paper version chain stays inside one chunk
+            Math.max(8, Integer.parseInt(options.getOrDefault("chunk-size", "10000")) / 8 * 8),
+            scaled(options, "users", 1_000_000, scale),
+            scaled(options, "roles", 5_000, scale),
+            scaled(options, "permissions", 20_000, scale),
+            Integer.parseInt(options.getOrDefault("menu-depth", "6")),
+            Integer.parseInt(options.getOrDefault("menu-fanout", "4")),
+            scaled(options, "screens", 2_000, scale),
+            scaled(options, "papers", 500_000, scale),
+            Integer.parseInt(options.getOrDefault("departments", "300")),
+            Integer.parseInt(options.getOrDefault("tags", "10000"))
+        );
+        options.keySet().removeAll(KNOWN_OPTIONS);
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        return config;
+    }
+
+    boolean isPostgres() {
+        return url.startsWith("jdbc:postgresql:");
+    }
+
+    private static int scaled(Map<String, String> options, String name, int defaultCount, double scale) {
+        int count = Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultCount)));
+        return Math.max(1, (int) Math.round(count * scale));
+    }
+}
@@ -0,0 +1,383 @@
+package com.usermanager.benchmarks.dataset;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.domain.enums.PermissionType;
+import com.usermanager.domain.enums.ProfileType;
+import com.usermanager.domain.enums.ScreenType;
+import com.usermanager.domain.enums.UserStatus;
+
+import java.lang.reflect.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fills the V1 tables with a large synthetic dataset for performance work.
+ *
+ * Rows are generated in fixed-size chunks that run in parallel, each on its own connection and
+ * transaction, and are written with COPY on PostgreSQL or batched INSERTs elsewhere (H2). Every
+ * chunk draws from its own random stream derived from the seed, so a given seed and chunk size
+ * always produce the same rows regardless of thread count. Distributions are skewed the way real
+ * data is: Zipfian department sizes, role popularity, paper authorship and tag usage, and
+ * heavy-tailed role membership, permission grants and paper counters.
+ */
+public final class DatasetGenerator {
+
+    private static final long HISTORY_SECONDS = TimeUnit.DAYS.toSeconds(5 * 365);
+    private static final int MAX_PROFILES_PER_USER = 8;
+
+    private static final String[] ACTIONS = {"READ", "CREATE", "UPDATE", "DELETE", "APPROVE"};
+    private static final String[] FIRST_NAMES = {"Ana", "Bruno", "Carla", "Daniel", "Elena", "Felipe", "Grace",
+            "Hugo", "Ines", "Jonas", "Karin", "Luis", "Marta", "Nuno", "Olga", "Pedro", "Rita", "Sofia", "Tomas", "Vera"};
+    private static final String[] LAST_NAMES = {"Almeida", "Barbosa", "Costa", "Dias", "Esteves", "Ferreira",
+            "Gomes", "Henriques", "Lopes", "Martins", "Nunes", "Oliveira", "Pereira", "Ramos", "Santos", "Teixeira"};
+    private static final String[] POSITIONS = {"Analyst", "Engineer", "Senior Engineer", "Manager", "Director",
+            "Specialist", "Coordinator", "Consultant", "Intern", "Administrator"};
+    private static final String[] MODULES = {"users", "roles", "papers", "reports", "admin", "profiles",
+            "dashboard", "settings"};
+    private static final String[] ATTRIBUTE_KEYS = {"location", "timezone", "language", "cost_center", "manager",
+            "team", "title", "level", "shift", "building", "floor", "badge"};
+    private static final String[] PREFERENCE_KEYS = {"theme", "locale", "page_size", "notifications",
+            "landing_page", "date_format", "density", "sidebar"};
+    private static final String[][] FILE_TYPES = {{"pdf", "application/pdf"}, {"docx",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document"}, {"txt", "text/plain"},
+            {"png", "image/png"}, {"json", "application/json"}};
+    private static final UserStatus[] USER_STATUSES = weighted(UserStatus.class,
+            Map.of(UserStatus.ACTIVE, 85, UserStatus.INACTIVE, 7, UserStatus.PENDING, 4,
+                    UserStatus.SUSPENDED, 2, UserStatus.LOCKED, 2));
+    private static final PaperStatus[] PAPER_STATUSES = weighted(PaperStatus.class,
+            Map.of(PaperStatus.PUBLISHED, 55, PaperStatus.DRAFT, 15, PaperStatus.PENDING_REVIEW, 6,
+                    PaperStatus.UNDER_REVIEW, 4, PaperStatus.APPROVED, 8, PaperStatus.REJECTED, 3,
+                    PaperStatus.ARCHIVED, 6, PaperStatus.EXPIRED, 3));
+
+    private final DatasetConfig config;
+    private final Zipf departments;
+    private final Zipf rolePopularity;
+    private final Zipf permissionPopularity;
+    private final Zipf authors;
+    private final Zipf tags;
+    private final Zipf categories;
+    private final Map<DatasetTable, LongAdder> written = new EnumMap<>(DatasetTable.class);
+
+    DatasetGenerator(DatasetConfig config) {
+        this.config = config;
+        this.departments = new Zipf(config.departments(), 1.1);
+        this.rolePopularity = new Zipf(config.roles(), 1.0);
+        this.permissionPopularity = new Zipf(config.permissions(), 0.9);
+        this.authors = new Zipf(config.users(), 1.2);
+        this.tags = new Zipf(config.tags(), 1.0);
+        this.categories = new Zipf(200, 1.1);
+        for (DatasetTable table : DatasetTable.values()) {
+            written.put(table, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetConfig config = DatasetConfig.parse(args);
+        if (config.createSchema()) {
+            SchemaSetup.create(config);
+        }
+        new DatasetGenerator(config).run();
+    }
+
+    void run() throws Exception {
+        long start = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads());
+        try {
+            phase(workers, "permissions", chunks(DatasetTable.PERMISSIONS, config.permissions(), this::permissions));
+
+            List<Callable<Void>> catalog = new ArrayList<>(chunks(DatasetTable.ROLES, config.roles(), this::roles));
+            catalog.addAll(chunks(DatasetTable.SCREENS, config.screens(), this::screens));
+            catalog.add(task(DatasetTable.MENUS, 0, 1, this::menus));
+            phase(workers, "roles, screens and menus", catalog);
+
+            phase(workers, "users and profiles", chunks(DatasetTable.USERS, config.users(), this::users));
+            phase(workers, "papers", chunks(DatasetTable.PAPERS, config.papers(), this::papers));
+        } finally {
+            workers.shutdownNow();
+        }
+
+        written.forEach((table, rows) -> System.out.printf("%-26s %,14d rows%n", table.getTableName(), rows.sum()));
+        System.out.printf("Dataset generated in %.1f s (seed %d)%n", (System.nanoTime() - start) / 1e9, config.seed());
+    }
+
+    // Generators
+    private void permissions(long from, long to, SplittableRandom random, Chunk chunk) {
+        PermissionType[] types = PermissionType.values();
+        for (long i = from; i < to; i++) {
+            long resource = i / ACTIONS.length;
+            String action = ACTIONS[(int) (i % ACTIONS.length)].toLowerCase();
+            LocalDateTime createdAt = pastTime(random);
+            chunk.add(DatasetTable.PERMISSIONS, id(DatasetTable.PERMISSIONS, i), permissionCode(i),
+                    "Permission " + i, "Allows " + action + " on resource " + resource,
+                    types[(int) (resource % types.length)], "resource_" + resource, action,
+                    i < 50, createdAt, updatedAfter(createdAt, random), 0L, true);
+        }
+    }
+
+    private void roles(long from, long to, SplittableRandom random, Chunk chunk) {
+        for (long i = from; i < to; i++) {
+            UUID roleId = id(DatasetTable.ROLES, i);
+            LocalDateTime createdAt = pastTime(random);
+            chunk.add(DatasetTable.ROLES, roleId, "Role " + i, "ROLE_" + i, "Generated role " + i,
+                    i < 10, createdAt, updatedAfter(createdAt, random), 0L, random.nextInt(50) > 0);
+
+            int grants = Zipf.paretoCount(random, 1.2, 5, Math.min(2_000, config.permissions()));
+            for (int permission : distinct(permissionPopularity, grants, random)) {
+                chunk.add(DatasetTable.ROLE_PERMISSIONS, roleId, id(DatasetTable.PERMISSIONS, permission));
+            }
+        }
+    }
+
+    private void menus(long from, long to, SplittableRandom random, Chunk chunk) {
+        List<Long> parents = Collections.singletonList(null);
+        long next = 0;
+        for (int level = 0; level < config.menuDepth(); level++) {
+            List<Long> created = new ArrayList<>();
+            for (Long parent : parents) {
+                for (int order = 0; order < config.menuFanout(); order++) {
+                    long i = next++;
+                    LocalDateTime createdAt = pastTime(random);
+                    chunk.add(DatasetTable.MENUS, id(DatasetTable.MENUS, i), "MENU_" + i, "Menu " + i,
+                            "Menu entry " + i + " at level " + level, "/menu/" + i, "icon-" + (i % 50), order,
+                            random.nextInt(20) > 0, parent != null ? id(DatasetTable.MENUS, parent) : null,
+                            random.nextInt(3) == 0 ? null : permissionCode(permissionPopularity.sample(random)),
+                            level, createdAt, updatedAfter(createdAt, random), 0L, true);
+                    created.add(i);
+                }
+            }
+            parents = created;
+        }
+    }
+
+    private void screens(long from, long to, SplittableRandom random, Chunk chunk) {
+        ScreenType[] types = ScreenType.values();
+        for (long i = from; i < to; i++) {
+            UUID screenId = id(DatasetTable.SCREENS, i);
+            String module = MODULES[random.nextInt(MODULES.length)];
+            boolean publicAccess = random.nextInt(20) == 0;
+            boolean cacheEnabled = random.nextInt(10) < 3;
+            LocalDateTime createdAt = pastTime(random);
+            chunk.add(DatasetTable.SCREENS, screenId, "SCREEN_" + i, "Screen " + i, "Generated screen " + i,
+                    types[random.nextInt(types.length)], module, "/" + module + "/" + i,
+                    "Screen" + i + "Component", publicAccess, !publicAccess, cacheEnabled,
+                    cacheEnabled ? random.nextInt(60, 3_600) : null,
+                    createdAt, updatedAfter(createdAt, random), 0L, true);
+
+            for (int permission : distinct(permissionPopularity, random.nextInt(1, 4), random)) {
+                chunk.add(DatasetTable.SCREEN_PERMISSIONS, screenId, permissionCode(permission));
+            }
+        }
+    }
+
+    private void users(long from, long to, SplittableRandom random, Chunk chunk) {
+        for (long i = from; i < to; i++) {
+            UUID userId = id(DatasetTable.USERS, i);
+            UserStatus status = USER_STATUSES[random.nextInt(USER_STATUSES.length)];
+            // Ids are handed out in creation order, like the real table
+            LocalDateTime createdAt = config.baseTime().minusSeconds((config.users() - i) * HISTORY_SECONDS / config.users());
+            long age = Math.max(1, Duration.between(createdAt, config.baseTime()).toSeconds());
+            String department = String.format("DEPT-%03d", departments.sample(random));
+            chunk.add(DatasetTable.USERS, userId, "user" + i, "user" + i + "@example.com",
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    random.nextInt(10) < 7 ? String.format("+1%010d", random.nextLong(10_000_000_000L)) : null,
+                    new UUID(random.nextLong(), random.nextLong()).toString(), status, random.nextInt(10) < 8,
+                    random.nextInt(100) < 85 ? config.baseTime().minusSeconds(random.nextLong(age)) : null,
+                    status == UserStatus.LOCKED ? 5 : random.nextInt(10) == 0 ? random.nextInt(1, 5) : 0,
+                    status == UserStatus.LOCKED ? config.baseTime().plusMinutes(random.nextInt(1, 24 * 60)) : null,
+                    random.nextInt(10) < 4 ? "https://cdn.example.com/avatars/" + i + ".png" : null,
+                    random.nextInt(10) < 3 ? "Works in " + department : null, department,
+                    POSITIONS[random.nextInt(POSITIONS.length)],
+                    createdAt, updatedAfter(createdAt, random), (long) random.nextInt(5), random.nextInt(100) >= 3);
+
+            int roles = Zipf.paretoCount(random, 2.0, 1, Math.min(50, config.roles()));
+            for (int role : distinct(rolePopularity, roles, random)) {
+                chunk.add(DatasetTable.USER_ROLES, userId, id(DatasetTable.ROLES, role));
+            }
+
+            int profiles = Zipf.paretoCount(random, 2.5, 1, MAX_PROFILES_PER_USER);
+            for (int k = 0; k < profiles; k++) {
+                profile(userId, i * MAX_PROFILES_PER_USER + k, k == 0, createdAt, random, chunk);
+            }
+        }
+    }
+
+    private void profile(UUID userId, long index, boolean isDefault, LocalDateTime userCreatedAt,
+                         SplittableRandom random, Chunk chunk) {
+        UUID profileId = id(DatasetTable.USER_PROFILES, index);
+        ProfileType[] types = ProfileType.values();
+        ProfileType type = isDefault ? ProfileType.PERSONAL : types[random.nextInt(types.length)];
+        chunk.add(DatasetTable.USER_PROFILES, profileId, userId, type.getDisplayName() + " profile", null, type,
+                isDefault, random.nextInt(5) == 0, random.nextBoolean() ? MODULES[random.nextInt(MODULES.length)] : null,
+                userCreatedAt, updatedAfter(userCreatedAt, random), 0L, true);
+
+        int start = random.nextInt(ATTRIBUTE_KEYS.length);
+        for (int j = random.nextInt(3, 11) - 1; j >= 0; j--) {
+            String key = ATTRIBUTE_KEYS[(start + j) % ATTRIBUTE_KEYS.length];
+            // Nested draw skews values towards small numbers, so a few values are very common
+            chunk.add(DatasetTable.USER_PROFILE_ATTRIBUTES, profileId, key, key + "-" + random.nextInt(1 + random.nextInt(200)));
+        }
+        start = random.nextInt(PREFERENCE_KEYS.length);
+        for (int j = random.nextInt(2, 7) - 1; j >= 0; j--) {
+            String key = PREFERENCE_KEYS[(start + j) % PREFERENCE_KEYS.length];
+            chunk.add(DatasetTable.USER_PROFILE_PREFERENCES, profileId, key, key + "-" + random.nextInt(1 + random.nextInt(10)));
+        }
+        for (int permission : distinct(permissionPopularity, random.nextInt(0, 4), random)) {
+            chunk.add(DatasetTable.USER_PROFILE_PERMISSIONS, profileId, permissionCode(permission));
+        }
+    }
+
+    private void papers(long from, long to, SplittableRandom random, Chunk chunk) {
+        PaperType[] types = PaperType.values();
+        boolean hasNextVersion = false;
+        for (long i = from; i < to; i++) {
+            // Some papers of every block of eight get a second version as the next paper
+            boolean isNextVersion = hasNextVersion;
+            hasNextVersion = i % 8 == 6 && i + 1 < to && random.nextBoolean();
+
+            UUID paperId = id(DatasetTable.PAPERS, i);
+            PaperStatus status = PAPER_STATUSES[random.nextInt(PAPER_STATUSES.length)];
+            String[] fileType = FILE_TYPES[random.nextInt(FILE_TYPES.length)];
+            LocalDateTime createdAt = pastTime(random);
+            LocalDateTime publishedAt = switch (status) {
+                case PUBLISHED, ARCHIVED, EXPIRED -> createdAt.plusHours(random.nextInt(1, 24 * 30));
+                default -> null;
+            };
+            LocalDateTime expiresAt = switch (status) {
+                case PUBLISHED -> random.nextInt(5) == 0 ? config.baseTime().plusDays(random.nextInt(1, 365)) : null;
+                case EXPIRED -> config.baseTime().minusDays(random.nextInt(1, 365));
+                default -> null;
+            };
+            boolean approved = publishedAt != null || status == PaperStatus.APPROVED;
+            chunk.add(DatasetTable.PAPERS, paperId, "PAPER-" + i, "Paper " + i, "Generated paper " + i,
+                    types[random.nextInt(types.length)], status, String.format("category-%03d", categories.sample(random)),
+                    "paper-" + i + "." + fileType[0], (long) Zipf.paretoCount(random, 1.1, 10_000, 200_000_000), fileType[1],
+                    isNextVersion ? 2 : 1, !hasNextVersion, isNextVersion ? id(DatasetTable.PAPERS, i - 1) : null,
+                    publishedAt, expiresAt, id(DatasetTable.USERS, authors.sample(random)),
+                    approved ? id(DatasetTable.USERS, random.nextInt(config.users())) : null,
+                    (long) Zipf.paretoCount(random, 1.2, 1, 1_000_000) - 1,
+                    (long) Zipf.paretoCount(random, 1.1, 1, 10_000_000) - 1,
+                    createdAt, updatedAfter(createdAt, random), 0L, random.nextInt(50) > 0);
+
+            for (int tag : distinct(tags, Zipf.paretoCount(random, 2.0, 1, 12), random)) {
+                chunk.add(DatasetTable.PAPER_TAGS, paperId, "tag-" + tag);
+            }
+            if (random.nextInt(10) >= 6) {
+                for (int permission : distinct(permissionPopularity, random.nextInt(1, 4), random)) {
+                    chunk.add(DatasetTable.PAPER_PERMISSIONS, paperId, permissionCode(permission));
+                }
+            }
+        }
+    }
+
+    // Helper methods
+    private void phase(ExecutorService workers, String name, List<Callable<Void>> tasks) throws Exception {
+        long start = System.nanoTime();
+        List<Future<Void>> futures = tasks.stream().map(workers::submit).toList();
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        System.out.printf("%-26s %,6d chunks in %8.1f s%n", name, tasks.size(), (System.nanoTime() - start) / 1e9);
+    }
+
+    private List<Callable<Void>> chunks(DatasetTable owner, int count, ChunkGenerator generator) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (long from = 0; from < count; from += config.chunkSize()) {
+            tasks.add(task(owner, from, Math.min(count, from + config.chunkSize()), generator));
+        }
+        return tasks;
+    }
+
+    private Callable<Void> task(DatasetTable owner, long from, long to, ChunkGenerator generator) {
+        return () -> {
+            Chunk chunk = new Chunk();
+            generator.generate(from, to, new SplittableRandom(mix(mix(config.seed() + owner.ordinal()) + from)), chunk);
+            try (Connection connection = DriverManager.getConnection(config.url(), config.username(), config.password())) {
+                connection.setAutoCommit(false);
+                RowSink sink = config.isPostgres() ? new CopyRowSink(connection) : new BatchRowSink(connection, 1_000);
+                for (Map.Entry<DatasetTable, List<Object[]>> rows : chunk.rows.entrySet()) {
+                    sink.write(rows.getKey(), rows.getValue());
+                }
+                connection.commit();
+            }
+            chunk.rows.forEach((table, rows) -> written.get(table).add(rows.size()));
+            return null;
+        };
+    }
+
+    private LocalDateTime pastTime(SplittableRandom random) {
+        return config.baseTime().minusSeconds(random.nextLong(HISTORY_SECONDS));
+    }
+
+    private LocalDateTime updatedAfter(LocalDateTime createdAt, SplittableRandom random) {
+        LocalDateTime updatedAt = createdAt.plusSeconds(random.nextLong(TimeUnit.DAYS.toSeconds(400)));
+        return updatedAt.isAfter(config.baseTime()) ? config.baseTime() : updatedAt;
+    }
+
+    private static String permissionCode(long index) {
+        return "RESOURCE_" + index / ACTIONS.length + "_" + ACTIONS[(int) (index % ACTIONS.length)];
+    }
+
+    /**
+     * Deterministic version-4-shaped id, unique per table and row index.
+     */
+    private static UUID id(DatasetTable table, long index) {
+        return new UUID(0x5EED_0000_0000_4000L | ((long) table.ordinal() << 16), 0x8000_0000_0000_0000L | index);
+    }
+
+    private static Set<Integer> distinct(Zipf zipf, int count, SplittableRandom random) {
+        int target = Math.min(count, zipf.size());
+        Set<Integer> picked = new LinkedHashSet<>();
+        // Rare ranks are hard to hit, so give up after a bounded number of draws
+        for (int attempts = 0; picked.size() < target && attempts < target * 4; attempts++) {
+            picked.add(zipf.sample(random));
+        }
+        return picked;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> E[] weighted(Class<E> type, Map<E, Integer> weights) {
+        List<E> values = new ArrayList<>();
+        for (E constant : type.getEnumConstants()) {
+            values.addAll(Collections.nCopies(weights.getOrDefault(constant, 0), constant));
+        }
+        return values.toArray(size -> (E[]) Array.newInstance(type, size));
+    }
+
+    @FunctionalInterface
+    private interface ChunkGenerator {
+        void generate(long from, long to, SplittableRandom random, Chunk chunk);
+    }
+
+    private static final class Chunk {
+
+        private final Map<DatasetTable, List<Object[]>> rows = new EnumMap<>(DatasetTable.class);
+
+        void add(DatasetTable table, Object... values) {
+            rows.computeIfAbsent(table, t -> new ArrayList<>()).add(values);
+        }
+    }
+}
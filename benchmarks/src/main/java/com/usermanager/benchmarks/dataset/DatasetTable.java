@@ -0,0 +1,58 @@
+package com.usermanager.benchmarks.dataset;
+
+import java.util.List;
+
+/**
+ * Tables filled by {@link DatasetGenerator}, in foreign key order: a chunk writes its tables
+ * in declaration order so parents always exist before their children.
+ */
+enum DatasetTable {
+
+    PERMISSIONS("permissions", "id", "code", "name", "description", "type", "resource", "action",
+            "system_permission", "created_at", "updated_at", "version", "active"),
+    ROLES("roles", "id", "name", "code", "description", "system_role",
+            "created_at", "updated_at", "version", "active"),
+    ROLE_PERMISSIONS("role_permissions", "role_id", "permission_id"),
+    MENUS("menus", "id", "code", "name", "description", "url", "icon", "display_order", "visible",
+            "parent_id", "required_permission", "menu_level", "created_at", "updated_at", "version", "active"),
+    SCREENS("screens", "id", "code", "name", "description", "type", "module", "route", "component",
+            "public_access", "auth_required", "cache_enabled", "cache_duration",
+            "created_at", "updated_at", "version", "active"),
+    SCREEN_PERMISSIONS("screen_permissions", "screen_id", "permission_code"),
+    USERS("users", "id", "username", "email", "first_name", "last_name", "phone_number", "keycloak_id",
+            "status", "email_verified", "last_login_at", "login_attempts", "locked_until",
+            "profile_picture_url", "bio", "department", "position",
+            "created_at", "updated_at", "version", "active"),
+    USER_ROLES("user_roles", "user_id", "role_id"),
+    USER_PROFILES("user_profiles", "id", "user_id", "name", "description", "type", "is_default",
+            "is_public", "context", "created_at", "updated_at", "version", "active"),
+    USER_PROFILE_ATTRIBUTES("user_profile_attributes", "profile_id", "attribute_key", "attribute_value"),
+    USER_PROFILE_PREFERENCES("user_profile_preferences", "profile_id", "preference_key", "preference_value"),
+    USER_PROFILE_PERMISSIONS("user_profile_permissions", "profile_id", "permission_code"),
+    PAPERS("papers", "id", "code", "title", "description", "type", "status", "category",
+            "file_name", "file_size", "mime_type", "version_number", "is_latest_version", "parent_paper_id",
+            "published_at", "expires_at", "created_by", "approved_by", "download_count", "view_count",
+            "created_at", "updated_at", "version", "active"),
+    PAPER_TAGS("paper_tags", "paper_id", "tag"),
+    PAPER_PERMISSIONS("paper_permissions", "paper_id", "permission_code");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    DatasetTable(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public String columnList() {
+        return String.join(", ", columns);
+    }
+}
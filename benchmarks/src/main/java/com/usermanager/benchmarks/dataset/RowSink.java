@@ -0,0 +1,12 @@
+package com.usermanager.benchmarks.dataset;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes generated rows to one table. Values are in {@link DatasetTable#getColumns()} order.
+ */
+interface RowSink {
+
+    void write(DatasetTable table, List<Object[]> rows) throws SQLException;
+}
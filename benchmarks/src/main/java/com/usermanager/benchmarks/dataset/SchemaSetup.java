@@ -0,0 +1,82 @@
+package com.usermanager.benchmarks.dataset;
+
+import com.usermanager.domain.entity.ActiveUserSketch;
+import com.usermanager.domain.entity.MaintenanceJob;
+import com.usermanager.domain.entity.MaintenanceJobItem;
+import com.usermanager.domain.entity.Menu;
+import com.usermanager.domain.entity.Paper;
+import com.usermanager.domain.entity.PaperBlob;
+import com.usermanager.domain.entity.Permission;
+import com.usermanager.domain.entity.Role;
+import com.usermanager.domain.entity.Screen;
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.entity.UserActivityRollup;
+import com.usermanager.domain.entity.UserProfile;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Creates the schema before generation: the application's Flyway migrations on PostgreSQL, and
+ * the DDL Hibernate derives from the entities (as the H2 test profile does) everywhere else.
+ */
+public final class SchemaSetup {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            User.class, Role.class, Permission.class, Menu.class, Screen.class, Paper.class, PaperBlob.class,
+            UserProfile.class, UserActivityRollup.class, ActiveUserSketch.class,
+            MaintenanceJob.class, MaintenanceJobItem.class);
+
+    private SchemaSetup() {
+    }
+
+    static void create(DatasetConfig config) throws SQLException {
+        if (config.isPostgres()) {
+            Flyway.configure()
+                    .dataSource(config.url(), config.username(), config.password())
+                    .locations("classpath:db/migration")
+                    .baselineOnMigrate(true)
+                    .load()
+                    .migrate();
+            return;
+        }
+
+        // Schema generation runs while the session factory starts; nothing is dropped on close
+        openEntitySchema(config.url(), config.username(), config.password()).close();
+    }
+
+    /**
+     * Creates the DDL Hibernate derives from the entities in an empty H2 database and returns the
+     * session factory over it, which the caller closes.
+     */
+    public static SessionFactory openEntitySchema(String url, String username, String password) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            // Profile documents are mapped as jsonb, which H2 only knows as JSON
+            statement.execute("CREATE DOMAIN IF NOT EXISTS JSONB AS JSON");
+        }
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, username)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+                .applySetting(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "create")
+                .build();
+        try {
+            MetadataSources sources = new MetadataSources(registry);
+            ENTITIES.forEach(sources::addAnnotatedClass);
+            return sources.buildMetadata().buildSessionFactory();
+        } catch (RuntimeException e) {
+            StandardServiceRegistryBuilder.destroy(registry);
+            throw e;
+        }
+    }
+}
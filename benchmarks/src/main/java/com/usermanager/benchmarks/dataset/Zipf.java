@@ -0,0 +1,46 @@
+package com.usermanager.benchmarks.dataset;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^exponent},
+ * so a few ranks (large departments, popular roles, common tags) receive most of the draws.
+ */
+final class Zipf {
+
+    private final double[] cumulative;
+
+    Zipf(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Zipf distribution needs at least one rank");
+        }
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+
+    /**
+     * Draws a heavy-tailed count from a Pareto distribution with the given shape, clamped to
+     * {@code [min, max]}. Most draws are close to {@code min}; a few are much larger.
+     */
+    static int paretoCount(SplittableRandom random, double shape, int min, int max) {
+        double value = min / Math.pow(1 - random.nextDouble(), 1 / shape);
+        return (int) Math.min(max, Math.floor(value));
+    }
+}
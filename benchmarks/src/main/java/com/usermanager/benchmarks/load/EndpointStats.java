@@ -0,0 +1,96 @@
+package com.usermanager.benchmarks.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms of one scenario.
+ *
+ * Requests are sent on a fixed schedule, and {@code latency} is measured from the time a request
+ * was scheduled to go out rather than from when it was actually sent. A stalled server therefore
+ * shows up in the percentiles with the full delay every queued request experienced, instead of
+ * being hidden by the load generator sending less (coordinated omission). {@code serviceTime} is
+ * measured from the actual send and is kept for comparison.
+ */
+final class EndpointStats {
+
+    private final Scenario scenario;
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final Histogram serviceTime = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    EndpointStats(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    void record(long scheduledAt, long sentAt, long completedAt, int status) {
+        latency.recordValue(completedAt - scheduledAt);
+        serviceTime.recordValue(completedAt - sentAt);
+        if (status >= 400) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(String.valueOf(status), key -> new LongAdder()).increment();
+    }
+
+    void recordFailure(long scheduledAt, long sentAt, long completedAt, Throwable failure) {
+        latency.recordValue(completedAt - scheduledAt);
+        serviceTime.recordValue(completedAt - sentAt);
+        errors.increment();
+        outcomes.computeIfAbsent(failure.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    EndpointReport report(double targetRate, double seconds) {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        long requests = latency.getTotalCount();
+        return new EndpointReport(scenario.getName(), scenario.getEndpoint(), targetRate, requests,
+                requests / seconds, errors.sum(), counts, Percentiles.of(latency), Percentiles.of(serviceTime));
+    }
+
+    /**
+     * Writes the corrected latency distribution in HdrHistogram's percentile format, in milliseconds.
+     */
+    void writeDistribution(PrintStream out) {
+        latency.outputPercentileDistribution(out, 1_000_000.0);
+    }
+
+    record EndpointReport(
+        String scenario,
+        String endpoint,
+        double targetRate,
+        long requests,
+        double achievedRate,
+        long errors,
+        Map<String, Long> outcomes,
+        Percentiles latency,
+        Percentiles serviceTime
+    ) {
+    }
+
+    /**
+     * Percentiles in milliseconds.
+     */
+    record Percentiles(double p50, double p90, double p99, double p999, double max, double mean) {
+
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    histogram.getMean() / 1_000_000.0);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.usermanager.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.usermanager.UserManagerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test without Keycloak. Starts the application in-process against a generated
+ * dataset, with {@link LocalTokenIssuer} in place of the realm's JWK endpoint, and drives the
+ * {@link Scenario} mix at fixed arrival rates. Each request runs on its own virtual thread, so
+ * the arrival schedule never waits for responses; latencies are measured from the scheduled send
+ * time and reported per scenario from HdrHistograms.
+ */
+public final class LoadTest {
+
+    private final LoadTestOptions options;
+    private final LocalTokenIssuer issuer;
+    private final ConfigurableApplicationContext application;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+    private final Path runDirectory;
+
+    LoadTest(LoadTestOptions options, LocalTokenIssuer issuer, ConfigurableApplicationContext application) {
+        this.options = options;
+        this.issuer = issuer;
+        this.application = application;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.runDirectory = options.output().resolve(options.label());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (LocalTokenIssuer issuer = LocalTokenIssuer.start();
+             ConfigurableApplicationContext application = startApplication(options, issuer)) {
+            new LoadTest(options, issuer, application).run();
+        }
+    }
+
+    void run() throws Exception {
+        Files.createDirectories(runDirectory);
+        Workload workload = prepareWorkload();
+        System.out.printf("Driving %.1f req/s for %d s after %d s warmup, as %d users%n", options.rate(),
+                options.duration().toSeconds(), options.warmup().toSeconds(), workload.size());
+
+        Map<Scenario, EndpointStats> stats = new EnumMap<>(Scenario.class);
+        List<Thread> schedulers = new ArrayList<>();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        for (Scenario scenario : options.mix().keySet()) {
+            double rate = options.rateOf(scenario);
+            if (rate <= 0) {
+                continue;
+            }
+            EndpointStats endpointStats = new EndpointStats(scenario);
+            stats.put(scenario, endpointStats);
+            SplittableRandom random = new SplittableRandom(options.seed() + scenario.ordinal());
+            schedulers.add(Thread.ofPlatform().name("arrivals-" + scenario.getName()).start(() ->
+                    schedule(workload, scenario, rate, random, start, measureFrom, end, endpointStats)));
+        }
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+        requests.shutdown();
+        if (!requests.awaitTermination(options.requestTimeout().toSeconds() + 10, TimeUnit.SECONDS)) {
+            System.out.println("Requests still running after the timeout were not recorded");
+        }
+
+        report(stats);
+    }
+
+    // Helper methods
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, LocalTokenIssuer issuer) {
+        // Command-line arguments, so they win over the environment defaults in application.yml
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + options.url(),
+                "--spring.datasource.username=" + options.username(),
+                "--spring.datasource.password=" + options.password(),
+                "--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + issuer.getIssuerUri(),
+                "--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + issuer.getJwkSetUri()));
+        if (!options.profiles().isBlank()) {
+            arguments.add("--spring.profiles.active=" + options.profiles());
+        }
+        return new SpringApplicationBuilder(UserManagerApplication.class).run(arguments.toArray(String[]::new));
+    }
+
+    private Workload prepareWorkload() throws Exception {
+        JdbcTemplate jdbc = new JdbcTemplate(application.getBean(DataSource.class));
+        // Hash order spreads the sample over the whole table but stays the same between runs
+        List<Workload.Identity> identities = jdbc.query(
+                "SELECT id, username, email, keycloak_id, last_name FROM users " +
+                "WHERE active = TRUE AND status = 'ACTIVE' AND keycloak_id IS NOT NULL " +
+                "ORDER BY md5(id::text) LIMIT ?",
+                (row, index) -> new Workload.Identity(row.getObject(1, UUID.class), row.getString(2), row.getString(3),
+                        row.getString(4), row.getString(5), null),
+                options.users());
+        List<UUID> roleIds = jdbc.queryForList(
+                "SELECT id FROM roles WHERE active = TRUE ORDER BY md5(id::text) LIMIT 200", UUID.class);
+        if (identities.isEmpty() || roleIds.isEmpty()) {
+            throw new IllegalStateException("The database has no active users or roles; generate a dataset first");
+        }
+
+        Duration validity = options.warmup().plus(options.duration()).plus(options.requestTimeout()).plusMinutes(10);
+        Map<Scenario, List<String>> tokens = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            tokens.put(scenario, identities.stream()
+                    .map(identity -> issuer.mint(identity.keycloakId(), identity.username(), identity.email(),
+                            scenario.getRoles(), validity))
+                    .toList());
+        }
+
+        // The update scenario sends each user's own profile back, so read them once up front
+        Environment environment = application.getEnvironment();
+        URI baseUri = URI.create("http://127.0.0.1:" + environment.getProperty("local.server.port")
+                + environment.getProperty("server.servlet.context-path", ""));
+        List<Future<ObjectNode>> profiles = new ArrayList<>();
+        for (int i = 0; i < identities.size(); i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + "/users/me"))
+                    .header("Authorization", "Bearer " + tokens.get(Scenario.ME).get(i))
+                    .GET()
+                    .build();
+            profiles.add(requests.submit(() -> {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                return response.statusCode() == 200 ? (ObjectNode) objectMapper.readTree(response.body()) : null;
+            }));
+        }
+        List<Workload.Identity> withProfiles = new ArrayList<>();
+        Map<Scenario, List<String>> usableTokens = new EnumMap<>(Scenario.class);
+        tokens.keySet().forEach(scenario -> usableTokens.put(scenario, new ArrayList<>()));
+        for (int i = 0; i < identities.size(); i++) {
+            ObjectNode profile = profiles.get(i).get();
+            if (profile != null) {
+                withProfiles.add(identities.get(i).withProfile(profile));
+                for (Scenario scenario : Scenario.values()) {
+                    usableTokens.get(scenario).add(tokens.get(scenario).get(i));
+                }
+            }
+        }
+        if (withProfiles.isEmpty()) {
+            throw new IllegalStateException("GET /users/me failed for every sampled user; check the token setup");
+        }
+        return new Workload(objectMapper, baseUri, options.requestTimeout(), withProfiles, roleIds, usableTokens);
+    }
+
+    private void schedule(Workload workload, Scenario scenario, double rate, SplittableRandom random,
+                          long start, long measureFrom, long end, EndpointStats stats) {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        for (long sequence = 0; ; sequence++) {
+            long scheduledAt = start + (long) (sequence * intervalNanos);
+            if (scheduledAt >= end) {
+                return;
+            }
+            while (System.nanoTime() < scheduledAt) {
+                LockSupport.parkNanos(scheduledAt - System.nanoTime());
+            }
+            HttpRequest request = workload.request(scenario, random);
+            EndpointStats target = scheduledAt >= measureFrom ? stats : null;
+            requests.execute(() -> send(request, scheduledAt, target));
+        }
+    }
+
+    private void send(HttpRequest request, long scheduledAt, EndpointStats stats) {
+        long sentAt = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (stats != null) {
+                stats.record(scheduledAt, sentAt, System.nanoTime(), response.statusCode());
+            }
+        } catch (IOException e) {
+            if (stats != null) {
+                stats.recordFailure(scheduledAt, sentAt, System.nanoTime(), e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void report(Map<Scenario, EndpointStats> stats) throws IOException {
+        double seconds = options.duration().toNanos() / 1e9;
+        List<EndpointStats.EndpointReport> endpoints = new ArrayList<>();
+        System.out.printf("%n%-12s %-38s %9s %9s %7s %9s %9s %9s %9s %9s %12s%n", "scenario", "endpoint", "target/s",
+                "actual/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "p99 svc ms");
+        for (Map.Entry<Scenario, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats.EndpointReport endpoint = entry.getValue().report(options.rateOf(entry.getKey()), seconds);
+            endpoints.add(endpoint);
+            System.out.printf("%-12s %-38s %9.1f %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f %12.2f%n",
+                    endpoint.scenario(), endpoint.endpoint(), endpoint.targetRate(), endpoint.achievedRate(),
+                    endpoint.errors(), endpoint.latency().p50(), endpoint.latency().p90(), endpoint.latency().p99(),
+                    endpoint.latency().p999(), endpoint.latency().max(), endpoint.serviceTime().p99());
+
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(runDirectory.resolve(endpoint.scenario() + ".hgrm")))) {
+                entry.getValue().writeDistribution(out);
+            }
+        }
+
+        LoadTestReport report = new LoadTestReport(options.label(), OffsetDateTime.now().toString(),
+                options.profiles(), options.rate(), options.warmup().toSeconds(),
+                options.duration().toSeconds(), endpoints);
+        Path reportFile = runDirectory.resolve("report.json");
+        objectMapper.writeValue(reportFile.toFile(), report);
+        System.out.printf("%nReport and latency distributions written to %s%n", runDirectory);
+    }
+
+    record LoadTestReport(
+        String label,
+        String generatedAt,
+        String profiles,
+        double rate,
+        long warmupSeconds,
+        long durationSeconds,
+        List<EndpointStats.EndpointReport> endpoints
+    ) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.usermanager.benchmarks.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of {@link LoadTest}, parsed from {@code --name=value} arguments. {@code --rate} is the
+ * total arrival rate in requests per second, split across scenarios by the {@code --mix} weights,
+ * e.g. {@code --mix=me:40,search:20,list:20,update:10,assign-role:10}.
+ */
+record LoadTestOptions(
+    String url,
+    String username,
+    String password,
+    String profiles,
+    double rate,
+    Map<Scenario, Integer> mix,
+    Duration warmup,
+    Duration duration,
+    Duration requestTimeout,
+    int users,
+    long seed,
+    Path output,
+    String label
+) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+            "url", "username", "password", "profiles", "rate", "mix", "warmup-seconds", "duration-seconds",
+            "timeout-seconds", "users", "seed", "output", "label");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(separator > 0 ? arg.substring(2, separator) : arg.substring(2),
+                    separator > 0 ? arg.substring(separator + 1) : "true");
+        }
+
+        LoadTestOptions loadTestOptions = new LoadTestOptions(
+            options.getOrDefault("url", "jdbc:postgresql://localhost:5432/usermanager"),
+            options.getOrDefault("username", "usermanager"),
+            options.getOrDefault("password", "password"),
+            options.getOrDefault("profiles", ""),
+            Double.parseDouble(options.getOrDefault("rate", "200")),
+            mix(options.getOrDefault("mix", "me:40,search:20,list:20,update:10,assign-role:10")),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "30"))),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "120"))),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout-seconds", "30"))),
+            Integer.parseInt(options.getOrDefault("users", "1000")),
+            Long.parseLong(options.getOrDefault("seed", "42")),
+            Path.of(options.getOrDefault("output", "target/load-tests")),
+            options.getOrDefault("label", "run-" + System.currentTimeMillis())
+        );
+        options.keySet().removeAll(KNOWN_OPTIONS);
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        return loadTestOptions;
+    }
+
+    /**
+     * Arrival rate of one scenario in requests per second.
+     */
+    double rateOf(Scenario scenario) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        return rate * mix.getOrDefault(scenario, 0) / total;
+    }
+
+    private static Map<Scenario, Integer> mix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must be scenario:weight, got " + entry);
+            }
+            mix.put(Scenario.fromName(parts[0]), Integer.parseInt(parts[1]));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Mix weights must add up to more than zero");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,113 @@
+package com.usermanager.benchmarks.load;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stands in for the Keycloak realm during load tests: serves a JWK set on a local port and signs
+ * access tokens shaped like Keycloak's, with the roles in {@code realm_access.roles}.
+ */
+final class LocalTokenIssuer implements AutoCloseable {
+
+    static final String REALM = "usermanager";
+
+    // Roles every Keycloak user carries next to the application roles
+    private static final List<String> DEFAULT_REALM_ROLES =
+            List.of("default-roles-" + REALM, "offline_access", "uma_authorization");
+
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+    private final HttpServer server;
+    private final String issuerUri;
+
+    private LocalTokenIssuer(RSAKey signingKey, HttpServer server) throws JOSEException {
+        this.signingKey = signingKey;
+        this.signer = new RSASSASigner(signingKey);
+        this.server = server;
+        this.issuerUri = "http://127.0.0.1:" + server.getAddress().getPort() + "/realms/" + REALM;
+    }
+
+    static LocalTokenIssuer start() throws IOException, JOSEException {
+        RSAKey signingKey = new RSAKeyGenerator(2048).keyID("load-test-" + UUID.randomUUID()).generate();
+        byte[] jwkSet = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/realms/" + REALM + "/protocol/openid-connect/certs", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwkSet.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwkSet);
+            }
+        });
+        server.start();
+        return new LocalTokenIssuer(signingKey, server);
+    }
+
+    String getIssuerUri() {
+        return issuerUri;
+    }
+
+    String getJwkSetUri() {
+        return issuerUri + "/protocol/openid-connect/certs";
+    }
+
+    /**
+     * Signs an access token for a user with the given application roles, lower case as they are
+     * defined in the realm.
+     */
+    String mint(String keycloakId, String username, String email, List<String> roles, Duration validity) {
+        Instant now = Instant.now();
+        List<String> realmRoles = new ArrayList<>(DEFAULT_REALM_ROLES);
+        realmRoles.addAll(roles);
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuerUri)
+                .subject(keycloakId)
+                .audience("account")
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(validity)))
+                .claim("typ", "Bearer")
+                .claim("azp", "user-manager-client")
+                .claim("scope", "openid profile email")
+                .claim("preferred_username", username)
+                .claim("email", email)
+                .claim("email_verified", true)
+                .claim("realm_access", Map.of("roles", realmRoles))
+                .build();
+        SignedJWT token = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        try {
+            token.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Cannot sign load test token", e);
+        }
+        return token.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,45 @@
+package com.usermanager.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Request types of the mixed workload, with the realm roles their tokens carry.
+ */
+enum Scenario {
+    ME("me", "GET /users/me", List.of("user")),
+    SEARCH("search", "GET /users/search", List.of("user", "user_viewer")),
+    LIST("list", "GET /users", List.of("user", "user_viewer")),
+    UPDATE("update", "PUT /users/me", List.of("user")),
+    ASSIGN_ROLE("assign-role", "POST /users/{userId}/roles/{roleId}", List.of("user", "role_manager"));
+
+    private final String name;
+    private final String endpoint;
+    private final List<String> roles;
+
+    Scenario(String name, String endpoint, List<String> roles) {
+        this.name = name;
+        this.endpoint = endpoint;
+        this.roles = roles;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    static Scenario fromName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario " + name
+                        + ", expected one of " + Arrays.stream(values()).map(Scenario::getName).toList()));
+    }
+}
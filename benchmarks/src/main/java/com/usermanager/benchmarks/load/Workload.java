@@ -0,0 +1,112 @@
+package com.usermanager.benchmarks.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Builds the requests of each {@link Scenario} for a sampled set of dataset users. Every request
+ * is sent as one of those users with a token minted for the scenario's roles.
+ */
+final class Workload {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final List<Identity> identities;
+    private final List<UUID> roleIds;
+    private final Map<Scenario, List<String>> tokens;
+
+    Workload(ObjectMapper objectMapper, URI baseUri, Duration requestTimeout, List<Identity> identities,
+             List<UUID> roleIds, Map<Scenario, List<String>> tokens) {
+        this.objectMapper = objectMapper;
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.identities = identities;
+        this.roleIds = roleIds;
+        this.tokens = new EnumMap<>(tokens);
+    }
+
+    int size() {
+        return identities.size();
+    }
+
+    HttpRequest request(Scenario scenario, SplittableRandom random) {
+        int user = random.nextInt(identities.size());
+        Identity identity = identities.get(user);
+        HttpRequest.Builder request = switch (scenario) {
+            case ME -> get("/users/me");
+            case SEARCH -> get("/users/search?q=" + URLEncoder.encode(searchTerm(identity, random), StandardCharsets.UTF_8)
+                    + "&size=" + PAGE_SIZE);
+            // Mostly the first pages, occasionally deep ones
+            case LIST -> get("/users?size=" + PAGE_SIZE + "&page="
+                    + (random.nextInt(10) < 8 ? random.nextInt(5) : random.nextInt(500)));
+            case UPDATE -> put("/users/me", updatedProfile(identity, random));
+            case ASSIGN_ROLE -> post("/users/" + identities.get(random.nextInt(identities.size())).id()
+                    + "/roles/" + roleIds.get(random.nextInt(roleIds.size())));
+        };
+        return request.header("Authorization", "Bearer " + tokens.get(scenario).get(user)).build();
+    }
+
+    // Helper methods
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(baseUri.getPath() + path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET();
+    }
+
+    private HttpRequest.Builder put(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(baseUri.getPath() + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private HttpRequest.Builder post(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(baseUri.getPath() + path))
+                .timeout(requestTimeout)
+                .POST(HttpRequest.BodyPublishers.noBody());
+    }
+
+    private static String searchTerm(Identity identity, SplittableRandom random) {
+        // Last names match many users, username prefixes few
+        return random.nextBoolean()
+                ? identity.lastName()
+                : identity.username().substring(0, Math.min(identity.username().length(), 3 + random.nextInt(4)));
+    }
+
+    private String updatedProfile(Identity identity, SplittableRandom random) {
+        ObjectNode profile = identity.profile().deepCopy();
+        profile.put("bio", "Load test update " + random.nextInt(1_000_000));
+        try {
+            return objectMapper.writeValueAsString(profile);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A dataset user. {@code profile} is the user's own {@code GET /users/me} response, sent back
+     * with a changed bio by the update scenario since the endpoint replaces every field.
+     */
+    record Identity(UUID id, String username, String email, String keycloakId, String lastName, ObjectNode profile) {
+
+        Identity withProfile(ObjectNode profile) {
+            return new Identity(id, username, email, keycloakId, lastName, profile);
+        }
+    }
+}
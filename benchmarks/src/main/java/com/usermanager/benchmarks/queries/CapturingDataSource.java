@@ -0,0 +1,110 @@
+package com.usermanager.benchmarks.queries;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data source that records, per thread, every statement Hibernate prepares together with its
+ * parameter bindings, so the exact SQL of a repository call can be replayed under EXPLAIN.
+ *
+ * Result sets are capped at {@code maxRows} so unbounded list queries don't materialize millions
+ * of entities; the EXPLAIN run still executes them in full.
+ */
+final class CapturingDataSource extends DelegatingDataSource {
+
+    private final ThreadLocal<List<CapturedStatement>> captured = ThreadLocal.withInitial(ArrayList::new);
+    private final int maxRows;
+
+    CapturingDataSource(DataSource target, int maxRows) {
+        super(target);
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return capturing(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return capturing(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Returns the statements prepared on this thread since the last call and forgets them.
+     */
+    List<CapturedStatement> drain() {
+        List<CapturedStatement> statements = List.copyOf(captured.get());
+        captured.get().clear();
+        return statements;
+    }
+
+    // Helper methods
+    private Connection capturing(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && args[0] instanceof String sql) {
+                PreparedStatement statement = (PreparedStatement) result;
+                if (maxRows > 0) {
+                    statement.setMaxRows(maxRows);
+                }
+                CapturedStatement capture = new CapturedStatement(sql, new ArrayList<>());
+                captured.get().add(capture);
+                return proxy(PreparedStatement.class, statement, (statementProxy, statementMethod, statementArgs) -> {
+                    if (statementMethod.getName().startsWith("set") && statementArgs != null
+                            && statementArgs.length >= 2 && statementArgs[0] instanceof Integer) {
+                        capture.bindings().add(new Binding(statementMethod, statementArgs.clone()));
+                    }
+                    return invoke(statement, statementMethod, statementArgs);
+                });
+            }
+            return result;
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    record CapturedStatement(String sql, List<Binding> bindings) {
+
+        boolean isQuery() {
+            String statement = sql.stripLeading().toLowerCase();
+            return statement.startsWith("select") || statement.startsWith("with");
+        }
+
+        /**
+         * Binds the recorded parameters to another statement over the same SQL.
+         */
+        void bindTo(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                try {
+                    binding.method().invoke(statement, binding.args());
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("Cannot replay " + binding.method().getName(), e);
+                }
+            }
+        }
+    }
+
+    record Binding(Method method, Object[] args) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.usermanager.benchmarks.queries;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Figures taken from one {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)} plan.
+ *
+ * {@code rowsScanned} counts the rows read by scan nodes including those discarded by filters,
+ * so a query that returns ten rows out of a million-row sequential scan shows up as a million.
+ * {@code shape} is the node tree without costs or row counts; it changes only when the planner
+ * picks a different strategy, which is what regressions between runs are compared on.
+ *
+ * @param seqScans tables read by sequential scans of at least the configured number of rows
+ */
+record PlanSummary(
+    String shape,
+    double executionMs,
+    double planningMs,
+    long rowsScanned,
+    long sharedHitBlocks,
+    long sharedReadBlocks,
+    List<String> seqScans
+) {
+
+    private static final Set<String> SCAN_NODES = Set.of(
+            "Seq Scan", "Index Scan", "Index Only Scan", "Bitmap Heap Scan", "Tid Scan", "Tid Range Scan");
+
+    static PlanSummary of(JsonNode explain, long seqScanThreshold) {
+        JsonNode root = explain.get(0);
+        JsonNode plan = root.get("Plan");
+        Totals totals = new Totals(seqScanThreshold);
+        String shape = walk(plan, totals);
+        return new PlanSummary(shape,
+                root.path("Execution Time").asDouble(),
+                root.path("Planning Time").asDouble(),
+                totals.rowsScanned,
+                plan.path("Shared Hit Blocks").asLong(),
+                plan.path("Shared Read Blocks").asLong(),
+                List.copyOf(totals.seqScans));
+    }
+
+    // Helper methods
+    private static String walk(JsonNode node, Totals totals) {
+        String nodeType = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText(null);
+        String index = node.path("Index Name").asText(null);
+
+        if (SCAN_NODES.contains(nodeType)) {
+            long loops = Math.max(1, node.path("Actual Loops").asLong());
+            long scanned = (node.path("Actual Rows").asLong()
+                    + node.path("Rows Removed by Filter").asLong()
+                    + node.path("Rows Removed by Index Recheck").asLong()) * loops;
+            totals.rowsScanned += scanned;
+            if (nodeType.equals("Seq Scan") && scanned >= totals.seqScanThreshold) {
+                totals.seqScans.add(relation);
+            }
+        }
+
+        StringBuilder shape = new StringBuilder(nodeType);
+        if (relation != null) {
+            shape.append(" on ").append(relation);
+        }
+        if (index != null) {
+            shape.append(" using ").append(index);
+        }
+        JsonNode children = node.path("Plans");
+        if (children.isArray() && !children.isEmpty()) {
+            List<String> childShapes = new ArrayList<>();
+            children.forEach(child -> childShapes.add(walk(child, totals)));
+            shape.append(" -> [").append(String.join(", ", childShapes)).append("]");
+        }
+        return shape.toString();
+    }
+
+    private static final class Totals {
+
+        private final long seqScanThreshold;
+        private final List<String> seqScans = new ArrayList<>();
+        private long rowsScanned;
+
+        Totals(long seqScanThreshold) {
+            this.seqScanThreshold = seqScanThreshold;
+        }
+    }
+}
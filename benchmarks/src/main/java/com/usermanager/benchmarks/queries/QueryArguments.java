@@ -0,0 +1,179 @@
+package com.usermanager.benchmarks.queries;
+
+import com.usermanager.domain.entity.User;
+import com.usermanager.repository.MenuRepository;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.PermissionRepository;
+import com.usermanager.repository.RoleRepository;
+import com.usermanager.repository.ScreenRepository;
+import com.usermanager.repository.UserProfileRepository;
+import com.usermanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.Param;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Chooses an argument for every repository method parameter from its type, its name and the
+ * repository it belongs to. Names come from {@link Param} or, for derived queries, from the
+ * parameter names the application is compiled with.
+ */
+class QueryArguments {
+
+    private static final String SEARCH_TERM = "42";
+
+    private final SampleData samples;
+    private final LocalDateTime baseTime;
+    private final int pageSize;
+
+    QueryArguments(SampleData samples, LocalDateTime baseTime, int pageSize) {
+        this.samples = samples;
+        this.baseTime = baseTime;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Must be called inside a transaction, since entity parameters are passed as references.
+     */
+    Object[] resolve(Class<?> repository, Method method, EntityManager entityManager) {
+        Parameter[] parameters = method.getParameters();
+        Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            arguments[i] = resolve(repository, method, parameters[i], entityManager);
+        }
+        return arguments;
+    }
+
+    // Helper methods
+    private Object resolve(Class<?> repository, Method method, Parameter parameter, EntityManager entityManager) {
+        Param param = parameter.getAnnotation(Param.class);
+        String name = (param != null ? param.value() : parameter.getName()).toLowerCase();
+        Class<?> type = parameter.getType();
+
+        if (type == Pageable.class) {
+            return PageRequest.of(0, pageSize);
+        }
+        if (type == UUID.class) {
+            return uuid(repository, name);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            if (name.startsWith("user") || repository == UserRepository.class) {
+                return samples.userIds();
+            }
+            return repository == PaperRepository.class ? samples.paperIds() : samples.profileIds();
+        }
+        if (type == LocalDateTime.class) {
+            boolean upperBound = name.equals("until") || name.equals("now") || name.startsWith("end");
+            return upperBound ? baseTime : baseTime.minusDays(90);
+        }
+        if (type == String.class) {
+            return string(repository, method, name);
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type == Integer.class || type == int.class) {
+            return switch (name) {
+                case "level" -> 2;
+                case "maxattempts" -> 3;
+                case "beforeversion" -> Integer.MAX_VALUE;
+                default -> 1;
+            };
+        }
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == User.class) {
+            return entityManager.getReference(User.class, samples.userId());
+        }
+        throw new IllegalArgumentException("No sample value for " + type.getSimpleName() + " " + name);
+    }
+
+    private UUID uuid(Class<?> repository, String name) {
+        if (name.equals("after")) {
+            // Keyset pagination from the start
+            return new UUID(0, 0);
+        }
+        if (name.startsWith("user") || name.startsWith("createdby")) {
+            return samples.userId();
+        }
+        if (name.startsWith("role")) {
+            return samples.roleId();
+        }
+        if (name.startsWith("permission")) {
+            return samples.permissionId();
+        }
+        if (name.startsWith("profile")) {
+            return samples.profileId();
+        }
+        return ownId(repository);
+    }
+
+    private UUID ownId(Class<?> repository) {
+        if (repository == RoleRepository.class) {
+            return samples.roleId();
+        } else if (repository == PermissionRepository.class) {
+            return samples.permissionId();
+        } else if (repository == MenuRepository.class) {
+            return samples.menuId();
+        } else if (repository == ScreenRepository.class) {
+            return samples.screenId();
+        } else if (repository == PaperRepository.class) {
+            return samples.paperId();
+        } else if (repository == UserProfileRepository.class) {
+            return samples.profileId();
+        }
+        return samples.userId();
+    }
+
+    private String string(Class<?> repository, Method method, String name) {
+        boolean preference = method.getName().contains("Preference");
+        String key = preference ? samples.preferenceKey() : samples.attributeKey();
+        String value = preference ? samples.preferenceValue() : samples.attributeValue();
+        return switch (name) {
+            case "username" -> samples.username();
+            case "email" -> samples.email();
+            case "keycloakid" -> samples.keycloakId();
+            case "department" -> samples.department();
+            case "position" -> samples.position();
+            case "searchterm" -> SEARCH_TERM;
+            case "rolecode" -> samples.roleCode();
+            case "permissioncode" -> samples.permissionCode();
+            case "resource" -> samples.resource();
+            case "action" -> samples.action();
+            case "module" -> samples.module();
+            case "route" -> samples.route();
+            case "category" -> samples.category();
+            case "tag" -> samples.tag();
+            case "context" -> samples.context();
+            case "name" -> samples.roleName();
+            case "key" -> key;
+            case "value" -> value;
+            case "document" -> "{\"" + key + "\": \"" + value + "\"}";
+            case "code" -> code(repository);
+            default -> throw new IllegalArgumentException("No sample value for String " + name);
+        };
+    }
+
+    private String code(Class<?> repository) {
+        if (repository == PermissionRepository.class) {
+            return samples.permissionCode();
+        } else if (repository == MenuRepository.class) {
+            return samples.menuCode();
+        } else if (repository == ScreenRepository.class) {
+            return samples.screenCode();
+        } else if (repository == PaperRepository.class) {
+            return samples.paperCode();
+        }
+        return samples.roleCode();
+    }
+}
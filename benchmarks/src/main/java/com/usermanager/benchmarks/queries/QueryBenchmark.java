@@ -0,0 +1,304 @@
+package com.usermanager.benchmarks.queries;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.usermanager.repository.MenuRepository;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.PermissionRepository;
+import com.usermanager.repository.RoleRepository;
+import com.usermanager.repository.ScreenRepository;
+import com.usermanager.repository.UserProfileRepository;
+import com.usermanager.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Runs every query method declared on the main repositories against a database filled by
+ * {@link com.usermanager.benchmarks.dataset.DatasetGenerator} and records latency percentiles,
+ * rows returned, and the {@code EXPLAIN (ANALYZE, BUFFERS)} plan of each SQL statement issued.
+ *
+ * Sequential scans over large tables are flagged, and with {@code --baseline} the run is compared
+ * with an earlier {@code report.json}: a p95 or rows-scanned increase above the threshold, a
+ * changed plan shape or a new large sequential scan is reported as a regression, and
+ * {@code --fail-on-regression} turns them into a non-zero exit code. Modifying queries are
+ * listed as skipped so the dataset stays unchanged between runs. PostgreSQL only.
+ */
+public final class QueryBenchmark {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            UserRepository.class, RoleRepository.class, PermissionRepository.class, MenuRepository.class,
+            ScreenRepository.class, PaperRepository.class, UserProfileRepository.class);
+
+    private static final String EXPLAIN = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ";
+
+    // Differences below this are noise on any machine
+    private static final double MIN_REGRESSION_MS = 1.0;
+
+    private final QueryBenchmarkOptions options;
+    private final AnnotationConfigApplicationContext context;
+    private final CapturingDataSource capturingDataSource;
+    private final HikariDataSource targetDataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Path runDirectory;
+
+    private QueryArguments arguments;
+
+    QueryBenchmark(QueryBenchmarkOptions options, AnnotationConfigApplicationContext context) {
+        this.options = options;
+        this.context = context;
+        this.capturingDataSource = context.getBean(CapturingDataSource.class);
+        this.targetDataSource = context.getBean(HikariDataSource.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        this.runDirectory = options.output().resolve(options.label());
+    }
+
+    public static void main(String[] args) throws Exception {
+        QueryBenchmarkOptions options = QueryBenchmarkOptions.parse(args);
+        if (!options.url().startsWith("jdbc:postgresql:")) {
+            throw new IllegalArgumentException("Query benchmarks need PostgreSQL for EXPLAIN (ANALYZE, BUFFERS)");
+        }
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(QueryBenchmarkOptions.class, () -> options);
+        context.register(QueryBenchmarkConfig.class);
+        context.refresh();
+
+        int regressions;
+        try (context) {
+            regressions = new QueryBenchmark(options, context).run();
+        }
+        if (regressions > 0 && options.failOnRegression()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the benchmark, writes the report and returns the number of regressions found against
+     * the baseline.
+     */
+    int run() throws Exception {
+        Files.createDirectories(runDirectory.resolve("plans"));
+        arguments = new QueryArguments(SampleData.load(targetDataSource), options.baseTime(), options.pageSize());
+
+        List<QueryResult> results = new ArrayList<>();
+        for (Class<?> repository : REPOSITORIES) {
+            Object bean = context.getBean(repository);
+            for (Method method : queryMethods(repository)) {
+                String name = queryName(repository, method);
+                if (!options.include().matcher(name).find()) {
+                    continue;
+                }
+                QueryResult result = method.isAnnotationPresent(Modifying.class)
+                        ? QueryResult.skipped(name, "modifying query")
+                        : measure(name, repository, bean, method);
+                results.add(result);
+                System.out.println(format(result));
+            }
+        }
+
+        QueryReport report = new QueryReport(options.label(), OffsetDateTime.now().toString(), options.url(),
+                options.iterations(), results);
+        Path reportFile = runDirectory.resolve("report.json");
+        objectMapper.writeValue(reportFile.toFile(), report);
+        System.out.printf("%nReport written to %s%n", reportFile);
+
+        if (options.baseline() == null) {
+            return 0;
+        }
+        QueryReport baseline = objectMapper.readValue(options.baseline().toFile(), QueryReport.class);
+        return compare(baseline, report);
+    }
+
+    // Helper methods
+    private QueryResult measure(String name, Class<?> repository, Object bean, Method method) {
+        try {
+            long budget = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.maxSecondsPerQuery());
+            for (int i = 0; i < options.warmup() && System.nanoTime() < budget; i++) {
+                invoke(repository, bean, method);
+            }
+
+            long[] timings = new long[options.iterations()];
+            int measured = 0;
+            long rows = 0;
+            while (measured < timings.length && (measured == 0 || System.nanoTime() < budget)) {
+                capturingDataSource.drain();
+                long start = System.nanoTime();
+                rows = invoke(repository, bean, method);
+                timings[measured++] = System.nanoTime() - start;
+            }
+            List<PlanSummary> plans = explain(name, capturingDataSource.drain());
+
+            long[] sorted = Arrays.copyOf(timings, measured);
+            Arrays.sort(sorted);
+            String detail = measured < timings.length ? "time budget reached after " + measured + " iterations" : null;
+            return new QueryResult(name, QueryResult.Status.OK, detail, measured,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0), rows, options.maxRows() > 0 && rows >= options.maxRows(), plans);
+        } catch (Exception e) {
+            capturingDataSource.drain();
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            return QueryResult.failed(name, cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        }
+    }
+
+    private long invoke(Class<?> repository, Object bean, Method method) {
+        // Each call runs in its own transaction, so the persistence context starts empty
+        Long rows = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            try {
+                return rowCount(method.invoke(bean, arguments.resolve(repository, method, entityManager)));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException() instanceof RuntimeException runtime
+                        ? runtime : new IllegalStateException(e.getTargetException());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private List<PlanSummary> explain(String name, List<CapturingDataSource.CapturedStatement> statements)
+            throws Exception {
+        List<PlanSummary> plans = new ArrayList<>();
+        List<JsonNode> rawPlans = new ArrayList<>();
+        for (CapturingDataSource.CapturedStatement statement : statements) {
+            if (!statement.isQuery()) {
+                continue;
+            }
+            try (Connection connection = targetDataSource.getConnection();
+                 PreparedStatement explain = connection.prepareStatement(EXPLAIN + statement.sql())) {
+                statement.bindTo(explain);
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    resultSet.next();
+                    JsonNode plan = objectMapper.readTree(resultSet.getString(1));
+                    rawPlans.add(plan);
+                    plans.add(PlanSummary.of(plan, options.seqScanThreshold()));
+                }
+            }
+        }
+        objectMapper.writeValue(runDirectory.resolve("plans").resolve(fileName(name)).toFile(), rawPlans);
+        return plans;
+    }
+
+    private int compare(QueryReport baseline, QueryReport current) {
+        Map<String, QueryResult> previous = baseline.queries().stream()
+                .collect(Collectors.toMap(QueryResult::query, result -> result, (a, b) -> a, HashMap::new));
+        System.out.printf("%nComparison with baseline %s (%s)%n", baseline.label(), baseline.generatedAt());
+
+        int regressions = 0;
+        for (QueryResult result : current.queries()) {
+            QueryResult before = previous.get(result.query());
+            if (before == null || before.status() != QueryResult.Status.OK) {
+                continue;
+            }
+            List<String> findings = new ArrayList<>();
+            if (result.status() != QueryResult.Status.OK) {
+                findings.add("now " + result.status().name().toLowerCase() + ": " + result.detail());
+            } else {
+                double threshold = 1 + options.regressionThreshold();
+                if (result.p95Ms() > before.p95Ms() * threshold && result.p95Ms() - before.p95Ms() >= MIN_REGRESSION_MS) {
+                    findings.add(String.format("p95 %.2f -> %.2f ms", before.p95Ms(), result.p95Ms()));
+                }
+                if (result.rowsScanned() > before.rowsScanned() * threshold) {
+                    findings.add("rows scanned " + before.rowsScanned() + " -> " + result.rowsScanned());
+                }
+                List<String> newSeqScans = new ArrayList<>(result.seqScans());
+                newSeqScans.removeAll(before.seqScans());
+                if (!newSeqScans.isEmpty()) {
+                    findings.add("new seq scan on " + String.join(", ", newSeqScans));
+                }
+                if (!result.shapes().equals(before.shapes())) {
+                    findings.add("plan changed: " + String.join(" | ", before.shapes())
+                            + " => " + String.join(" | ", result.shapes()));
+                }
+            }
+            if (!findings.isEmpty()) {
+                regressions++;
+                System.out.printf("REGRESSION %s%n    %s%n", result.query(), String.join("\n    ", findings));
+            }
+        }
+        System.out.printf("%d regression(s) in %d queries%n", regressions, current.queries().size());
+        return regressions;
+    }
+
+    private static List<Method> queryMethods(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic()
+                        && !Modifier.isStatic(method.getModifiers()))
+                .sorted(Comparator.comparing((Method method) -> queryName(repository, method)))
+                .toList();
+    }
+
+    private static String queryName(Class<?> repository, Method method) {
+        return repository.getSimpleName() + "." + method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static String fileName(String queryName) {
+        return queryName.replaceAll("[^A-Za-z0-9.]+", "_").replaceAll("_$", "") + ".json";
+    }
+
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return result != null ? 1 : 0;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static String format(QueryResult result) {
+        if (result.status() != QueryResult.Status.OK) {
+            return String.format("%-90s %s %s", result.query(), result.status(), result.detail());
+        }
+        String seqScans = result.seqScans().isEmpty() ? "" : "  SEQ SCAN " + String.join(", ", result.seqScans());
+        return String.format("%-90s p50 %8.2f  p95 %8.2f  p99 %8.2f ms  rows %7d%s  scanned %,12d  buffers %,9d%s",
+                result.query(), result.p50Ms(), result.p95Ms(), result.p99Ms(), result.rowsReturned(),
+                result.truncated() ? "+" : " ", result.rowsScanned(), result.sharedBlocks(), seqScans);
+    }
+}
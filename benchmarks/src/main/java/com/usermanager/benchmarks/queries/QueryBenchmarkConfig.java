@@ -0,0 +1,60 @@
+package com.usermanager.benchmarks.queries;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+
+/**
+ * JPA setup for {@link QueryBenchmark}: the application's entities and repositories with the
+ * naming strategies Spring Boot applies, without the rest of the application context.
+ */
+@Configuration
+@EnableJpaRepositories(basePackages = "com.usermanager.repository")
+class QueryBenchmarkConfig {
+
+    @Bean(destroyMethod = "close")
+    HikariDataSource targetDataSource(QueryBenchmarkOptions options) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(options.url());
+        dataSource.setUsername(options.username());
+        dataSource.setPassword(options.password());
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setPoolName("query-benchmark");
+        return dataSource;
+    }
+
+    @Bean
+    CapturingDataSource capturingDataSource(HikariDataSource targetDataSource, QueryBenchmarkOptions options) {
+        return new CapturingDataSource(targetDataSource, options.maxRows());
+    }
+
+    @Bean
+    LocalContainerEntityManagerFactoryBean entityManagerFactory(CapturingDataSource capturingDataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(capturingDataSource);
+        factory.setPackagesToScan("com.usermanager.domain.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.DIALECT, PostgreSQLDialect.class.getName(),
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName(),
+                AvailableSettings.HBM2DDL_AUTO, "none"));
+        return factory;
+    }
+
+    @Bean
+    JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,73 @@
+package com.usermanager.benchmarks.queries;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Options of {@link QueryBenchmark}, parsed from {@code --name=value} arguments.
+ */
+record QueryBenchmarkOptions(
+    String url,
+    String username,
+    String password,
+    LocalDateTime baseTime,
+    int warmup,
+    int iterations,
+    long maxSecondsPerQuery,
+    int pageSize,
+    int maxRows,
+    long seqScanThreshold,
+    Pattern include,
+    Path output,
+    String label,
+    Path baseline,
+    double regressionThreshold,
+    boolean failOnRegression
+) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+            "url", "username", "password", "base-time", "warmup", "iterations", "max-seconds-per-query", "page-size",
+            "max-rows", "seq-scan-threshold", "include", "output", "label", "baseline", "regression-threshold",
+            "fail-on-regression");
+
+    static QueryBenchmarkOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(separator > 0 ? arg.substring(2, separator) : arg.substring(2),
+                    separator > 0 ? arg.substring(separator + 1) : "true");
+        }
+
+        QueryBenchmarkOptions benchmarkOptions = new QueryBenchmarkOptions(
+            options.getOrDefault("url", "jdbc:postgresql://localhost:5432/usermanager"),
+            options.getOrDefault("username", "usermanager"),
+            options.getOrDefault("password", "password"),
+            // Same default as the dataset generator, so date windows hit generated data
+            LocalDateTime.parse(options.getOrDefault("base-time", "2025-01-01T00:00")),
+            Integer.parseInt(options.getOrDefault("warmup", "3")),
+            Integer.parseInt(options.getOrDefault("iterations", "20")),
+            Long.parseLong(options.getOrDefault("max-seconds-per-query", "30")),
+            Integer.parseInt(options.getOrDefault("page-size", "20")),
+            Integer.parseInt(options.getOrDefault("max-rows", "10000")),
+            Long.parseLong(options.getOrDefault("seq-scan-threshold", "10000")),
+            Pattern.compile(options.getOrDefault("include", ".*")),
+            Path.of(options.getOrDefault("output", "target/query-benchmarks")),
+            options.getOrDefault("label", "run-" + System.currentTimeMillis()),
+            options.containsKey("baseline") ? Path.of(options.get("baseline")) : null,
+            Double.parseDouble(options.getOrDefault("regression-threshold", "0.25")),
+            Boolean.parseBoolean(options.getOrDefault("fail-on-regression", "false"))
+        );
+        options.keySet().removeAll(KNOWN_OPTIONS);
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        return benchmarkOptions;
+    }
+}
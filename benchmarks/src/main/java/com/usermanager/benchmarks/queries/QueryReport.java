@@ -0,0 +1,16 @@
+package com.usermanager.benchmarks.queries;
+
+import java.util.List;
+
+/**
+ * Results of one benchmark run, written as {@code report.json} and read back as the baseline
+ * of later runs.
+ */
+record QueryReport(
+    String label,
+    String generatedAt,
+    String url,
+    int iterations,
+    List<QueryResult> queries
+) {
+}
@@ -0,0 +1,52 @@
+package com.usermanager.benchmarks.queries;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Measurements of one repository method. Latencies are wall-clock times of the repository
+ * call, including entity materialization; {@code plans} holds one summary per SQL statement
+ * the call issued.
+ */
+record QueryResult(
+    String query,
+    Status status,
+    String detail,
+    int iterations,
+    double p50Ms,
+    double p95Ms,
+    double p99Ms,
+    double maxMs,
+    long rowsReturned,
+    boolean truncated,
+    List<PlanSummary> plans
+) {
+
+    enum Status {
+        OK, SKIPPED, FAILED
+    }
+
+    static QueryResult skipped(String query, String reason) {
+        return new QueryResult(query, Status.SKIPPED, reason, 0, 0, 0, 0, 0, 0, false, List.of());
+    }
+
+    static QueryResult failed(String query, String reason) {
+        return new QueryResult(query, Status.FAILED, reason, 0, 0, 0, 0, 0, 0, false, List.of());
+    }
+
+    long rowsScanned() {
+        return plans.stream().mapToLong(PlanSummary::rowsScanned).sum();
+    }
+
+    long sharedBlocks() {
+        return plans.stream().mapToLong(plan -> plan.sharedHitBlocks() + plan.sharedReadBlocks()).sum();
+    }
+
+    List<String> seqScans() {
+        return plans.stream().flatMap(plan -> plan.seqScans().stream()).distinct().toList();
+    }
+
+    List<String> shapes() {
+        return plans.stream().map(PlanSummary::shape).filter(Objects::nonNull).toList();
+    }
+}
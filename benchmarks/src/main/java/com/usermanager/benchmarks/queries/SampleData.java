@@ -0,0 +1,145 @@
+package com.usermanager.benchmarks.queries;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Representative keys read from the dataset, used as query arguments. Where it matters the
+ * most-referenced value is chosen (the busiest author, role, permission, department and tag),
+ * so lookups measure the heavy end of the distribution rather than an arbitrary row.
+ */
+record SampleData(
+    UUID userId,
+    String username,
+    String email,
+    String keycloakId,
+    List<UUID> userIds,
+    String department,
+    String position,
+    UUID roleId,
+    String roleCode,
+    String roleName,
+    UUID permissionId,
+    String permissionCode,
+    String resource,
+    String action,
+    UUID menuId,
+    String menuCode,
+    UUID screenId,
+    String screenCode,
+    String module,
+    String route,
+    UUID paperId,
+    String paperCode,
+    String category,
+    List<UUID> paperIds,
+    String tag,
+    UUID profileId,
+    List<UUID> profileIds,
+    String context,
+    String attributeKey,
+    String attributeValue,
+    String preferenceKey,
+    String preferenceValue
+) {
+
+    private static final int ID_SAMPLE_SIZE = 100;
+
+    static SampleData load(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            Object[] user = firstRow(connection,
+                    "SELECT u.id, u.username, u.email, u.keycloak_id FROM users u " +
+                    "JOIN (SELECT created_by FROM papers GROUP BY created_by ORDER BY COUNT(*) DESC LIMIT 1) p " +
+                    "ON p.created_by = u.id",
+                    "SELECT id, username, email, keycloak_id FROM users ORDER BY created_at DESC LIMIT 1");
+            Object[] department = firstRow(connection,
+                    "SELECT department FROM users WHERE department IS NOT NULL " +
+                    "GROUP BY department ORDER BY COUNT(*) DESC LIMIT 1");
+            Object[] position = firstRow(connection,
+                    "SELECT position FROM users WHERE position IS NOT NULL " +
+                    "GROUP BY position ORDER BY COUNT(*) DESC LIMIT 1");
+            Object[] role = firstRow(connection,
+                    "SELECT r.id, r.code, r.name FROM roles r " +
+                    "JOIN (SELECT role_id FROM user_roles GROUP BY role_id ORDER BY COUNT(*) DESC LIMIT 1) t " +
+                    "ON t.role_id = r.id",
+                    "SELECT id, code, name FROM roles LIMIT 1");
+            Object[] permission = firstRow(connection,
+                    "SELECT p.id, p.code, p.resource, p.action FROM permissions p " +
+                    "JOIN (SELECT permission_id FROM role_permissions GROUP BY permission_id " +
+                    "ORDER BY COUNT(*) DESC LIMIT 1) t ON t.permission_id = p.id",
+                    "SELECT id, code, resource, action FROM permissions LIMIT 1");
+            Object[] menu = firstRow(connection,
+                    "SELECT m.id, m.code FROM menus m WHERE EXISTS (SELECT 1 FROM menus c WHERE c.parent_id = m.id) " +
+                    "LIMIT 1",
+                    "SELECT id, code FROM menus LIMIT 1");
+            Object[] screen = firstRow(connection, "SELECT id, code, module, route FROM screens LIMIT 1");
+            Object[] paper = firstRow(connection,
+                    "SELECT parent_paper_id, code, category FROM papers WHERE parent_paper_id IS NOT NULL LIMIT 1",
+                    "SELECT id, code, category FROM papers LIMIT 1");
+            Object[] tag = firstRow(connection,
+                    "SELECT tag FROM paper_tags GROUP BY tag ORDER BY COUNT(*) DESC LIMIT 1");
+            Object[] profile = firstRow(connection,
+                    "SELECT id, context FROM user_profiles WHERE context IS NOT NULL LIMIT 1",
+                    "SELECT id, context FROM user_profiles LIMIT 1");
+            Object[] attribute = firstRow(connection,
+                    "SELECT attribute_key, attribute_value FROM user_profile_attributes LIMIT 1");
+            Object[] preference = firstRow(connection,
+                    "SELECT preference_key, preference_value FROM user_profile_preferences LIMIT 1");
+
+            return new SampleData(
+                (UUID) user[0], (String) user[1], (String) user[2], (String) user[3],
+                ids(connection, "SELECT id FROM users ORDER BY created_at DESC LIMIT " + ID_SAMPLE_SIZE),
+                (String) department[0], (String) position[0],
+                (UUID) role[0], (String) role[1], (String) role[2],
+                (UUID) permission[0], (String) permission[1], (String) permission[2], (String) permission[3],
+                (UUID) menu[0], (String) menu[1],
+                (UUID) screen[0], (String) screen[1], (String) screen[2], (String) screen[3],
+                (UUID) paper[0], (String) paper[1], (String) paper[2],
+                ids(connection, "SELECT id FROM papers ORDER BY created_at DESC LIMIT " + ID_SAMPLE_SIZE),
+                (String) tag[0],
+                (UUID) profile[0],
+                ids(connection, "SELECT id FROM user_profiles ORDER BY created_at DESC LIMIT " + ID_SAMPLE_SIZE),
+                (String) profile[1],
+                (String) attribute[0], (String) attribute[1],
+                (String) preference[0], (String) preference[1]
+            );
+        }
+    }
+
+    // Helper methods
+    private static Object[] firstRow(Connection connection, String... queries) throws SQLException {
+        Object[] row = null;
+        for (String query : queries) {
+            try (PreparedStatement statement = connection.prepareStatement(query);
+                 ResultSet resultSet = statement.executeQuery()) {
+                int columns = resultSet.getMetaData().getColumnCount();
+                row = new Object[columns];
+                if (resultSet.next()) {
+                    for (int i = 0; i < columns; i++) {
+                        row[i] = resultSet.getObject(i + 1);
+                    }
+                    return row;
+                }
+            }
+        }
+        // Empty tables leave the values null; queries that need them are reported as errors
+        return row;
+    }
+
+    private static List<UUID> ids(Connection connection, String query) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(query);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,44 @@
+package com.usermanager.config;
+
+import com.usermanager.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transaction-scoped locks that coordinate replicas sharing one database.
+ *
+ * On PostgreSQL these are advisory locks. Other databases, such as the in-memory H2 of the test
+ * profile, are not shared between nodes, so the lock is always granted there.
+ */
+@Component
+public class AdvisoryLocks {
+
+    private static final Logger log = LoggerFactory.getLogger(AdvisoryLocks.class);
+
+    private final UserRepository userRepository;
+    private final boolean supported;
+
+    @Autowired
+    public AdvisoryLocks(UserRepository userRepository, EntityManagerFactory entityManagerFactory) {
+        this.userRepository = userRepository;
+        this.supported = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+        if (!supported) {
+            log.info("Advisory locks are not supported by this database; transaction locks are always granted");
+        }
+    }
+
+    /**
+     * Takes the lock for {@code key} until the current transaction ends. Returns false while
+     * another transaction holds it.
+     */
+    public boolean tryLockForTransaction(long key) {
+        return !supported || userRepository.tryAdvisoryXactLock(key);
+    }
+}
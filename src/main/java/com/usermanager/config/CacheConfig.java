@@ -0,0 +1,13 @@
+package com.usermanager.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Default profile of a user, with attributes and preferences, keyed by user id. Evicted on
+    // the node that wrote the change; other nodes see it once their entry expires
+    public static final String DEFAULT_PROFILES = "defaultProfiles";
+}
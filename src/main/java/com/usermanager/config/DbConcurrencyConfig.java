@@ -0,0 +1,32 @@
+package com.usermanager.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes the application's data source through {@link DbConcurrencyLimiter}. Enabled by the
+ * {@code virtual-threads} profile, where request concurrency is no longer bounded by Tomcat's
+ * thread pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.limiter.enabled", havingValue = "true")
+public class DbConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor limitedDataSourcePostProcessor(ObjectProvider<DbConcurrencyLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof LimitedDataSource)) {
+                    return new LimitedDataSource(dataSource, limiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package com.usermanager.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of threads that hold or wait for a database connection.
+ *
+ * With virtual threads every request gets its own thread, so without a cap the connection pool
+ * becomes an unbounded queue in which requests wait until the pool's connection timeout.
+ * Threads beyond the limit wait briefly for a permit and are then rejected. The limit is
+ * adjusted additive-increase/multiplicative-decrease from the time spent waiting for the pool:
+ * it shrinks when the average wait exceeds the target and grows by one while it is the
+ * bottleneck. State is published as the {@code db.limiter.*} meters.
+ */
+@Component
+@ConditionalOnProperty(name = "app.db.limiter.enabled", havingValue = "true")
+public class DbConcurrencyLimiter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(DbConcurrencyLimiter.class);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetPoolWaitNanos;
+    private final double backoffRatio;
+    private final long acquireTimeoutMs;
+
+    private final ResizableSemaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder poolWaitNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+
+    @Autowired
+    public DbConcurrencyLimiter(@Value("${app.db.limiter.initial-limit}") int initialLimit,
+                                @Value("${app.db.limiter.min-limit}") int minLimit,
+                                @Value("${app.db.limiter.max-limit}") int maxLimit,
+                                @Value("${app.db.limiter.target-pool-wait-ms}") long targetPoolWaitMs,
+                                @Value("${app.db.limiter.backoff-ratio}") double backoffRatio,
+                                @Value("${app.db.limiter.acquire-timeout-ms}") long acquireTimeoutMs) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("DB limiter needs 1 <= min-limit <= max-limit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("DB limiter backoff-ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetPoolWaitNanos = TimeUnit.MILLISECONDS.toNanos(targetPoolWaitMs);
+        this.backoffRatio = backoffRatio;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.permits = new ResizableSemaphore(limit);
+    }
+
+    /**
+     * Waits up to the acquire timeout for a permit and returns whether one was granted. Every
+     * granted permit must be returned with {@link #release()}.
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            rejected.increment();
+            return false;
+        }
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return true;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+        permits.release();
+    }
+
+    /**
+     * Records how long a permit holder waited for the connection pool to hand out a connection.
+     */
+    public void recordPoolWait(long nanos) {
+        acquisitions.increment();
+        poolWaitNanos.add(nanos);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Scheduled(fixedDelayString = "${app.db.limiter.adjust-interval-ms}")
+    public void adjust() {
+        long count = acquisitions.sumThenReset();
+        long waited = poolWaitNanos.sumThenReset();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+
+        int current = limit;
+        int next = current;
+        if (count > 0 && waited / count > targetPoolWaitNanos) {
+            next = Math.max(minLimit, (int) (current * backoffRatio));
+        } else if (peak >= current) {
+            next = Math.min(maxLimit, current + 1);
+        }
+        if (next != current) {
+            permits.resize(next - current);
+            limit = next;
+            log.debug("DB concurrency limit {} -> {} (average pool wait {} us over {} acquisitions)",
+                    current, next, count > 0 ? TimeUnit.NANOSECONDS.toMicros(waited / count) : 0, count);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("db.limiter.limit", this, DbConcurrencyLimiter::getLimit)
+                .description("Current number of threads allowed to hold or wait for a connection")
+                .register(registry);
+        Gauge.builder("db.limiter.in.flight", inFlight, AtomicInteger::get)
+                .description("Threads holding a limiter permit")
+                .register(registry);
+        Gauge.builder("db.limiter.queued", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a limiter permit")
+                .register(registry);
+        FunctionCounter.builder("db.limiter.rejected", rejected, LongAdder::sum)
+                .description("Connection requests rejected after the acquire timeout")
+                .register(registry);
+    }
+
+    private static final class ResizableSemaphore extends Semaphore {
+
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        void resize(int delta) {
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                // Permits still held are not revoked; the surplus drains as they are released
+                reducePermits(-delta);
+            }
+        }
+    }
+}
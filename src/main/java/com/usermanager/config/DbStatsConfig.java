@@ -0,0 +1,53 @@
+package com.usermanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Attributes database work to HTTP requests: statement time and count, entity loads, collection
+ * fetches and flushes, published per endpoint as {@code db.request.*} meters and, outside
+ * production, as a {@code Server-Timing} response header.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.stats.enabled", havingValue = "true")
+public class DbStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer dbStatsSessionListenerCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                DbStatsSessionListener.class.getName());
+    }
+
+    @Bean
+    public FilterRegistrationBean<DbStatsFilter> dbStatsFilter(MeterRegistry registry,
+                                                               @Value("${app.db.stats.response-header}") boolean responseHeader) {
+        FilterRegistrationBean<DbStatsFilter> registration =
+                new FilterRegistrationBean<>(new DbStatsFilter(registry, responseHeader));
+        // Outside Spring Security, so rejected requests are measured too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public DbStatsLoadListener dbStatsLoadListener(EntityManagerFactory entityManagerFactory) {
+        DbStatsLoadListener listener = new DbStatsLoadListener();
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_LOAD, listener);
+        listeners.appendListeners(EventType.LOAD, listener);
+        listeners.appendListeners(EventType.INIT_COLLECTION, listener);
+        return listener;
+    }
+}
@@ -0,0 +1,103 @@
+package com.usermanager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the database work of each request as {@code db.request.*} meters tagged with the
+ * request's method and URI pattern. With {@code responseHeader} set, the statement time is also
+ * returned in a {@code Server-Timing} header, which browser dev tools show next to the request.
+ */
+class DbStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final boolean responseHeader;
+
+    DbStatsFilter(MeterRegistry registry, boolean responseHeader) {
+        this.registry = registry;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestDbStats stats = RequestDbStats.start();
+        ServerTimingResponse timingResponse = responseHeader ? new ServerTimingResponse(response, stats) : null;
+        try {
+            chain.doFilter(request, timingResponse != null ? timingResponse : response);
+        } finally {
+            if (timingResponse != null) {
+                timingResponse.writeHeader();
+            }
+            RequestDbStats.finish();
+            record(request, stats);
+        }
+    }
+
+    // Helper methods
+    private void record(HttpServletRequest request, RequestDbStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+
+        Timer.builder("db.request.time")
+                .description("Time spent executing JDBC statements per request")
+                .tags(tags)
+                .register(registry)
+                .record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+        summary("db.request.statements", "JDBC statements and batches executed per request", tags)
+                .record(stats.getStatements());
+        summary("db.request.entity.loads", "Entities materialized from result sets per request", tags)
+                .record(stats.getEntityLoads());
+        summary("db.request.entity.fetches", "Entity lookups by id, including proxy initialization, per request", tags)
+                .record(stats.getEntityFetches());
+        summary("db.request.collection.fetches", "Lazy collections initialized per request", tags)
+                .record(stats.getCollectionFetches());
+        summary("db.request.flushes", "Hibernate session flushes per request", tags)
+                .record(stats.getFlushes());
+    }
+
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name).description(description).tags(tags).register(registry);
+    }
+
+    /**
+     * Adds the header just before the response is committed, while headers can still be set.
+     */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final RequestDbStats stats;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestDbStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+
+        void writeHeader() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            addHeader("Server-Timing", String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements\"",
+                    stats.getDbNanos() / 1_000_000.0, stats.getStatements()));
+        }
+    }
+}
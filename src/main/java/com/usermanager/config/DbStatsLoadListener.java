@@ -0,0 +1,39 @@
+package com.usermanager.config;
+
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Counts entity loads for {@link RequestDbStats}: entities materialized from result sets,
+ * lookups by id (including proxy initialization) and lazy collection initializations.
+ */
+class DbStatsLoadListener implements PostLoadEventListener, LoadEventListener, InitializeCollectionEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.entityFetched();
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.collectionFetched();
+        }
+    }
+}
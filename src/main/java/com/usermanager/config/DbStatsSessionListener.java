@@ -0,0 +1,47 @@
+package com.usermanager.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times JDBC statement and batch executions and counts flushes for {@link RequestDbStats}.
+ * Hibernate creates one instance per session, so the start times need no synchronization.
+ */
+public class DbStatsSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - statementStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - batchStart);
+        }
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.flushed();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.usermanager.config;
+
+import com.usermanager.event.ProfileChangedEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts a user's cached default profile after any write to one of their profiles commits.
+ */
+@Component
+public class DefaultProfileCacheInvalidator {
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = CacheConfig.DEFAULT_PROFILES, key = "#event.userId()")
+    public void onProfileChanged(ProfileChangedEvent event) {
+        // Eviction is done by @CacheEvict
+    }
+}
@@ -0,0 +1,96 @@
+package com.usermanager.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the session factory's {@link Statistics} as {@code hibernate.*} meters.
+ *
+ * Bound directly instead of through {@code hibernate-micrometer}, whose release matching the
+ * Hibernate version managed by Spring Boot 3.2.8 (6.4.9.Final) is not published. Statistics are
+ * only collected while {@code hibernate.generate_statistics} is on.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    @Autowired
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.sessions.open", Statistics::getSessionOpenCount,
+                "Sessions opened");
+        counter(registry, "hibernate.sessions.closed", Statistics::getSessionCloseCount,
+                "Sessions closed");
+        counter(registry, "hibernate.transactions", Statistics::getSuccessfulTransactionCount,
+                "Transactions completed, by result", "result", "success");
+        counter(registry, "hibernate.transactions",
+                stats -> stats.getTransactionCount() - stats.getSuccessfulTransactionCount(),
+                "Transactions completed, by result", "result", "failure");
+        counter(registry, "hibernate.optimistic.failures", Statistics::getOptimisticFailureCount,
+                "StaleObjectStateExceptions raised");
+        counter(registry, "hibernate.flushes", Statistics::getFlushCount,
+                "Session flushes");
+        counter(registry, "hibernate.connections.obtained", Statistics::getConnectCount,
+                "JDBC connections obtained");
+        counter(registry, "hibernate.statements", Statistics::getPrepareStatementCount,
+                "JDBC statements, by status", "status", "prepared");
+        counter(registry, "hibernate.statements", Statistics::getCloseStatementCount,
+                "JDBC statements, by status", "status", "closed");
+
+        counter(registry, "hibernate.query.executions", Statistics::getQueryExecutionCount,
+                "HQL and native queries executed");
+        Gauge.builder("hibernate.query.executions.max", statistics, Statistics::getQueryExecutionMaxTime)
+                .description("Slowest query execution")
+                .baseUnit("milliseconds")
+                .register(registry);
+
+        counter(registry, "hibernate.entities.loads", Statistics::getEntityLoadCount,
+                "Entities loaded");
+        counter(registry, "hibernate.entities.fetches", Statistics::getEntityFetchCount,
+                "Entities fetched by a separate select");
+        counter(registry, "hibernate.entities.inserts", Statistics::getEntityInsertCount,
+                "Entities inserted");
+        counter(registry, "hibernate.entities.updates", Statistics::getEntityUpdateCount,
+                "Entities updated");
+        counter(registry, "hibernate.entities.deletes", Statistics::getEntityDeleteCount,
+                "Entities deleted");
+        counter(registry, "hibernate.collections.loads", Statistics::getCollectionLoadCount,
+                "Collections loaded");
+        counter(registry, "hibernate.collections.fetches", Statistics::getCollectionFetchCount,
+                "Collections fetched by a separate select");
+
+        counter(registry, "hibernate.second.level.cache.requests", Statistics::getSecondLevelCacheHitCount,
+                "Second level cache requests, by result", "result", "hit");
+        counter(registry, "hibernate.second.level.cache.requests", Statistics::getSecondLevelCacheMissCount,
+                "Second level cache requests, by result", "result", "miss");
+        counter(registry, "hibernate.query.cache.requests", Statistics::getQueryCacheHitCount,
+                "Query cache requests, by result", "result", "hit");
+        counter(registry, "hibernate.query.cache.requests", Statistics::getQueryCacheMissCount,
+                "Query cache requests, by result", "result", "miss");
+    }
+
+    // Helper methods
+    private void counter(MeterRegistry registry, String name, ToDoubleFunction<Statistics> count,
+                         String description, String... tags) {
+        FunctionCounter.builder(name, statistics, count)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
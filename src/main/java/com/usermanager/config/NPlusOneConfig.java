@@ -0,0 +1,30 @@
+package com.usermanager.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Installs {@link NPlusOneDetector} as Hibernate's statement inspector and opens a query scope
+ * per request.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.n-plus-one.enabled", havingValue = "true")
+public class NPlusOneConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer nPlusOneStatementInspectorCustomizer(NPlusOneDetector detector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, detector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<NPlusOneFilter> nPlusOneFilter(NPlusOneDetector detector) {
+        FilterRegistrationBean<NPlusOneFilter> registration = new FilterRegistrationBean<>(new NPlusOneFilter(detector));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 11);
+        return registration;
+    }
+}
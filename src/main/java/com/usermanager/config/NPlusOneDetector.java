@@ -0,0 +1,173 @@
+package com.usermanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects N+1 query patterns at runtime.
+ *
+ * Installed as Hibernate's statement inspector, it sees every SQL statement and counts it by
+ * {@link SqlShape} in a {@link QueryScope} per HTTP request (opened by {@link NPlusOneFilter})
+ * and per Spring transaction. When a scope ends, single-key fetches of one shape repeated more
+ * than {@code threshold} times are reported as the {@code db.n_plus_one} counter and a warning
+ * tagged with the endpoint and table. Statement counts per scope go to {@code db.scope.statements}.
+ * In {@code fail} mode, meant for tests, a finding in a transaction also fails it before it
+ * commits; request scopes end after the response is written and are only reported. Tests assert
+ * on their own {@link QueryScope} instead.
+ */
+@Component
+@ConditionalOnProperty(name = "app.db.n-plus-one.enabled", havingValue = "true")
+public class NPlusOneDetector implements StatementInspector {
+
+    private static final Logger log = LoggerFactory.getLogger(NPlusOneDetector.class);
+
+    private static final int MAX_CACHED_SHAPES = 10_000;
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final int threshold;
+    private final boolean failOnDetection;
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NPlusOneDetector(ObjectProvider<MeterRegistry> registry,
+                            @Value("${app.db.n-plus-one.threshold}") int threshold,
+                            @Value("${app.db.n-plus-one.mode}") String mode) {
+        if (!mode.equals("log") && !mode.equals("fail")) {
+            throw new IllegalArgumentException("app.db.n-plus-one.mode must be log or fail, got " + mode);
+        }
+        this.registry = registry;
+        this.threshold = threshold;
+        this.failOnDetection = mode.equals("fail");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.getResource(this) == null) {
+            TransactionScope transaction = new TransactionScope(QueryScope.open("transaction"));
+            TransactionSynchronizationManager.bindResource(this, transaction);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        QueryScope.record(shapeOf(sql));
+        return sql;
+    }
+
+    /**
+     * Reports the repeated fetches of a finished scope and, in {@code fail} mode, throws when
+     * {@code mayFail} is set.
+     */
+    void evaluate(QueryScope queries, String endpoint, boolean mayFail) {
+        MeterRegistry meterRegistry = registry.getIfAvailable();
+        if (meterRegistry != null) {
+            meterRegistry.summary("db.scope.statements", "scope", queries.getName(), "endpoint", endpoint)
+                    .record(queries.getStatementCount());
+        }
+
+        List<QueryScope.RepeatedFetch> repeated = queries.repeatedFetches(threshold);
+        for (QueryScope.RepeatedFetch fetch : repeated) {
+            if (meterRegistry != null) {
+                meterRegistry.counter("db.n_plus_one", "scope", queries.getName(), "endpoint", endpoint,
+                        "table", fetch.table()).increment();
+            }
+            log.atWarn()
+                    .addKeyValue("scope", queries.getName())
+                    .addKeyValue("endpoint", endpoint)
+                    .addKeyValue("table", fetch.table())
+                    .addKeyValue("count", fetch.count())
+                    .addKeyValue("statements", queries.getStatementCount())
+                    .addKeyValue("sql", fetch.shape())
+                    .log("Possible N+1 query in {} {}: {} fetches from {} with the same shape",
+                            queries.getName(), endpoint, fetch.count(), fetch.table());
+        }
+        if (failOnDetection && mayFail && !repeated.isEmpty()) {
+            throw new IllegalStateException("N+1 queries in " + queries.getName() + " " + endpoint + ": "
+                    + QueryScope.describe(repeated));
+        }
+    }
+
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+    }
+
+    // Helper methods
+    private String shapeOf(String sql) {
+        String shape = shapes.get(sql);
+        if (shape == null) {
+            shape = SqlShape.normalize(sql);
+            if (shapes.size() < MAX_CACHED_SHAPES) {
+                shapes.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                ? endpoint(servletAttributes.getRequest())
+                : "background";
+    }
+
+    /**
+     * Query scope of one transaction. Suspended with the transaction, so statements of an inner
+     * {@code REQUIRES_NEW} transaction are only counted in that transaction's own scope.
+     */
+    private final class TransactionScope implements TransactionSynchronization {
+
+        private final QueryScope queries;
+        private boolean evaluated;
+
+        TransactionScope(QueryScope queries) {
+            this.queries = queries;
+        }
+
+        @Override
+        public void suspend() {
+            queries.suspend();
+            TransactionSynchronizationManager.unbindResource(NPlusOneDetector.this);
+        }
+
+        @Override
+        public void resume() {
+            queries.resume();
+            TransactionSynchronizationManager.bindResource(NPlusOneDetector.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Exceptions thrown here roll the transaction back and reach the caller
+            if (failOnDetection) {
+                evaluated = true;
+                evaluate(queries, currentEndpoint(), true);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(NPlusOneDetector.this);
+            queries.close();
+            if (!evaluated) {
+                evaluate(queries, currentEndpoint(), false);
+            }
+        }
+    }
+}
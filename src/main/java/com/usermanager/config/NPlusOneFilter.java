@@ -0,0 +1,35 @@
+package com.usermanager.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens the request's {@link QueryScope} and hands it to {@link NPlusOneDetector} when the
+ * request is done. By then the response may already be committed, so findings are only
+ * reported and never fail the request.
+ */
+class NPlusOneFilter extends OncePerRequestFilter {
+
+    private final NPlusOneDetector detector;
+
+    NPlusOneFilter(NPlusOneDetector detector) {
+        this.detector = detector;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryScope queries = QueryScope.open("request");
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            queries.close();
+        }
+        detector.evaluate(queries, NPlusOneDetector.endpoint(request), false);
+    }
+}
@@ -0,0 +1,129 @@
+package com.usermanager.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the SQL statements issued on the current thread while it is open, grouped by
+ * {@link SqlShape}. Scopes nest and every open scope sees each statement. Requests and
+ * transactions get one from {@link NPlusOneDetector}; tests can open their own to assert on the
+ * statements a call issues:
+ *
+ * <pre>
+ * try (QueryScope queries = QueryScope.open("list users")) {
+ *     userService.getAllUsers(PageRequest.of(0, 20));
+ *     queries.assertNoRepeatedFetches(1);
+ *     queries.assertStatementsAtMost(2);
+ * }
+ * </pre>
+ *
+ * Statements are only seen while the detector is enabled ({@code app.db.n-plus-one.enabled}).
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private static final ThreadLocal<List<QueryScope>> OPEN = new ThreadLocal<>();
+
+    private final String name;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int statements;
+    private boolean suspended;
+
+    private QueryScope(String name) {
+        this.name = name;
+    }
+
+    public static QueryScope open(String name) {
+        List<QueryScope> open = OPEN.get();
+        if (open == null) {
+            open = new ArrayList<>(2);
+            OPEN.set(open);
+        }
+        QueryScope scope = new QueryScope(name);
+        open.add(scope);
+        return scope;
+    }
+
+    static void record(String shape) {
+        List<QueryScope> open = OPEN.get();
+        if (open == null) {
+            return;
+        }
+        for (QueryScope scope : open) {
+            if (!scope.suspended) {
+                scope.statements++;
+                scope.shapes.merge(shape, 1, Integer::sum);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatementCount() {
+        return statements;
+    }
+
+    public Map<String, Integer> getShapes() {
+        return Collections.unmodifiableMap(shapes);
+    }
+
+    /**
+     * Single-key fetches executed more than {@code threshold} times with the same shape, most
+     * repeated first.
+     */
+    public List<RepeatedFetch> repeatedFetches(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() > threshold && SqlShape.isSingleKeyFetch(entry.getKey()))
+                .map(entry -> new RepeatedFetch(entry.getKey(), SqlShape.table(entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparingInt(RepeatedFetch::count).reversed())
+                .toList();
+    }
+
+    public void assertNoRepeatedFetches(int threshold) {
+        List<RepeatedFetch> repeated = repeatedFetches(threshold);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("N+1 queries in " + name + ": " + describe(repeated));
+        }
+    }
+
+    public void assertStatementsAtMost(int max) {
+        if (statements > max) {
+            throw new AssertionError(name + " issued " + statements + " statements, expected at most " + max
+                    + ": " + shapes);
+        }
+    }
+
+    static String describe(List<RepeatedFetch> repeated) {
+        return repeated.stream()
+                .map(fetch -> fetch.count() + "x [" + fetch.shape() + "]")
+                .collect(Collectors.joining("; "));
+    }
+
+    void suspend() {
+        suspended = true;
+    }
+
+    void resume() {
+        suspended = false;
+    }
+
+    @Override
+    public void close() {
+        List<QueryScope> open = OPEN.get();
+        if (open != null) {
+            open.remove(this);
+            if (open.isEmpty()) {
+                OPEN.remove();
+            }
+        }
+    }
+
+    public record RepeatedFetch(String shape, String table, int count) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.usermanager.config;
+
+/**
+ * Database work done while handling the current HTTP request. Filled from Hibernate session and
+ * load events on the request thread and read by {@link DbStatsFilter} when the request ends.
+ */
+final class RequestDbStats {
+
+    private static final ThreadLocal<RequestDbStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long dbNanos;
+    private long entityLoads;
+    private long entityFetches;
+    private long collectionFetches;
+    private long flushes;
+
+    static RequestDbStats start() {
+        RequestDbStats stats = new RequestDbStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void finish() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats of the request handled by this thread, or {@code null} outside of a request, e.g. in
+     * scheduled jobs.
+     */
+    static RequestDbStats current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        dbNanos += nanos;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void entityFetched() {
+        entityFetches++;
+    }
+
+    void collectionFetched() {
+        collectionFetches++;
+    }
+
+    void flushed() {
+        flushes++;
+    }
+
+    long getStatements() {
+        return statements;
+    }
+
+    long getDbNanos() {
+        return dbNanos;
+    }
+
+    long getEntityLoads() {
+        return entityLoads;
+    }
+
+    long getEntityFetches() {
+        return entityFetches;
+    }
+
+    long getCollectionFetches() {
+        return collectionFetches;
+    }
+
+    long getFlushes() {
+        return flushes;
+    }
+}
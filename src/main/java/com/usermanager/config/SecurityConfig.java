@@ -91,6 +91,9 @@ public class SecurityConfig {
                 // User profile management
                 .requestMatchers("/profiles/**").authenticated()
                 
+                // Dashboard statistics
+                .requestMatchers("/stats/**").hasAnyRole("ADMIN", "USER_MANAGER")
+                
                 // Default: require authentication
                 .anyRequest().authenticated()
             )
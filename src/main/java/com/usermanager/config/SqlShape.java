@@ -0,0 +1,43 @@
+package com.usermanager.config;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes SQL into a shape that is the same for every execution of one query: literals become
+ * {@code ?}, {@code IN} lists collapse to a single placeholder and whitespace and case are folded.
+ */
+final class SqlShape {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern KEY_PREDICATE = Pattern.compile("[\\w.]+\\s*=\\s*\\?");
+    private static final Pattern TABLE = Pattern.compile("\\bfrom\\s+([\\w.]+)");
+
+    private SqlShape() {
+    }
+
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+
+    /**
+     * Whether a shape looks up rows by a single key, such as a lazy association or an entity by
+     * id. Executed many times in one unit of work, these are the statements of an N+1 pattern.
+     */
+    static boolean isSingleKeyFetch(String shape) {
+        return shape.startsWith("select ")
+                && shape.indexOf('?') == shape.lastIndexOf('?')
+                && KEY_PREDICATE.matcher(shape).find();
+    }
+
+    static String table(String shape) {
+        Matcher matcher = TABLE.matcher(shape);
+        return matcher.find() ? matcher.group(1) : "unknown";
+    }
+}
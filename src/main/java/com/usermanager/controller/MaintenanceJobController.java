@@ -0,0 +1,107 @@
+package com.usermanager.controller;
+
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.dto.MaintenanceJobDto;
+import com.usermanager.dto.MaintenanceJobItemDto;
+import com.usermanager.dto.MaintenanceJobRequest;
+import com.usermanager.service.MaintenanceJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/users/maintenance/jobs")
+@Tag(name = "User Maintenance Jobs", description = "API for batch maintenance jobs over users")
+public class MaintenanceJobController {
+
+    private final MaintenanceJobService maintenanceJobService;
+
+    @Autowired
+    public MaintenanceJobController(MaintenanceJobService maintenanceJobService) {
+        this.maintenanceJobService = maintenanceJobService;
+    }
+
+    @Operation(summary = "Start a maintenance job",
+               description = "Processes the users matched by the query in chunks and applies the action to each chunk. " +
+                             "Progress is checkpointed, so the job resumes after a restart")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job accepted"),
+        @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<MaintenanceJobDto> createJob(@Valid @RequestBody MaintenanceJobRequest request,
+                                                       Authentication authentication) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(maintenanceJobService.createJob(request, authentication.getName()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Get maintenance jobs, most recent first")
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<Page<MaintenanceJobDto>> getJobs(@PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(maintenanceJobService.getJobs(pageable));
+    }
+
+    @Operation(summary = "Get maintenance job progress")
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<MaintenanceJobDto> getJob(@PathVariable UUID id) {
+        try {
+            return ResponseEntity.ok(maintenanceJobService.getJob(id));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Get the users matched by a maintenance job")
+    @GetMapping("/{id}/items")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<KeysetSlice<MaintenanceJobItemDto>> getJobItems(
+            @PathVariable UUID id,
+            @Parameter(description = "Cursor returned by the previous slice") @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            return ResponseEntity.ok(maintenanceJobService.getJobItems(id, after, size));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Cancel a maintenance job", description = "Chunks already processed are kept")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Job cancelled"),
+        @ApiResponse(responseCode = "404", description = "Job not found"),
+        @ApiResponse(responseCode = "409", description = "Job already finished")
+    })
+    @PostMapping("/{id}/cancel")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<Void> cancelJob(@PathVariable UUID id) {
+        try {
+            return maintenanceJobService.cancelJob(id)
+                    ? ResponseEntity.noContent().build()
+                    : ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
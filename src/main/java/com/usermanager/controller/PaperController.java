@@ -0,0 +1,315 @@
+package com.usermanager.controller;
+
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.dto.PaperContentHitDto;
+import com.usermanager.dto.PaperDto;
+import com.usermanager.dto.PaperLeaderboardDto;
+import com.usermanager.dto.PaperTagSearchResult;
+import com.usermanager.dto.PaperVersionRequest;
+import com.usermanager.index.PaperTagQuery;
+import com.usermanager.service.PaperService;
+import com.usermanager.service.PaperVersionService;
+import com.usermanager.stats.LeaderboardMetric;
+import com.usermanager.stats.LeaderboardWindow;
+import com.usermanager.storage.PaperContentResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/papers")
+@Tag(name = "Paper Management", description = "API for managing papers")
+public class PaperController {
+
+    private final PaperService paperService;
+    private final PaperVersionService paperVersionService;
+
+    @Autowired
+    public PaperController(PaperService paperService, PaperVersionService paperVersionService) {
+        this.paperService = paperService;
+        this.paperVersionService = paperVersionService;
+    }
+
+    @Operation(summary = "Get paper by ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Paper found"),
+        @ApiResponse(responseCode = "404", description = "Paper not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<PaperDto> getPaperById(@PathVariable UUID id, Authentication authentication) {
+        return paperService.getPaperById(id, authentication.getName())
+                .map(paper -> {
+                    paperService.recordView(id, authentication.getName());
+                    return ResponseEntity.ok(paper);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Download paper content", description = "Supports HTTP range requests")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Content returned"),
+        @ApiResponse(responseCode = "206", description = "Requested range returned"),
+        @ApiResponse(responseCode = "404", description = "Paper or content not found")
+    })
+    @GetMapping("/{id}/content")
+    public ResponseEntity<Resource> downloadContent(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            Authentication authentication) {
+        try {
+            PaperContentResource content = paperService.getContent(id, authentication.getName());
+            // Follow-up range requests of the same download are not counted again
+            if (range == null || range.startsWith("bytes=0-")) {
+                paperService.recordDownload(id, authentication.getName());
+            }
+            ContentDisposition disposition = ContentDisposition.attachment()
+                    .filename(content.getFilename() != null ? content.getFilename() : id.toString(), StandardCharsets.UTF_8)
+                    .build();
+            return ResponseEntity.ok()
+                    .contentType(mediaTypeOf(content.getMimeType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                    .body(content);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Update paper")
+    @PutMapping("/{id}")
+    public ResponseEntity<PaperDto> updatePaper(@PathVariable UUID id, @Valid @RequestBody PaperDto paperDto,
+                                                Authentication authentication) {
+        try {
+            return ResponseEntity.ok(paperService.updatePaper(id, paperDto, authentication.getName()));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Publish paper")
+    @PostMapping("/{id}/publish")
+    public ResponseEntity<Void> publishPaper(@PathVariable UUID id, Authentication authentication) {
+        try {
+            paperService.publishPaper(id, authentication.getName());
+            return ResponseEntity.ok().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Archive paper")
+    @PostMapping("/{id}/archive")
+    public ResponseEntity<Void> archivePaper(@PathVariable UUID id, Authentication authentication) {
+        try {
+            paperService.archivePaper(id, authentication.getName());
+            return ResponseEntity.ok().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Get published papers", description = "Returned in index order; sort is not supported")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Papers returned"),
+        @ApiResponse(responseCode = "400", description = "A sort was requested")
+    })
+    @GetMapping("/published")
+    public ResponseEntity<Page<PaperDto>> getPublishedPapers(@PageableDefault(size = 20) Pageable pageable,
+                                                             Authentication authentication) {
+        try {
+            return ResponseEntity.ok(paperService.getPublishedPapers(authentication.getName(), pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Add tag to paper")
+    @PostMapping("/{id}/tags/{tag}")
+    public ResponseEntity<Void> addTag(@PathVariable UUID id, @PathVariable String tag,
+                                       Authentication authentication) {
+        try {
+            paperService.addTag(id, tag, authentication.getName());
+            return ResponseEntity.ok().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Remove tag from paper")
+    @DeleteMapping("/{id}/tags/{tag}")
+    public ResponseEntity<Void> removeTag(@PathVariable UUID id, @PathVariable String tag,
+                                          Authentication authentication) {
+        try {
+            paperService.removeTag(id, tag, authentication.getName());
+            return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Search papers by tags with facet counts")
+    @GetMapping("/search/tags")
+    public ResponseEntity<PaperTagSearchResult> searchByTags(
+            @Parameter(description = "Papers must have all of these tags") @RequestParam(required = false) Set<String> all,
+            @Parameter(description = "Papers must have at least one of these tags") @RequestParam(required = false) Set<String> any,
+            @RequestParam(required = false) PaperStatus status,
+            @RequestParam(required = false) PaperType type,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "false") boolean latestOnly,
+            @Parameter(description = "Maximum number of tag and category facets") @RequestParam(defaultValue = "20") int facetLimit,
+            @PageableDefault(size = 20) Pageable pageable,
+            Authentication authentication) {
+        PaperTagQuery query = new PaperTagQuery(all, any, status, type, category, latestOnly);
+        try {
+            return ResponseEntity.ok(paperService.searchByTags(authentication.getName(), query, pageable, facetLimit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "List papers visible to the current user")
+    @GetMapping("/visible")
+    public ResponseEntity<PaperTagSearchResult> getVisiblePapers(
+            @Parameter(description = "Papers must have all of these tags") @RequestParam(required = false) Set<String> all,
+            @Parameter(description = "Papers must have at least one of these tags") @RequestParam(required = false) Set<String> any,
+            @RequestParam(defaultValue = "PUBLISHED") PaperStatus status,
+            @RequestParam(required = false) PaperType type,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "true") boolean latestOnly,
+            @Parameter(description = "Maximum number of tag and category facets") @RequestParam(defaultValue = "20") int facetLimit,
+            @PageableDefault(size = 20) Pageable pageable,
+            Authentication authentication) {
+        PaperTagQuery query = new PaperTagQuery(all, any, status, type, category, latestOnly);
+        try {
+            return ResponseEntity.ok(paperService.getVisiblePapers(authentication.getName(), query, pageable, facetLimit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Full-text search over paper metadata and file content")
+    @GetMapping("/search/content")
+    public ResponseEntity<Page<PaperContentHitDto>> searchContent(
+            @Parameter(description = "Search text") @RequestParam String q,
+            @RequestParam(required = false) PaperStatus status,
+            @RequestParam(required = false) PaperType type,
+            @RequestParam(defaultValue = "true") boolean latestOnly,
+            @PageableDefault(size = 20) Pageable pageable,
+            Authentication authentication) {
+        try {
+            return ResponseEntity.ok(paperService.searchContent(authentication.getName(), q, status, type, latestOnly,
+                    pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Rebuild the paper content index")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Rebuild started"),
+        @ApiResponse(responseCode = "409", description = "Rebuild already running")
+    })
+    @PostMapping("/search/content/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildContentIndex() {
+        return paperService.rebuildContentIndex()
+                ? ResponseEntity.accepted().build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @Operation(summary = "Get paper leaderboard")
+    @GetMapping("/leaderboards/{metric}")
+    public ResponseEntity<PaperLeaderboardDto> getLeaderboard(
+            @PathVariable LeaderboardMetric metric,
+            @RequestParam(defaultValue = "ALL_TIME") LeaderboardWindow window,
+            @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication) {
+        return ResponseEntity.ok(paperService.getLeaderboard(authentication.getName(), metric, window, limit));
+    }
+
+    @Operation(summary = "Create a new version of a paper")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Version created successfully"),
+        @ApiResponse(responseCode = "404", description = "Paper not found")
+    })
+    @PostMapping(value = "/{id}/versions", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PaperDto> createVersion(
+            @PathVariable UUID id,
+            @Valid @RequestPart(value = "metadata", required = false) PaperVersionRequest request,
+            @RequestPart(value = "file", required = false) MultipartFile file,
+            Authentication authentication) throws IOException {
+        try (InputStream content = file != null ? file.getInputStream() : null) {
+            PaperDto version = paperVersionService.createNewVersion(id, request, content,
+                    file != null ? file.getOriginalFilename() : null,
+                    file != null ? file.getContentType() : null,
+                    authentication.getName());
+            return new ResponseEntity<>(version, HttpStatus.CREATED);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Get the latest version of a paper")
+    @GetMapping("/{id}/versions/latest")
+    public ResponseEntity<PaperDto> getLatestVersion(@PathVariable UUID id, Authentication authentication) {
+        return paperVersionService.getLatestVersion(id, authentication.getName())
+                .map(paper -> ResponseEntity.ok(paper))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Get the version history of a paper")
+    @GetMapping("/{id}/versions")
+    public ResponseEntity<KeysetSlice<PaperDto>> getVersionHistory(
+            @PathVariable UUID id,
+            @Parameter(description = "Cursor returned by the previous slice") @RequestParam(required = false) Integer before,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        try {
+            return ResponseEntity.ok(paperVersionService.getVersionHistory(id, before, size, authentication.getName()));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // Helper methods
+    private static MediaType mediaTypeOf(String mimeType) {
+        if (mimeType == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(mimeType);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
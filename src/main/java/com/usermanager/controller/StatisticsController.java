@@ -0,0 +1,77 @@
+package com.usermanager.controller;
+
+import com.usermanager.domain.enums.ActivityMetric;
+import com.usermanager.domain.enums.RollupGranularity;
+import com.usermanager.dto.ActiveUsersDto;
+import com.usermanager.dto.ActivitySeriesDto;
+import com.usermanager.dto.StatisticsOverviewDto;
+import com.usermanager.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/stats")
+@Tag(name = "Statistics", description = "API for dashboard statistics")
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    @Autowired
+    public StatisticsController(StatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    @Operation(summary = "Get dashboard statistics",
+               description = "Counts of active users, papers, screens and profiles, kept up to date in memory")
+    @GetMapping("/overview")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<StatisticsOverviewDto> getOverview() {
+        return ResponseEntity.ok(statisticsService.getOverview());
+    }
+
+    @Operation(summary = "Get user activity time series",
+               description = "Hourly or daily counts of user creations, logins, lockouts and email verifications, " +
+                             "zero-filled over the requested range. Defaults to all metrics over the most recent buckets")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Series retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid range")
+    })
+    @GetMapping("/activity")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<ActivitySeriesDto> getActivitySeries(
+            @RequestParam(required = false) List<ActivityMetric> metrics,
+            @RequestParam(defaultValue = "DAILY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(statisticsService.getActivitySeries(metrics, granularity, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Get active user counts",
+               description = "Approximate distinct users that logged in on a day and in the 7 and 30 days ending on it, " +
+                             "estimated from daily HyperLogLog sketches. Defaults to today")
+    @GetMapping("/active-users")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<ActiveUsersDto> getActiveUsers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean byDepartment) {
+        return ResponseEntity.ok(statisticsService.getActiveUsers(date, byDepartment));
+    }
+}
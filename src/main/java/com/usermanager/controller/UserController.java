@@ -1,6 +1,8 @@
 package com.usermanager.controller;
 
 import com.usermanager.domain.enums.UserStatus;
+import com.usermanager.dto.BulkUserRequest;
+import com.usermanager.dto.BulkUserResultDto;
 import com.usermanager.dto.UserDto;
 import com.usermanager.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -205,6 +207,24 @@ public class UserController {
         }
     }
 
+    @Operation(summary = "Apply a lifecycle operation to many users",
+               description = "Activates, deactivates, locks, unlocks, verifies or soft-deletes the given users, or the " +
+                             "users matching a department/status/role filter, with set-based updates in one transaction. " +
+                             "Returns the outcome for every user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Operation applied"),
+        @ApiResponse(responseCode = "400", description = "Missing ids and filter, or too many users")
+    })
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<BulkUserResultDto> bulkOperation(@Valid @RequestBody BulkUserRequest request) {
+        try {
+            return ResponseEntity.ok(userService.bulkOperation(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "Verify user email")
     @PostMapping("/{id}/verify-email")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
@@ -281,7 +301,8 @@ public class UserController {
         return ResponseEntity.ok(stats);
     }
 
-    @Operation(summary = "Get inactive users")
+    @Operation(summary = "Get inactive users", deprecated = true,
+               description = "Returns every match at once; use the maintenance jobs API for large result sets")
     @GetMapping("/maintenance/inactive")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
     public ResponseEntity<List<UserDto>> getInactiveUsers(@RequestParam int daysSince) {
@@ -290,7 +311,8 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
-    @Operation(summary = "Get unverified users")
+    @Operation(summary = "Get unverified users", deprecated = true,
+               description = "Returns every match at once; use the maintenance jobs API for large result sets")
     @GetMapping("/maintenance/unverified")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
     public ResponseEntity<List<UserDto>> getUnverifiedUsers(@RequestParam int daysSince) {
@@ -299,7 +321,8 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
-    @Operation(summary = "Get locked users")
+    @Operation(summary = "Get locked users", deprecated = true,
+               description = "Returns every match at once; use the maintenance jobs API for large result sets")
     @GetMapping("/maintenance/locked")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
     public ResponseEntity<List<UserDto>> getLockedUsers() {
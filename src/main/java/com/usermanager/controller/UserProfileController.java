@@ -0,0 +1,223 @@
+package com.usermanager.controller;
+
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.dto.ProfileBatchRequest;
+import com.usermanager.dto.UserProfileDto;
+import com.usermanager.index.ProfileAttributeCriterion;
+import com.usermanager.service.UserProfileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/profiles")
+@Tag(name = "User Profile Management", description = "API for managing user profiles")
+public class UserProfileController {
+
+    private static final String ATTRIBUTE_PARAM_PREFIX = "attr.";
+
+    private final UserProfileService userProfileService;
+
+    @Autowired
+    public UserProfileController(UserProfileService userProfileService) {
+        this.userProfileService = userProfileService;
+    }
+
+    @Operation(summary = "Create a new profile")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Profile created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<UserProfileDto> createProfile(@Valid @RequestBody UserProfileDto profileDto) {
+        try {
+            UserProfileDto createdProfile = userProfileService.createProfile(profileDto);
+            return new ResponseEntity<>(createdProfile, HttpStatus.CREATED);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Get profile by ID")
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER', 'USER_VIEWER')")
+    public ResponseEntity<UserProfileDto> getProfileById(@PathVariable UUID id) {
+        return userProfileService.getProfileById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Get profiles of a user")
+    @GetMapping("/user/{userId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER', 'USER_VIEWER')")
+    public ResponseEntity<List<UserProfileDto>> getProfilesByUser(@PathVariable UUID userId) {
+        return ResponseEntity.ok(userProfileService.getProfilesByUser(userId));
+    }
+
+    @Operation(summary = "Get the default profile of a user")
+    @GetMapping("/user/{userId}/default")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER', 'USER_VIEWER')")
+    public ResponseEntity<UserProfileDto> getDefaultProfile(@PathVariable UUID userId) {
+        return userProfileService.getDefaultProfile(userId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Make profile the default of its user")
+    @PostMapping("/{id}/default")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<UserProfileDto> setDefaultProfile(@PathVariable UUID id) {
+        try {
+            return ResponseEntity.ok(userProfileService.setDefaultProfile(id));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Load the profiles of many users",
+               description = "Returns the profiles keyed by user id; only default profiles unless defaultOnly is false")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Profiles keyed by user id"),
+        @ApiResponse(responseCode = "400", description = "Too many user ids")
+    })
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER', 'USER_VIEWER')")
+    public ResponseEntity<Map<UUID, List<UserProfileDto>>> getProfilesByUsers(@Valid @RequestBody ProfileBatchRequest request) {
+        try {
+            return ResponseEntity.ok(userProfileService.getProfilesByUsers(request.userIds(), request.isDefaultOnly()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Update profile")
+    @PutMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<UserProfileDto> updateProfile(@PathVariable UUID id, @Valid @RequestBody UserProfileDto profileDto) {
+        try {
+            return ResponseEntity.ok(userProfileService.updateProfile(id, profileDto));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Delete profile")
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<Void> deleteProfile(@PathVariable UUID id) {
+        try {
+            userProfileService.deleteProfile(id);
+            return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Set profile attribute")
+    @PutMapping("/{id}/attributes/{key}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<UserProfileDto> putAttribute(
+            @PathVariable UUID id,
+            @PathVariable String key,
+            @RequestBody String value) {
+        try {
+            return ResponseEntity.ok(userProfileService.putAttribute(id, key, value));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Remove profile attribute")
+    @DeleteMapping("/{id}/attributes/{key}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<UserProfileDto> removeAttribute(@PathVariable UUID id, @PathVariable String key) {
+        try {
+            return ResponseEntity.ok(userProfileService.removeAttribute(id, key));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Set profile preference")
+    @PutMapping("/{id}/preferences/{key}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<UserProfileDto> putPreference(
+            @PathVariable UUID id,
+            @PathVariable String key,
+            @RequestBody String value) {
+        try {
+            return ResponseEntity.ok(userProfileService.putPreference(id, key, value));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Remove profile preference")
+    @DeleteMapping("/{id}/preferences/{key}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER')")
+    public ResponseEntity<UserProfileDto> removePreference(@PathVariable UUID id, @PathVariable String key) {
+        try {
+            return ResponseEntity.ok(userProfileService.removePreference(id, key));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Find profiles by attribute value")
+    @GetMapping("/attributes")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER', 'USER_VIEWER')")
+    public ResponseEntity<List<UserProfileDto>> findByAttribute(
+            @Parameter(description = "Attribute key") @RequestParam String key,
+            @Parameter(description = "Attribute value") @RequestParam String value) {
+        return ResponseEntity.ok(userProfileService.findByAttribute(key, value));
+    }
+
+    @Operation(summary = "Search profiles by attributes",
+               description = "Every attr.<key>=<value> parameter must match; a value ending in * matches by prefix")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching profiles"),
+        @ApiResponse(responseCode = "400", description = "No attribute criteria given")
+    })
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER', 'USER_VIEWER')")
+    public ResponseEntity<KeysetSlice<UserProfileDto>> searchByAttributes(
+            @Parameter(description = "Attribute criteria, e.g. attr.costCenter=4711 or attr.team=core*")
+            @RequestParam Map<String, String> params,
+            @Parameter(description = "Cursor returned by the previous slice") @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            List<ProfileAttributeCriterion> criteria = params.entrySet().stream()
+                    .filter(param -> param.getKey().startsWith(ATTRIBUTE_PARAM_PREFIX))
+                    .map(param -> ProfileAttributeCriterion.parse(
+                            param.getKey().substring(ATTRIBUTE_PARAM_PREFIX.length()), param.getValue()))
+                    .toList();
+            return ResponseEntity.ok(userProfileService.searchByAttributes(criteria, after, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Find profiles by preference value")
+    @GetMapping("/preferences")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER_MANAGER', 'USER_VIEWER')")
+    public ResponseEntity<List<UserProfileDto>> findByPreference(
+            @Parameter(description = "Preference key") @RequestParam String key,
+            @Parameter(description = "Preference value") @RequestParam String value) {
+        return ResponseEntity.ok(userProfileService.findByPreference(key, value));
+    }
+}
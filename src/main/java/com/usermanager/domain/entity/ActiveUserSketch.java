@@ -0,0 +1,85 @@
+package com.usermanager.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Serialized {@code HyperLogLog} of the users of one department that logged in on one day.
+ */
+@Entity
+@Table(name = "active_user_sketches")
+public class ActiveUserSketch {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "registers", nullable = false)
+    private byte[] registers;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    protected ActiveUserSketch() {}
+
+    // Getters and Setters
+    public Key getKey() {
+        return key;
+    }
+
+    public byte[] getRegisters() {
+        return registers;
+    }
+
+    public void setRegisters(byte[] registers) {
+        this.registers = registers;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "day", nullable = false)
+        private LocalDate day;
+
+        @Column(name = "department", nullable = false, length = 100)
+        private String department;
+
+        // Constructors
+        protected Key() {}
+
+        public Key(LocalDate day, String department) {
+            this.day = day;
+            this.department = department;
+        }
+
+        // Getters and Setters
+        public LocalDate getDay() {
+            return day;
+        }
+
+        public String getDepartment() {
+            return department;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(day, that.day) && Objects.equals(department, that.department);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(day, department);
+        }
+    }
+}
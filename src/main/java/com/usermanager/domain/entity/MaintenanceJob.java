@@ -0,0 +1,186 @@
+package com.usermanager.domain.entity;
+
+import com.usermanager.domain.enums.MaintenanceAction;
+import com.usermanager.domain.enums.MaintenanceJobStatus;
+import com.usermanager.domain.enums.MaintenanceQuery;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "maintenance_jobs")
+public class MaintenanceJob extends BaseEntity {
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "query_type", nullable = false, length = 40)
+    private MaintenanceQuery query;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 20)
+    private MaintenanceAction action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private MaintenanceJobStatus status = MaintenanceJobStatus.PENDING;
+
+    @Column(name = "cutoff")
+    private LocalDateTime cutoff;
+
+    @Column(name = "max_login_attempts")
+    private Integer maxLoginAttempts;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    // Checkpoint: every matching user with a smaller id has been processed
+    @Column(name = "last_user_id")
+    private UUID lastUserId;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount = 0L;
+
+    @Column(name = "affected_count", nullable = false)
+    private Long affectedCount = 0L;
+
+    @Column(name = "requested_by", length = 100)
+    private String requestedBy;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    // Constructors
+    public MaintenanceJob() {}
+
+    public MaintenanceJob(MaintenanceQuery query, MaintenanceAction action, int chunkSize) {
+        this.query = query;
+        this.action = action;
+        this.chunkSize = chunkSize;
+    }
+
+    // Business methods
+    public boolean isFinished() {
+        return status == MaintenanceJobStatus.COMPLETED
+                || status == MaintenanceJobStatus.FAILED
+                || status == MaintenanceJobStatus.CANCELLED;
+    }
+
+    public void start() {
+        if (startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+        status = MaintenanceJobStatus.RUNNING;
+    }
+
+    public void checkpoint(UUID lastUserId, int processed, int affected) {
+        this.lastUserId = lastUserId;
+        this.processedCount += processed;
+        this.affectedCount += affected;
+    }
+
+    public void complete() {
+        finish(MaintenanceJobStatus.COMPLETED);
+    }
+
+    public void cancel() {
+        finish(MaintenanceJobStatus.CANCELLED);
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+        finish(MaintenanceJobStatus.FAILED);
+    }
+
+    private void finish(MaintenanceJobStatus status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public MaintenanceQuery getQuery() {
+        return query;
+    }
+
+    public void setQuery(MaintenanceQuery query) {
+        this.query = query;
+    }
+
+    public MaintenanceAction getAction() {
+        return action;
+    }
+
+    public void setAction(MaintenanceAction action) {
+        this.action = action;
+    }
+
+    public MaintenanceJobStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCutoff() {
+        return cutoff;
+    }
+
+    public void setCutoff(LocalDateTime cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    public Integer getMaxLoginAttempts() {
+        return maxLoginAttempts;
+    }
+
+    public void setMaxLoginAttempts(Integer maxLoginAttempts) {
+        this.maxLoginAttempts = maxLoginAttempts;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public UUID getLastUserId() {
+        return lastUserId;
+    }
+
+    public Long getProcessedCount() {
+        return processedCount;
+    }
+
+    public Long getAffectedCount() {
+        return affectedCount;
+    }
+
+    public String getRequestedBy() {
+        return requestedBy;
+    }
+
+    public void setRequestedBy(String requestedBy) {
+        this.requestedBy = requestedBy;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
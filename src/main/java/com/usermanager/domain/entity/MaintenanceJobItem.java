@@ -0,0 +1,88 @@
+package com.usermanager.domain.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A user matched by a {@link MaintenanceJob}. {@code affected} tells whether the job's action
+ * changed or notified the user; REPORT jobs only record matches. Rows are only written through
+ * {@code MaintenanceJobRepository.insertItems}.
+ */
+@Entity
+@Table(name = "maintenance_job_items")
+public class MaintenanceJobItem {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "username", nullable = false, length = 100)
+    private String username;
+
+    @Column(name = "email", nullable = false, length = 255)
+    private String email;
+
+    @Column(name = "affected", nullable = false)
+    private Boolean affected;
+
+    // Constructors
+    protected MaintenanceJobItem() {}
+
+    // Getters and Setters
+    public Key getKey() {
+        return key;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isAffected() {
+        return Boolean.TRUE.equals(affected);
+    }
+
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "job_id", nullable = false)
+        private UUID jobId;
+
+        @Column(name = "user_id", nullable = false)
+        private UUID userId;
+
+        // Constructors
+        protected Key() {}
+
+        public Key(UUID jobId, UUID userId) {
+            this.jobId = jobId;
+            this.userId = userId;
+        }
+
+        // Getters and Setters
+        public UUID getJobId() {
+            return jobId;
+        }
+
+        public UUID getUserId() {
+            return userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(jobId, that.jobId) && Objects.equals(userId, that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobId, userId);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 
 @Entity
 @Table(name = "papers", indexes = {
@@ -16,7 +17,9 @@ import java.util.Set;
     @Index(name = "idx_paper_type", columnList = "type"),
     @Index(name = "idx_paper_status", columnList = "status"),
     @Index(name = "idx_paper_category", columnList = "category"),
-    @Index(name = "idx_paper_created_by", columnList = "created_by")
+    @Index(name = "idx_paper_created_by", columnList = "created_by"),
+    @Index(name = "idx_paper_content_hash", columnList = "content_hash"),
+    @Index(name = "idx_paper_parent_version", columnList = "parent_paper_id, version_number DESC")
 })
 public class Paper extends BaseEntity {
 
@@ -55,9 +58,15 @@ public class Paper extends BaseEntity {
     @Column(name = "file_size")
     private Long fileSize;
 
+    @Column(name = "stored_file_size")
+    private Long storedFileSize; // Bytes on disk after compression
+
     @Column(name = "mime_type", length = 100)
     private String mimeType;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "version_number", nullable = false)
     private Integer versionNumber = 1;
 
@@ -65,7 +74,7 @@ public class Paper extends BaseEntity {
     private Boolean isLatestVersion = true;
 
     @Column(name = "parent_paper_id")
-    private String parentPaperId; // For versioning
+    private UUID parentPaperId; // First version of the chain, null for the first version itself
 
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
@@ -157,6 +166,14 @@ public class Paper extends BaseEntity {
         return Boolean.TRUE.equals(isLatestVersion);
     }
 
+    public boolean hasContent() {
+        return contentHash != null;
+    }
+
+    public UUID getVersionChainId() {
+        return parentPaperId != null ? parentPaperId : getId();
+    }
+
     public void addTag(String tag) {
         this.tags.add(tag.toLowerCase());
     }
@@ -246,6 +263,14 @@ public class Paper extends BaseEntity {
         this.fileSize = fileSize;
     }
 
+    public Long getStoredFileSize() {
+        return storedFileSize;
+    }
+
+    public void setStoredFileSize(Long storedFileSize) {
+        this.storedFileSize = storedFileSize;
+    }
+
     public String getMimeType() {
         return mimeType;
     }
@@ -254,6 +279,14 @@ public class Paper extends BaseEntity {
         this.mimeType = mimeType;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public Integer getVersionNumber() {
         return versionNumber;
     }
@@ -270,11 +303,11 @@ public class Paper extends BaseEntity {
         this.isLatestVersion = isLatestVersion;
     }
 
-    public String getParentPaperId() {
+    public UUID getParentPaperId() {
         return parentPaperId;
     }
 
-    public void setParentPaperId(String parentPaperId) {
+    public void setParentPaperId(UUID parentPaperId) {
         this.parentPaperId = parentPaperId;
     }
 
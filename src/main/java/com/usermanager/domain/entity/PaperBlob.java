@@ -0,0 +1,118 @@
+package com.usermanager.domain.entity;
+
+import com.usermanager.domain.enums.BlobCompression;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Entity
+@Table(name = "paper_blobs", indexes = {
+    @Index(name = "idx_paper_blob_content_hash", columnList = "content_hash", unique = true)
+})
+public class PaperBlob extends BaseEntity {
+
+    @NotBlank
+    @Size(max = 64)
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "stored_size", nullable = false)
+    private Long storedSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "compression", nullable = false, length = 20)
+    private BlobCompression compression = BlobCompression.NONE;
+
+    @Column(name = "mime_type", length = 100)
+    private String mimeType;
+
+    @NotBlank
+    @Column(name = "storage_path", nullable = false, length = 500)
+    private String storagePath;
+
+    @Column(name = "reference_count", nullable = false)
+    private Integer referenceCount = 0;
+
+    // Constructors
+    public PaperBlob() {
+        super();
+    }
+
+    public PaperBlob(String contentHash, Long sizeBytes, String mimeType, String storagePath) {
+        this();
+        this.contentHash = contentHash;
+        this.sizeBytes = sizeBytes;
+        this.storedSize = sizeBytes;
+        this.mimeType = mimeType;
+        this.storagePath = storagePath;
+    }
+
+    // Business methods
+    public boolean isReferenced() {
+        return referenceCount != null && referenceCount > 0;
+    }
+
+    public boolean isCompressed() {
+        return compression != BlobCompression.NONE;
+    }
+
+    // Getters and Setters
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public Long getStoredSize() {
+        return storedSize;
+    }
+
+    public void setStoredSize(Long storedSize) {
+        this.storedSize = storedSize;
+    }
+
+    public BlobCompression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(BlobCompression compression) {
+        this.compression = compression;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public String getStoragePath() {
+        return storagePath;
+    }
+
+    public void setStoragePath(String storagePath) {
+        this.storagePath = storagePath;
+    }
+
+    public Integer getReferenceCount() {
+        return referenceCount;
+    }
+
+    public void setReferenceCount(Integer referenceCount) {
+        this.referenceCount = referenceCount;
+    }
+}
@@ -130,6 +130,15 @@ public class User extends BaseEntity {
         this.status = UserStatus.ACTIVE;
     }
 
+    // Clears a lock that ran out; other statuses set while locked are kept
+    public void expireLock() {
+        this.lockedUntil = null;
+        this.loginAttempts = 0;
+        if (this.status == UserStatus.LOCKED) {
+            this.status = UserStatus.ACTIVE;
+        }
+    }
+
     public void incrementLoginAttempts() {
         this.loginAttempts++;
     }
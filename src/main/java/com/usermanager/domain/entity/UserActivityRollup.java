@@ -0,0 +1,86 @@
+package com.usermanager.domain.entity;
+
+import com.usermanager.domain.enums.ActivityMetric;
+import com.usermanager.domain.enums.RollupGranularity;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Number of {@link ActivityMetric} events in one hourly or daily bucket. Rows are only written
+ * through the additive upserts of {@code UserActivityRollupRepository}.
+ */
+@Entity
+@Table(name = "user_activity_rollups")
+public class UserActivityRollup {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount = 0L;
+
+    // Constructors
+    protected UserActivityRollup() {}
+
+    // Getters and Setters
+    public Key getKey() {
+        return key;
+    }
+
+    public Long getEventCount() {
+        return eventCount;
+    }
+
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "metric", nullable = false, length = 20)
+        private ActivityMetric metric;
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", nullable = false, length = 10)
+        private RollupGranularity granularity;
+
+        @Column(name = "bucket_start", nullable = false)
+        private LocalDateTime bucketStart;
+
+        // Constructors
+        protected Key() {}
+
+        public Key(ActivityMetric metric, RollupGranularity granularity, LocalDateTime bucketStart) {
+            this.metric = metric;
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+        }
+
+        // Getters and Setters
+        public ActivityMetric getMetric() {
+            return metric;
+        }
+
+        public RollupGranularity getGranularity() {
+            return granularity;
+        }
+
+        public LocalDateTime getBucketStart() {
+            return bucketStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return metric == that.metric && granularity == that.granularity
+                    && Objects.equals(bucketStart, that.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metric, granularity, bucketStart);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.usermanager.domain.enums.ProfileType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -73,6 +75,15 @@ public class UserProfile extends BaseEntity {
     @Column(name = "context", length = 100)
     private String context; // e.g., department, project, role context
 
+    // JSONB copies of attributes and preferences, null until backfilled (see ProfileAttributeStore)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "attributes_doc", columnDefinition = "jsonb")
+    private Map<String, String> attributesDoc;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "preferences_doc", columnDefinition = "jsonb")
+    private Map<String, String> preferencesDoc;
+
     // Constructors
     public UserProfile() {
         super();
@@ -235,4 +246,20 @@ public class UserProfile extends BaseEntity {
     public void setContext(String context) {
         this.context = context;
     }
+
+    public Map<String, String> getAttributesDoc() {
+        return attributesDoc;
+    }
+
+    public void setAttributesDoc(Map<String, String> attributesDoc) {
+        this.attributesDoc = attributesDoc;
+    }
+
+    public Map<String, String> getPreferencesDoc() {
+        return preferencesDoc;
+    }
+
+    public void setPreferencesDoc(Map<String, String> preferencesDoc) {
+        this.preferencesDoc = preferencesDoc;
+    }
 }
\ No newline at end of file
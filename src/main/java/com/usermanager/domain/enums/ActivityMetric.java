@@ -0,0 +1,23 @@
+package com.usermanager.domain.enums;
+
+public enum ActivityMetric {
+    CREATIONS("User creations"),
+    LOGINS("Logins"),
+    LOCKOUTS("Lockouts"),
+    VERIFICATIONS("Email verifications");
+
+    private final String displayName;
+
+    ActivityMetric(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,21 @@
+package com.usermanager.domain.enums;
+
+public enum BlobCompression {
+    NONE("None"),
+    ZSTD_SEEKABLE("Zstandard (seekable)");
+
+    private final String displayName;
+
+    BlobCompression(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,25 @@
+package com.usermanager.domain.enums;
+
+public enum BulkUserOperation {
+    ACTIVATE("Activate"),
+    DEACTIVATE("Deactivate"),
+    LOCK("Lock"),
+    UNLOCK("Unlock"),
+    VERIFY_EMAIL("Verify email"),
+    SOFT_DELETE("Soft delete");
+
+    private final String displayName;
+
+    BulkUserOperation(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
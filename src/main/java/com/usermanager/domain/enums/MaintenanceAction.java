@@ -0,0 +1,22 @@
+package com.usermanager.domain.enums;
+
+public enum MaintenanceAction {
+    REPORT("Report"),
+    DEACTIVATE("Deactivate"),
+    NOTIFY("Notify");
+
+    private final String displayName;
+
+    MaintenanceAction(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
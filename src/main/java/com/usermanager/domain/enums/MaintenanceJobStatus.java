@@ -0,0 +1,24 @@
+package com.usermanager.domain.enums;
+
+public enum MaintenanceJobStatus {
+    PENDING("Pending"),
+    RUNNING("Running"),
+    COMPLETED("Completed"),
+    FAILED("Failed"),
+    CANCELLED("Cancelled");
+
+    private final String displayName;
+
+    MaintenanceJobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
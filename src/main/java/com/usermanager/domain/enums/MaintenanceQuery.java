@@ -0,0 +1,23 @@
+package com.usermanager.domain.enums;
+
+public enum MaintenanceQuery {
+    INACTIVE("Not logged in since cutoff"),
+    UNVERIFIED("Unverified and created before cutoff"),
+    LOCKED("Currently locked"),
+    EXCESSIVE_LOGIN_ATTEMPTS("Excessive login attempts");
+
+    private final String displayName;
+
+    MaintenanceQuery(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
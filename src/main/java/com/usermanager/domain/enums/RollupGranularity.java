@@ -0,0 +1,35 @@
+package com.usermanager.domain.enums;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    HOURLY("Hourly", ChronoUnit.HOURS),
+    DAILY("Daily", ChronoUnit.DAYS);
+
+    private final String displayName;
+    private final ChronoUnit unit;
+
+    RollupGranularity(String displayName, ChronoUnit unit) {
+        this.displayName = displayName;
+        this.unit = unit;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Duration getLength() {
+        return unit.getDuration();
+    }
+
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
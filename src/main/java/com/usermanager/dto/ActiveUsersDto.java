@@ -0,0 +1,19 @@
+package com.usermanager.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public record ActiveUsersDto(
+    LocalDate date,
+    double relativeError, // standard error of each estimate
+    Counts total,
+    Map<String, Counts> departments // empty unless requested
+) {
+
+    public record Counts(
+        long daily,   // distinct users that logged in on the date
+        long weekly,  // ... in the 7 days ending on the date
+        long monthly  // ... in the 30 days ending on the date
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.ActivityMetric;
+import com.usermanager.domain.enums.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ActivitySeriesDto(
+    RollupGranularity granularity,
+    LocalDateTime from,
+    LocalDateTime to,
+    List<LocalDateTime> buckets,
+    List<Series> series
+) {
+
+    public record Series(
+        ActivityMetric metric,
+        long total,
+        List<Long> counts // one per bucket, zero-filled
+    ) {
+    }
+}
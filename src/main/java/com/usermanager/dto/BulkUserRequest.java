@@ -0,0 +1,35 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.BulkUserOperation;
+import com.usermanager.domain.enums.UserStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+public record BulkUserRequest(
+    @NotNull(message = "Operation is required")
+    BulkUserOperation operation,
+
+    Set<UUID> userIds, // either userIds or filter
+
+    @Valid
+    Filter filter,
+
+    LocalDateTime lockUntil // LOCK only, defaults to 24 hours from now
+) {
+
+    public record Filter(
+        String department,
+        UserStatus status,
+        String roleCode
+    ) {
+
+        // Helper methods
+        public boolean isEmpty() {
+            return department == null && status == null && roleCode == null;
+        }
+    }
+}
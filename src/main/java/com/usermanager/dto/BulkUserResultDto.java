@@ -0,0 +1,29 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.BulkUserOperation;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkUserResultDto(
+    BulkUserOperation operation,
+    int updated,
+    int unchanged,
+    int skipped,
+    int notFound,
+    List<Outcome> outcomes
+) {
+
+    public enum Status {
+        UPDATED,
+        UNCHANGED, // already in the target state
+        SKIPPED,   // inactive user, the operation only applies to active ones
+        NOT_FOUND
+    }
+
+    public record Outcome(
+        UUID userId,
+        Status status
+    ) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.usermanager.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public record KeysetSlice<T>(
+    List<T> content,
+    String nextCursor,
+    boolean hasNext
+) {
+
+    // Builds a slice from a query that fetched one row more than the requested size
+    public static <T> KeysetSlice<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new KeysetSlice<>(content, nextCursor, hasNext);
+    }
+
+    // Drops rows from this slice; the cursor still points past the last row that was fetched
+    public KeysetSlice<T> filter(Predicate<T> predicate) {
+        return new KeysetSlice<>(content.stream().filter(predicate).toList(), nextCursor, hasNext);
+    }
+
+    public <R> KeysetSlice<R> map(Function<T, R> mapper) {
+        return new KeysetSlice<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
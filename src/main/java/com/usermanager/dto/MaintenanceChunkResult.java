@@ -0,0 +1,13 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.MaintenanceAction;
+import com.usermanager.domain.enums.MaintenanceQuery;
+
+public record MaintenanceChunkResult(
+    MaintenanceQuery query,
+    MaintenanceAction action,
+    int processed,
+    int affected,
+    boolean finished
+) {
+}
@@ -0,0 +1,27 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.MaintenanceAction;
+import com.usermanager.domain.enums.MaintenanceJobStatus;
+import com.usermanager.domain.enums.MaintenanceQuery;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record MaintenanceJobDto(
+    UUID id,
+    MaintenanceQuery query,
+    MaintenanceAction action,
+    MaintenanceJobStatus status,
+    LocalDateTime cutoff,
+    Integer maxLoginAttempts,
+    Integer chunkSize,
+    UUID lastUserId,
+    Long processedCount,
+    Long affectedCount,
+    String requestedBy,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    String errorMessage,
+    LocalDateTime createdAt
+) {
+}
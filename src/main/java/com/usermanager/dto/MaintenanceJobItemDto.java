@@ -0,0 +1,11 @@
+package com.usermanager.dto;
+
+import java.util.UUID;
+
+public record MaintenanceJobItemDto(
+    UUID userId,
+    String username,
+    String email,
+    boolean affected
+) {
+}
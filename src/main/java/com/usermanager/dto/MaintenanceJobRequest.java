@@ -0,0 +1,24 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.MaintenanceAction;
+import com.usermanager.domain.enums.MaintenanceQuery;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record MaintenanceJobRequest(
+    @NotNull(message = "Query is required")
+    MaintenanceQuery query,
+
+    @NotNull(message = "Action is required")
+    MaintenanceAction action,
+
+    @Min(value = 0, message = "Days since must not be negative")
+    Integer daysSince, // INACTIVE and UNVERIFIED
+
+    @Min(value = 1, message = "Max login attempts must be at least 1")
+    Integer maxLoginAttempts, // EXCESSIVE_LOGIN_ATTEMPTS
+
+    @Min(value = 1, message = "Chunk size must be at least 1")
+    Integer chunkSize
+) {
+}
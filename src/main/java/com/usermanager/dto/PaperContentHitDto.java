@@ -0,0 +1,17 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+
+import java.util.UUID;
+
+public record PaperContentHitDto(
+    UUID paperId,
+    String code,
+    String title,
+    PaperStatus status,
+    PaperType type,
+    float score,
+    String snippet
+) {
+}
@@ -0,0 +1,64 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+public record PaperDto(
+    UUID id,
+
+    @NotBlank(message = "Paper code is required")
+    @Size(max = 100, message = "Paper code must not exceed 100 characters")
+    String code,
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must not exceed 200 characters")
+    String title,
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    String description,
+
+    @NotNull(message = "Paper type is required")
+    PaperType type,
+
+    PaperStatus status,
+
+    @Size(max = 100, message = "Category must not exceed 100 characters")
+    String category,
+
+    String fileName,
+    Long fileSize,
+    Long storedFileSize,
+    String mimeType,
+    Integer versionNumber,
+    Boolean isLatestVersion,
+    UUID parentPaperId,
+    LocalDateTime publishedAt,
+    LocalDateTime expiresAt,
+    UUID createdById,
+    UUID approvedById,
+    Set<String> requiredPermissions,
+    Set<String> tags,
+    Long downloadCount,
+    Long viewCount,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long version,
+    Boolean active
+) {
+
+    // Helper methods
+    public boolean isPublished() {
+        return status == PaperStatus.PUBLISHED;
+    }
+
+    public boolean isActive() {
+        return Boolean.TRUE.equals(active);
+    }
+}
@@ -0,0 +1,26 @@
+package com.usermanager.dto;
+
+import com.usermanager.stats.LeaderboardMetric;
+import com.usermanager.stats.LeaderboardWindow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record PaperLeaderboardDto(
+    LeaderboardMetric metric,
+    LeaderboardWindow window,
+    List<Entry> entries,
+    LocalDateTime refreshedAt
+) {
+
+    public record Entry(
+        int rank,
+        UUID paperId,
+        String code,
+        String title,
+        Long score, // null for RECENT, which is ordered by publishedAt
+        LocalDateTime publishedAt
+    ) {
+    }
+}
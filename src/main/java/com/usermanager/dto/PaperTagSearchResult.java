@@ -0,0 +1,16 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+public record PaperTagSearchResult(
+    Page<PaperDto> papers,
+    Map<String, Long> tagFacets,
+    Map<PaperStatus, Long> statusFacets,
+    Map<PaperType, Long> typeFacets,
+    Map<String, Long> categoryFacets
+) {
+}
@@ -0,0 +1,22 @@
+package com.usermanager.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record PaperVersionRequest(
+    @Size(max = 200, message = "Title must not exceed 200 characters")
+    String title,
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    String description,
+
+    @Size(max = 100, message = "Category must not exceed 100 characters")
+    String category,
+
+    LocalDateTime expiresAt,
+    Set<String> tags,
+    Set<String> requiredPermissions
+) {
+}
@@ -0,0 +1,19 @@
+package com.usermanager.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProfileBatchRequest(
+    @NotEmpty(message = "At least one user ID is required")
+    List<UUID> userIds,
+
+    Boolean defaultOnly
+) {
+
+    // Helper methods
+    public boolean isDefaultOnly() {
+        return !Boolean.FALSE.equals(defaultOnly);
+    }
+}
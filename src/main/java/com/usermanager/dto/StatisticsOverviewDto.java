@@ -0,0 +1,45 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.domain.enums.ProfileType;
+import com.usermanager.domain.enums.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record StatisticsOverviewDto(
+    UserStatistics users,
+    PaperStatistics papers,
+    ScreenStatistics screens,
+    ProfileStatistics profiles,
+    LocalDateTime reconciledAt
+) {
+
+    // Counts cover active rows only; a null department, category or module is reported as "(none)"
+    public record UserStatistics(
+        long total,
+        Map<UserStatus, Long> byStatus,
+        Map<String, Long> byDepartment
+    ) {
+    }
+
+    public record PaperStatistics(
+        long total,
+        Map<PaperType, Long> byType,
+        Map<String, Long> byCategory
+    ) {
+    }
+
+    public record ScreenStatistics(
+        long total,
+        Map<String, Long> byModule
+    ) {
+    }
+
+    public record ProfileStatistics(
+        long total,
+        Map<ProfileType, Long> byType,
+        Map<String, Long> byContext
+    ) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.usermanager.dto;
+
+import com.usermanager.domain.enums.ProfileType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public record UserProfileDto(
+    UUID id,
+
+    @NotNull(message = "User ID is required")
+    UUID userId,
+
+    @NotBlank(message = "Profile name is required")
+    @Size(max = 100, message = "Profile name must not exceed 100 characters")
+    String name,
+
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    String description,
+
+    @NotNull(message = "Profile type is required")
+    ProfileType type,
+
+    Boolean isDefault,
+    Boolean isPublic,
+
+    @Size(max = 100, message = "Context must not exceed 100 characters")
+    String context,
+
+    Map<String, String> attributes,
+    Map<String, String> preferences,
+    Set<String> permissions,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long version,
+    Boolean active
+) {
+
+    // Helper methods
+    public boolean isDefaultProfile() {
+        return Boolean.TRUE.equals(isDefault);
+    }
+
+    public boolean isActive() {
+        return Boolean.TRUE.equals(active);
+    }
+}
@@ -0,0 +1,12 @@
+package com.usermanager.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a maintenance job is created, so it starts once the creating transaction has
+ * committed.
+ */
+public record MaintenanceJobSubmittedEvent(
+    UUID jobId
+) {
+}
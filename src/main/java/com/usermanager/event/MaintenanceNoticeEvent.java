@@ -0,0 +1,17 @@
+package com.usermanager.event;
+
+import com.usermanager.domain.enums.MaintenanceQuery;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published for each chunk of a NOTIFY maintenance job with the users to notify. Delivery
+ * channels listen for it after the chunk has committed.
+ */
+public record MaintenanceNoticeEvent(
+    UUID jobId,
+    MaintenanceQuery query,
+    List<UUID> userIds
+) {
+}
@@ -0,0 +1,34 @@
+package com.usermanager.event;
+
+import java.util.UUID;
+
+/**
+ * Published by the paper services whenever a paper is written. {@code before} is null for
+ * new papers and {@code after} is null for deleted ones.
+ */
+public record PaperChangedEvent(
+    PaperSnapshot before,
+    PaperSnapshot after
+) {
+
+    public static PaperChangedEvent created(PaperSnapshot after) {
+        return new PaperChangedEvent(null, after);
+    }
+
+    public static PaperChangedEvent updated(PaperSnapshot before, PaperSnapshot after) {
+        return new PaperChangedEvent(before, after);
+    }
+
+    public static PaperChangedEvent removed(PaperSnapshot before) {
+        return new PaperChangedEvent(before, null);
+    }
+
+    // Helper methods
+    public UUID paperId() {
+        return after != null ? after.id() : before.id();
+    }
+
+    public boolean isRemoved() {
+        return after == null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.usermanager.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published after a view or download was counted. {@code total} is the counter value in the
+ * database right after the increment.
+ */
+public record PaperCounterEvent(
+    UUID paperId,
+    Counter counter,
+    long total,
+    LocalDateTime occurredAt
+) {
+
+    public enum Counter {
+        VIEWS,
+        DOWNLOADS
+    }
+}
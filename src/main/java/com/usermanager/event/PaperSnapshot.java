@@ -0,0 +1,48 @@
+package com.usermanager.event;
+
+import com.usermanager.domain.entity.Paper;
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+public record PaperSnapshot(
+    UUID id,
+    String code,
+    String title,
+    PaperType type,
+    PaperStatus status,
+    String category,
+    boolean active,
+    boolean latestVersion,
+    LocalDateTime publishedAt,
+    LocalDateTime expiresAt,
+    Set<String> tags,
+    Set<String> requiredPermissions
+) {
+
+    // Must be called while the paper's collections can still be initialized
+    public static PaperSnapshot of(Paper paper) {
+        return new PaperSnapshot(
+            paper.getId(),
+            paper.getCode(),
+            paper.getTitle(),
+            paper.getType(),
+            paper.getStatus(),
+            paper.getCategory(),
+            paper.isActive(),
+            paper.isLatestVersion(),
+            paper.getPublishedAt(),
+            paper.getExpiresAt(),
+            Set.copyOf(paper.getTags()),
+            Set.copyOf(paper.getRequiredPermissions())
+        );
+    }
+
+    // Helper methods
+    public boolean isPublished() {
+        return status == PaperStatus.PUBLISHED;
+    }
+}
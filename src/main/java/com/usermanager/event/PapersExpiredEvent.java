@@ -0,0 +1,14 @@
+package com.usermanager.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published when published papers were moved to EXPIRED by a set-based update.
+ */
+public record PapersExpiredEvent(
+    List<UUID> paperIds,
+    LocalDateTime expiredAt
+) {
+}
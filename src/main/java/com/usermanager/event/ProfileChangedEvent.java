@@ -0,0 +1,30 @@
+package com.usermanager.event;
+
+import java.util.UUID;
+
+/**
+ * Published by the profile service whenever a profile is written. {@code before} is null for
+ * new profiles.
+ */
+public record ProfileChangedEvent(
+    ProfileSnapshot before,
+    ProfileSnapshot after
+) {
+
+    public static ProfileChangedEvent created(ProfileSnapshot after) {
+        return new ProfileChangedEvent(null, after);
+    }
+
+    public static ProfileChangedEvent updated(ProfileSnapshot before, ProfileSnapshot after) {
+        return new ProfileChangedEvent(before, after);
+    }
+
+    // Helper methods
+    public UUID profileId() {
+        return after.id();
+    }
+
+    public UUID userId() {
+        return after.userId();
+    }
+}
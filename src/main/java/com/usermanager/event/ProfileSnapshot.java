@@ -0,0 +1,33 @@
+package com.usermanager.event;
+
+import com.usermanager.domain.entity.UserProfile;
+import com.usermanager.domain.enums.ProfileType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public record ProfileSnapshot(
+    UUID id,
+    UUID userId,
+    ProfileType type,
+    String context,
+    boolean active,
+    boolean isDefault,
+    Map<String, String> attributes
+) {
+
+    // Attributes are passed in because where they live depends on the profile storage mode
+    public static ProfileSnapshot of(UserProfile profile, Map<String, String> attributes) {
+        return new ProfileSnapshot(
+            profile.getId(),
+            profile.getUser().getId(),
+            profile.getType(),
+            profile.getContext(),
+            profile.isActive(),
+            profile.isDefault(),
+            Collections.unmodifiableMap(new HashMap<>(attributes))
+        );
+    }
+}
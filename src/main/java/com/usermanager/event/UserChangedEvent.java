@@ -0,0 +1,34 @@
+package com.usermanager.event;
+
+import java.util.UUID;
+
+/**
+ * Published by the user service whenever a user is written. {@code before} is null for new
+ * users and {@code after} is null for deleted ones.
+ */
+public record UserChangedEvent(
+    UserSnapshot before,
+    UserSnapshot after
+) {
+
+    public static UserChangedEvent created(UserSnapshot after) {
+        return new UserChangedEvent(null, after);
+    }
+
+    public static UserChangedEvent updated(UserSnapshot before, UserSnapshot after) {
+        return new UserChangedEvent(before, after);
+    }
+
+    public static UserChangedEvent removed(UserSnapshot before) {
+        return new UserChangedEvent(before, null);
+    }
+
+    // Helper methods
+    public UUID userId() {
+        return after != null ? after.id() : before.id();
+    }
+
+    public boolean isRemoved() {
+        return after == null;
+    }
+}
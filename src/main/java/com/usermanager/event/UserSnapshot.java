@@ -0,0 +1,34 @@
+package com.usermanager.event;
+
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.enums.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record UserSnapshot(
+    UUID id,
+    String username,
+    UserStatus status,
+    String department,
+    boolean active,
+    LocalDateTime lockedUntil,
+    int loginAttempts,
+    LocalDateTime lastLoginAt,
+    boolean emailVerified
+) {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+            user.getId(),
+            user.getUsername(),
+            user.getStatus(),
+            user.getDepartment(),
+            user.isActive(),
+            user.getLockedUntil(),
+            user.getLoginAttempts() != null ? user.getLoginAttempts() : 0,
+            user.getLastLoginAt(),
+            user.isEmailVerified()
+        );
+    }
+}
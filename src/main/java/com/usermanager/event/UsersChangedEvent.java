@@ -0,0 +1,12 @@
+package com.usermanager.event;
+
+import java.util.List;
+
+/**
+ * Published once for a bulk operation instead of one {@link UserChangedEvent} per user, so
+ * listeners update their state in a single pass.
+ */
+public record UsersChangedEvent(
+    List<UserChangedEvent> changes
+) {
+}
@@ -0,0 +1,452 @@
+package com.usermanager.index;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.dto.PaperContentHitDto;
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PapersExpiredEvent;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.projection.PaperContentView;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Full-text index over paper metadata and extracted file content, kept in a memory-mapped
+ * Lucene directory.
+ *
+ * Changes are indexed by a worker pool after commit. Workers always read the paper's current
+ * row, and at most one worker handles a given paper at a time, so late events can never
+ * overwrite newer state. Text is only extracted again when the content hash changes.
+ * Searches see changes after the next refresh, and only return papers whose required
+ * permissions the caller holds.
+ */
+@Component
+public class PaperContentIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PaperContentIndex.class);
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CODE = "code";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_CONTENT_HASH = "contentHash";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_LATEST = "latest";
+    private static final String FIELD_PERMISSION = "permission";
+    private static final String COMMITTED_AT = "committedAt";
+    private static final String FORMAT = "format";
+
+    // Bumped when documents gain fields, so indexes written by older versions are rebuilt
+    private static final String CURRENT_FORMAT = "2";
+
+    private static final Duration COMMIT_SAFETY_MARGIN = Duration.ofMinutes(5);
+    private static final int MAX_SNIPPET_PASSAGES = 2;
+    private static final int MAX_HIGHLIGHT_LENGTH = 100_000;
+
+    private static final FieldType CONTENT_FIELD_TYPE = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        // Offsets in the postings let the highlighter skip re-analyzing stored text
+        CONTENT_FIELD_TYPE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        CONTENT_FIELD_TYPE.freeze();
+    }
+
+    private final PaperRepository paperRepository;
+    private final PaperTextExtractor textExtractor;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final MMapDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ExecutorService indexers;
+
+    private final AtomicLong generations = new AtomicLong();
+    private final Map<UUID, Long> pending = new ConcurrentHashMap<>();
+    private final Set<UUID> rebuildPending = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    @Autowired
+    public PaperContentIndex(PaperRepository paperRepository,
+                             PaperTextExtractor textExtractor,
+                             @Value("${app.search.papers.index-dir}") String indexDir,
+                             @Value("${app.search.papers.indexer-threads}") int indexerThreads) throws IOException {
+        this.paperRepository = paperRepository;
+        this.textExtractor = textExtractor;
+
+        Path indexPath = Paths.get(indexDir).toAbsolutePath().normalize();
+        Files.createDirectories(indexPath);
+        this.directory = new MMapDirectory(indexPath);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                // Only commit() publishes a commit, so a rebuild cut short by a shutdown is rolled back
+                .setCommitOnClose(false));
+        this.searcherManager = new SearcherManager(writer, null);
+
+        int threads = indexerThreads > 0 ? indexerThreads : Runtime.getRuntime().availableProcessors();
+        this.indexers = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("paper-indexer-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (writer.getDocStats().numDocs == 0 || !commitData(FORMAT).equals(Optional.of(CURRENT_FORMAT))) {
+            rebuild();
+            return;
+        }
+
+        // Changes after the last commit were lost if the process stopped without closing the index.
+        // The margin covers changes that were still queued when that commit was taken.
+        commitData(COMMITTED_AT).map(LocalDateTime::parse).ifPresent(committedAt -> {
+            List<UUID> changed = paperRepository.findIdsUpdatedSince(committedAt.minus(COMMIT_SAFETY_MARGIN));
+            changed.forEach(this::enqueue);
+            log.info("Re-indexing {} papers changed since the last index commit", changed.size());
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaperChanged(PaperChangedEvent event) {
+        enqueue(event.paperId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPapersExpired(PapersExpiredEvent event) {
+        event.paperIds().forEach(this::enqueue);
+    }
+
+    /**
+     * Re-extracts and re-indexes every active paper on the worker pool. Searches keep using the
+     * previous index until the rebuild has finished.
+     *
+     * @return false when a rebuild is already running
+     */
+    public synchronized boolean rebuild() {
+        if (rebuilding) {
+            return false;
+        }
+
+        List<UUID> paperIds = paperRepository.findAllActiveIds();
+        rebuilding = true;
+        rebuildPending.addAll(paperIds);
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            rebuildPending.clear();
+            rebuilding = false;
+            throw new UncheckedIOException("Failed to clear paper content index", e);
+        }
+
+        log.info("Rebuilding paper content index for {} papers", paperIds.size());
+        paperIds.forEach(this::enqueue);
+        if (rebuildPending.isEmpty()) {
+            finishRebuild();
+        }
+        return true;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    /**
+     * Searches papers whose required permissions are all contained in {@code permissions}.
+     */
+    public Page<PaperContentHitDto> search(String text, PaperStatus status, PaperType type, boolean latestOnly,
+                                           Collection<String> permissions, Pageable pageable) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text must not be blank");
+        }
+
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, Map.of(
+                FIELD_TITLE, 3.0f,
+                FIELD_CODE, 3.0f,
+                FIELD_DESCRIPTION, 2.0f,
+                FIELD_CATEGORY, 1.0f,
+                FIELD_CONTENT, 1.0f));
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(parser.parse(text), BooleanClause.Occur.MUST);
+        if (status != null) {
+            query.add(new TermQuery(new Term(FIELD_STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        if (type != null) {
+            query.add(new TermQuery(new Term(FIELD_TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+        if (latestOnly) {
+            query.add(new TermQuery(new Term(FIELD_LATEST, "true")), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Query hidden = hiddenFrom(searcher.getIndexReader(), Set.copyOf(permissions));
+                if (hidden != null) {
+                    query.add(hidden, BooleanClause.Occur.MUST_NOT);
+                }
+                return search(searcher, query.build(), pageable);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to search paper content index", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.papers.refresh-interval-ms}")
+    public void refresh() throws IOException {
+        if (!rebuilding) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.papers.commit-interval-ms}")
+    public void commit() throws IOException {
+        if (!rebuilding && writer.hasUncommittedChanges()) {
+            writer.setLiveCommitData(Map.of(
+                    COMMITTED_AT, LocalDateTime.now().toString(),
+                    FORMAT, CURRENT_FORMAT).entrySet());
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        indexers.shutdown();
+        indexers.awaitTermination(30, TimeUnit.SECONDS);
+        searcherManager.close();
+        if (rebuilding) {
+            // Keep the last complete commit; the rebuild starts over on the next startup if needed
+            log.info("Discarding unfinished paper content index rebuild");
+            writer.rollback();
+        } else {
+            commit();
+            writer.close();
+        }
+        directory.close();
+    }
+
+    // Helper methods
+    private void enqueue(UUID paperId) {
+        // A paper already queued picks up the new generation before its worker finishes
+        if (pending.put(paperId, generations.incrementAndGet()) == null) {
+            indexers.execute(() -> drain(paperId));
+        }
+    }
+
+    private void drain(UUID paperId) {
+        while (true) {
+            Long generation = pending.get(paperId);
+            boolean rebuild = rebuildPending.contains(paperId);
+            try {
+                index(paperId, rebuild);
+            } catch (RuntimeException | IOException e) {
+                log.error("Failed to index paper {}", paperId, e);
+            }
+            if (rebuild && rebuildPending.remove(paperId) && rebuildPending.isEmpty()) {
+                finishRebuild();
+            }
+            if (pending.remove(paperId, generation)) {
+                return;
+            }
+        }
+    }
+
+    private void index(UUID paperId, boolean forceExtract) throws IOException {
+        Term idTerm = new Term(FIELD_ID, paperId.toString());
+        Optional<PaperContentView> found = paperRepository.findContentViewById(paperId);
+        if (found.isEmpty() || !Boolean.TRUE.equals(found.get().getActive())) {
+            writer.deleteDocuments(idTerm);
+            return;
+        }
+
+        PaperContentView paper = found.get();
+        List<String> permissions = paperRepository.findRequiredPermissionsById(paperId);
+        String content = "";
+        if (paper.getContentHash() != null) {
+            content = forceExtract ? null : indexedContent(idTerm, paper.getContentHash());
+            if (content == null) {
+                content = extract(paper);
+            }
+        }
+        writer.updateDocument(idTerm, toDocument(paper, permissions, content));
+    }
+
+    private String indexedContent(Term idTerm, String contentHash) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(new TermQuery(idTerm), 1);
+            if (topDocs.scoreDocs.length == 0) {
+                return null;
+            }
+            Document document = searcher.storedFields().document(topDocs.scoreDocs[0].doc);
+            return contentHash.equals(document.get(FIELD_CONTENT_HASH)) ? document.get(FIELD_CONTENT) : null;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private String extract(PaperContentView paper) {
+        try {
+            return textExtractor.extract(paper.getContentHash(), paper.getFileName(), paper.getMimeType());
+        } catch (RuntimeException e) {
+            // Metadata stays searchable when the file format cannot be parsed
+            log.warn("Failed to extract text for paper {}: {}", paper.getId(), e.getMessage());
+            return "";
+        }
+    }
+
+    private Document toDocument(PaperContentView paper, List<String> permissions, String content) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, paper.getId().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_CODE, paper.getCode(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, paper.getTitle(), Field.Store.YES));
+        if (paper.getDescription() != null) {
+            document.add(new TextField(FIELD_DESCRIPTION, paper.getDescription(), Field.Store.NO));
+        }
+        if (paper.getCategory() != null) {
+            document.add(new TextField(FIELD_CATEGORY, paper.getCategory(), Field.Store.NO));
+        }
+        if (paper.getContentHash() != null) {
+            document.add(new StringField(FIELD_CONTENT_HASH, paper.getContentHash(), Field.Store.YES));
+        }
+        document.add(new Field(FIELD_CONTENT, content, CONTENT_FIELD_TYPE));
+        document.add(new StringField(FIELD_STATUS, paper.getStatus().name(), Field.Store.YES));
+        document.add(new StringField(FIELD_TYPE, paper.getType().name(), Field.Store.YES));
+        document.add(new StringField(FIELD_LATEST, String.valueOf(Boolean.TRUE.equals(paper.getLatestVersion())), Field.Store.NO));
+        permissions.forEach(code -> document.add(new StringField(FIELD_PERMISSION, code, Field.Store.NO)));
+        return document;
+    }
+
+    /**
+     * Matches papers requiring a permission outside {@code held}. The required permissions in
+     * use are read from the index's terms, of which there are few.
+     */
+    private Query hiddenFrom(IndexReader reader, Set<String> held) throws IOException {
+        Terms terms = MultiTerms.getTerms(reader, FIELD_PERMISSION);
+        if (terms == null) {
+            return null;
+        }
+        List<BytesRef> missing = new ArrayList<>();
+        TermsEnum iterator = terms.iterator();
+        for (BytesRef term = iterator.next(); term != null; term = iterator.next()) {
+            if (!held.contains(term.utf8ToString())) {
+                missing.add(BytesRef.deepCopyOf(term));
+            }
+        }
+        return missing.isEmpty() ? null : new TermInSetQuery(FIELD_PERMISSION, missing);
+    }
+
+    private Page<PaperContentHitDto> search(IndexSearcher searcher, Query query, Pageable pageable) throws IOException {
+        int offset = (int) pageable.getOffset();
+        TopDocs topDocs = searcher.search(query, offset + pageable.getPageSize());
+        ScoreDoc[] pageDocs = offset < topDocs.scoreDocs.length
+                ? Arrays.copyOfRange(topDocs.scoreDocs, offset, topDocs.scoreDocs.length)
+                : new ScoreDoc[0];
+
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                .withMaxLength(MAX_HIGHLIGHT_LENGTH)
+                .build();
+        String[] snippets = highlighter.highlight(FIELD_CONTENT, query,
+                new TopDocs(topDocs.totalHits, pageDocs), MAX_SNIPPET_PASSAGES);
+
+        List<PaperContentHitDto> hits = new ArrayList<>(pageDocs.length);
+        for (int i = 0; i < pageDocs.length; i++) {
+            Document document = searcher.storedFields().document(pageDocs[i].doc);
+            hits.add(new PaperContentHitDto(
+                    UUID.fromString(document.get(FIELD_ID)),
+                    document.get(FIELD_CODE),
+                    document.get(FIELD_TITLE),
+                    PaperStatus.valueOf(document.get(FIELD_STATUS)),
+                    PaperType.valueOf(document.get(FIELD_TYPE)),
+                    pageDocs[i].score,
+                    snippets[i]));
+        }
+        return new PageImpl<>(hits, pageable, topDocs.totalHits.value);
+    }
+
+    private synchronized void finishRebuild() {
+        try {
+            rebuilding = false;
+            commit();
+            searcherManager.maybeRefresh();
+            log.info("Paper content index rebuilt with {} documents", writer.getDocStats().numDocs);
+        } catch (IOException e) {
+            log.error("Failed to publish rebuilt paper content index", e);
+        }
+    }
+
+    private Optional<String> commitData(String key) {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return Optional.empty();
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (key.equals(entry.getKey())) {
+                return Optional.of(entry.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+}
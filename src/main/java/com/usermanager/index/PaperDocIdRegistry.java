@@ -0,0 +1,45 @@
+package com.usermanager.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns dense integer document ids to papers so in-memory indexes can use bitmaps.
+ * Ids are never reused; a paper keeps its id for the lifetime of the process.
+ */
+@Component
+public class PaperDocIdRegistry {
+
+    private final Map<UUID, Integer> docIds = new ConcurrentHashMap<>();
+    private final List<UUID> paperIds = new ArrayList<>();
+
+    public int docIdOf(UUID paperId) {
+        Integer docId = docIds.get(paperId);
+        return docId != null ? docId : register(paperId);
+    }
+
+    public int findDocId(UUID paperId) {
+        return docIds.getOrDefault(paperId, -1);
+    }
+
+    public synchronized UUID paperIdOf(int docId) {
+        return paperIds.get(docId);
+    }
+
+    public synchronized int size() {
+        return paperIds.size();
+    }
+
+    // Helper methods
+    private synchronized int register(UUID paperId) {
+        return docIds.computeIfAbsent(paperId, id -> {
+            paperIds.add(id);
+            return paperIds.size() - 1;
+        });
+    }
+}
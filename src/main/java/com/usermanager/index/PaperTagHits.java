@@ -0,0 +1,21 @@
+package com.usermanager.index;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One page of matching paper ids plus facet counts computed over the whole result set.
+ */
+public record PaperTagHits(
+    List<UUID> paperIds,
+    long totalElements,
+    Map<String, Long> tagFacets,
+    Map<PaperStatus, Long> statusFacets,
+    Map<PaperType, Long> typeFacets,
+    Map<String, Long> categoryFacets
+) {
+}
@@ -0,0 +1,306 @@
+package com.usermanager.index;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PaperSnapshot;
+import com.usermanager.event.PapersExpiredEvent;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.projection.PaperIndexView;
+import com.usermanager.repository.projection.PaperTagView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index from tags, status, type and category to bitmaps of active papers.
+ *
+ * The index is loaded from the database when the application is ready and kept current from
+ * committed {@link PaperChangedEvent}s and {@link PapersExpiredEvent}s. Changes made on other
+ * nodes or directly in the database raise no local event, so the index is also rebuilt
+ * periodically. Changes that arrive while a rebuild is loading are replayed on top of the
+ * loaded state.
+ */
+@Component
+public class PaperTagIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PaperTagIndex.class);
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final PaperRepository paperRepository;
+    private final PaperDocIdRegistry docIdRegistry;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, BitSet> tagBits = new HashMap<>();
+    private final Map<PaperStatus, BitSet> statusBits = new EnumMap<>(PaperStatus.class);
+    private final Map<PaperType, BitSet> typeBits = new EnumMap<>(PaperType.class);
+    private final Map<String, BitSet> categoryBits = new HashMap<>();
+    private final BitSet latestBits = new BitSet();
+    private final BitSet liveBits = new BitSet();
+    private final Map<Integer, IndexedPaper> documents = new HashMap<>();
+    private List<Runnable> pendingChanges;
+
+    @Autowired
+    public PaperTagIndex(PaperRepository paperRepository, PaperDocIdRegistry docIdRegistry) {
+        this.paperRepository = paperRepository;
+        this.docIdRegistry = docIdRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.papers.tag-rebuild-interval-ms}",
+               initialDelayString = "${app.search.papers.tag-rebuild-interval-ms}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                return;
+            }
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<PaperIndexView> papers;
+        Map<UUID, Set<String>> tagsByPaper;
+        try {
+            papers = paperRepository.findAllIndexViews();
+            tagsByPaper = paperRepository.findAllTagAssignments().stream()
+                    .collect(Collectors.groupingBy(PaperTagView::getPaperId,
+                            Collectors.mapping(PaperTagView::getTag, Collectors.toSet())));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (PaperIndexView paper : papers) {
+                put(new IndexedPaper(paper.getId(), paper.getStatus(), paper.getType(), paper.getCategory(),
+                        Boolean.TRUE.equals(paper.getLatestVersion()),
+                        tagsByPaper.getOrDefault(paper.getId(), Set.of())));
+            }
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+            log.info("Paper tag index built with {} papers and {} tags", documents.size(), tagBits.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaperChanged(PaperChangedEvent event) {
+        PaperSnapshot paper = event.after();
+        UUID paperId = event.paperId();
+        apply(() -> {
+            if (paper != null && paper.active()) {
+                put(IndexedPaper.of(paper));
+            } else {
+                remove(paperId);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPapersExpired(PapersExpiredEvent event) {
+        apply(() -> event.paperIds().forEach(paperId -> {
+            IndexedPaper paper = documents.get(docIdRegistry.findDocId(paperId));
+            if (paper != null) {
+                put(paper.withStatus(PaperStatus.EXPIRED));
+            }
+        }));
+    }
+
+    public PaperTagHits search(PaperTagQuery query, long offset, int limit, int facetLimit) {
+        return search(query, null, offset, limit, facetLimit);
+    }
+
+    /**
+     * Same as {@link #search(PaperTagQuery, long, int, int)}, restricted to the documents set in
+     * {@code allowed}, such as the bitmap from {@link PaperVisibilityIndex#visibleDocs}.
+     */
+    public PaperTagHits search(PaperTagQuery query, BitSet allowed, long offset, int limit, int facetLimit) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) (query.latestOnly() ? latestBits : liveBits).clone();
+            if (allowed != null) {
+                result.and(allowed);
+            }
+            for (String tag : query.allTags()) {
+                result.and(tagBits.getOrDefault(tag, EMPTY));
+            }
+            if (!query.anyTags().isEmpty()) {
+                BitSet anyTag = new BitSet();
+                query.anyTags().forEach(tag -> anyTag.or(tagBits.getOrDefault(tag, EMPTY)));
+                result.and(anyTag);
+            }
+            if (query.status() != null) {
+                result.and(statusBits.getOrDefault(query.status(), EMPTY));
+            }
+            if (query.type() != null) {
+                result.and(typeBits.getOrDefault(query.type(), EMPTY));
+            }
+            if (query.category() != null) {
+                result.and(categoryBits.getOrDefault(query.category(), EMPTY));
+            }
+
+            BitSet scratch = new BitSet(result.length());
+            Map<String, Long> tagFacets = facets(tagBits, result, scratch, facetLimit);
+            Map<PaperStatus, Long> statusFacets = facets(statusBits, result, scratch, Integer.MAX_VALUE);
+            Map<PaperType, Long> typeFacets = facets(typeBits, result, scratch, Integer.MAX_VALUE);
+            Map<String, Long> categoryFacets = facets(categoryBits, result, scratch, facetLimit);
+
+            return new PaperTagHits(page(result, offset, limit), result.cardinality(),
+                    tagFacets, statusFacets, typeFacets, categoryFacets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helper methods
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(IndexedPaper paper) {
+        int docId = docIdRegistry.docIdOf(paper.id());
+        remove(docId);
+
+        liveBits.set(docId);
+        if (paper.latestVersion()) {
+            latestBits.set(docId);
+        }
+        statusBits.computeIfAbsent(paper.status(), status -> new BitSet()).set(docId);
+        typeBits.computeIfAbsent(paper.type(), type -> new BitSet()).set(docId);
+        if (paper.category() != null) {
+            categoryBits.computeIfAbsent(paper.category(), category -> new BitSet()).set(docId);
+        }
+        paper.tags().forEach(tag -> tagBits.computeIfAbsent(tag, t -> new BitSet()).set(docId));
+        documents.put(docId, paper);
+    }
+
+    private void remove(UUID paperId) {
+        int docId = docIdRegistry.findDocId(paperId);
+        if (docId >= 0) {
+            remove(docId);
+        }
+    }
+
+    private void remove(int docId) {
+        IndexedPaper paper = documents.remove(docId);
+        if (paper == null) {
+            return;
+        }
+        liveBits.clear(docId);
+        latestBits.clear(docId);
+        clearBit(statusBits, paper.status(), docId);
+        clearBit(typeBits, paper.type(), docId);
+        if (paper.category() != null) {
+            clearBit(categoryBits, paper.category(), docId);
+        }
+        paper.tags().forEach(tag -> clearBit(tagBits, tag, docId));
+    }
+
+    private void clear() {
+        tagBits.clear();
+        statusBits.clear();
+        typeBits.clear();
+        categoryBits.clear();
+        latestBits.clear();
+        liveBits.clear();
+        documents.clear();
+    }
+
+    private List<UUID> page(BitSet result, long offset, int limit) {
+        List<UUID> paperIds = new ArrayList<>(limit);
+        int docId = result.nextSetBit(0);
+        for (long skipped = 0; docId >= 0 && skipped < offset; skipped++) {
+            docId = result.nextSetBit(docId + 1);
+        }
+        while (docId >= 0 && paperIds.size() < limit) {
+            paperIds.add(docIdRegistry.paperIdOf(docId));
+            docId = result.nextSetBit(docId + 1);
+        }
+        return paperIds;
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> bitmaps, K key, int docId) {
+        BitSet bits = bitmaps.get(key);
+        if (bits != null) {
+            bits.clear(docId);
+            if (bits.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static <K> Map<K, Long> facets(Map<K, BitSet> bitmaps, BitSet result, BitSet scratch, int limit) {
+        List<Map.Entry<K, Long>> counts = new ArrayList<>();
+        bitmaps.forEach((key, bits) -> {
+            scratch.clear();
+            scratch.or(bits);
+            scratch.and(result);
+            int count = scratch.cardinality();
+            if (count > 0) {
+                counts.add(Map.entry(key, (long) count));
+            }
+        });
+        counts.sort(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(entry -> entry.getKey().toString()));
+
+        Map<K, Long> facets = new LinkedHashMap<>();
+        counts.stream().limit(limit).forEach(entry -> facets.put(entry.getKey(), entry.getValue()));
+        return facets;
+    }
+
+    private record IndexedPaper(
+        UUID id,
+        PaperStatus status,
+        PaperType type,
+        String category,
+        boolean latestVersion,
+        Set<String> tags
+    ) {
+
+        static IndexedPaper of(PaperSnapshot paper) {
+            return new IndexedPaper(paper.id(), paper.status(), paper.type(), paper.category(),
+                    paper.latestVersion(), paper.tags());
+        }
+
+        IndexedPaper withStatus(PaperStatus status) {
+            return new IndexedPaper(id, status, type, category, latestVersion, tags);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.usermanager.index;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Filter for {@link PaperTagIndex}: papers must carry every tag in {@code allTags} and at least
+ * one tag in {@code anyTags} (when given), and match the optional status, type and category.
+ */
+public record PaperTagQuery(
+    Set<String> allTags,
+    Set<String> anyTags,
+    PaperStatus status,
+    PaperType type,
+    String category,
+    boolean latestOnly
+) {
+
+    public PaperTagQuery {
+        // Paper stores tags lower-cased
+        allTags = normalize(allTags);
+        anyTags = normalize(anyTags);
+    }
+
+    private static Set<String> normalize(Set<String> tags) {
+        return tags == null ? Set.of() : tags.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
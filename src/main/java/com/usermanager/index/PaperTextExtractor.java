@@ -0,0 +1,51 @@
+package com.usermanager.index;
+
+import com.usermanager.service.PaperStorageService;
+import org.apache.tika.Tika;
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Extracts plain text from stored paper content with Apache Tika, truncated to
+ * {@code app.search.papers.max-content-chars}.
+ */
+@Component
+public class PaperTextExtractor {
+
+    private final PaperStorageService paperStorageService;
+    private final Tika tika;
+
+    @Autowired
+    public PaperTextExtractor(PaperStorageService paperStorageService,
+                              @Value("${app.search.papers.max-content-chars}") int maxContentChars) {
+        this.paperStorageService = paperStorageService;
+        this.tika = new Tika();
+        this.tika.setMaxStringLength(maxContentChars);
+    }
+
+    public String extract(String contentHash, String fileName, String mimeType) {
+        Metadata metadata = new Metadata();
+        if (fileName != null) {
+            metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
+        }
+        if (mimeType != null) {
+            metadata.set(Metadata.CONTENT_TYPE, mimeType);
+        }
+
+        try (InputStream content = paperStorageService.openContent(contentHash)) {
+            return tika.parseToString(content, metadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read content: " + contentHash, e);
+        } catch (TikaException e) {
+            throw new IllegalArgumentException("Failed to extract text from content: " + contentHash, e);
+        }
+    }
+}
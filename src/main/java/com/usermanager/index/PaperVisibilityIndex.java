@@ -0,0 +1,182 @@
+package com.usermanager.index;
+
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PaperSnapshot;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.projection.PaperPermissionView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Groups active papers by their exact set of required permissions, one bitmap per distinct set.
+ *
+ * A user may see a paper when they hold every permission it requires, so the visible papers
+ * are the union of the bitmaps whose permission set is contained in the user's permissions.
+ * There are far fewer distinct sets than papers, which keeps that union cheap. Bitmaps use the
+ * document ids of {@link PaperDocIdRegistry} and can be intersected with {@link PaperTagIndex}.
+ *
+ * Local changes arrive as committed {@link PaperChangedEvent}s. Permission changes made on other
+ * nodes or directly in the database are only picked up by the periodic rebuild, so callers that
+ * return paper rows check them again.
+ */
+@Component
+public class PaperVisibilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PaperVisibilityIndex.class);
+
+    private final PaperRepository paperRepository;
+    private final PaperDocIdRegistry docIdRegistry;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Set<String>, BitSet> docsByPermissions = new HashMap<>();
+    private final Map<Integer, Set<String>> permissionsByDoc = new HashMap<>();
+    private List<Runnable> pendingChanges;
+
+    @Autowired
+    public PaperVisibilityIndex(PaperRepository paperRepository, PaperDocIdRegistry docIdRegistry) {
+        this.paperRepository = paperRepository;
+        this.docIdRegistry = docIdRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.papers.visibility-rebuild-interval-ms}",
+               initialDelayString = "${app.search.papers.visibility-rebuild-interval-ms}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                return;
+            }
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<UUID> paperIds;
+        Map<UUID, Set<String>> permissionsByPaper;
+        try {
+            paperIds = paperRepository.findAllActiveIds();
+            permissionsByPaper = paperRepository.findAllPermissionAssignments().stream()
+                    .collect(Collectors.groupingBy(PaperPermissionView::getPaperId,
+                            Collectors.mapping(PaperPermissionView::getPermissionCode, Collectors.toSet())));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            docsByPermissions.clear();
+            permissionsByDoc.clear();
+            paperIds.forEach(paperId -> put(paperId, permissionsByPaper.getOrDefault(paperId, Set.of())));
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+            log.info("Paper visibility index built with {} papers in {} permission sets",
+                    permissionsByDoc.size(), docsByPermissions.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaperChanged(PaperChangedEvent event) {
+        PaperSnapshot paper = event.after();
+        UUID paperId = event.paperId();
+        apply(() -> {
+            if (paper != null && paper.active()) {
+                put(paperId, paper.requiredPermissions());
+            } else {
+                remove(paperId);
+            }
+        });
+    }
+
+    /**
+     * Returns a new bitmap of the papers a holder of {@code permissions} may see.
+     */
+    public BitSet visibleDocs(Collection<String> permissions) {
+        Set<String> held = Set.copyOf(permissions);
+        lock.readLock().lock();
+        try {
+            BitSet visible = new BitSet();
+            docsByPermissions.forEach((required, docs) -> {
+                if (held.containsAll(required)) {
+                    visible.or(docs);
+                }
+            });
+            return visible;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether {@code paperId} is set in a bitmap returned by {@link #visibleDocs}.
+     */
+    public boolean contains(BitSet visible, UUID paperId) {
+        int docId = docIdRegistry.findDocId(paperId);
+        return docId >= 0 && visible.get(docId);
+    }
+
+    // Helper methods
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(UUID paperId, Set<String> requiredPermissions) {
+        int docId = docIdRegistry.docIdOf(paperId);
+        remove(docId);
+        Set<String> required = Set.copyOf(requiredPermissions);
+        docsByPermissions.computeIfAbsent(required, permissions -> new BitSet()).set(docId);
+        permissionsByDoc.put(docId, required);
+    }
+
+    private void remove(UUID paperId) {
+        int docId = docIdRegistry.findDocId(paperId);
+        if (docId >= 0) {
+            remove(docId);
+        }
+    }
+
+    private void remove(int docId) {
+        Set<String> required = permissionsByDoc.remove(docId);
+        if (required == null) {
+            return;
+        }
+        BitSet docs = docsByPermissions.get(required);
+        docs.clear(docId);
+        if (docs.isEmpty()) {
+            docsByPermissions.remove(required);
+        }
+    }
+}
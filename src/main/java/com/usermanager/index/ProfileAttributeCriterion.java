@@ -0,0 +1,33 @@
+package com.usermanager.index;
+
+/**
+ * One condition of a {@link ProfileAttributeIndex} search: the attribute {@code key} equals
+ * {@code value}, or starts with it when {@code prefix} is set.
+ */
+public record ProfileAttributeCriterion(
+    String key,
+    String value,
+    boolean prefix
+) {
+
+    public ProfileAttributeCriterion {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Attribute key is required");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Attribute value is required for key: " + key);
+        }
+    }
+
+    // A trailing '*' turns the value into a prefix
+    public static ProfileAttributeCriterion parse(String key, String value) {
+        if (value != null && value.endsWith("*")) {
+            return new ProfileAttributeCriterion(key, value.substring(0, value.length() - 1), true);
+        }
+        return new ProfileAttributeCriterion(key, value, false);
+    }
+
+    public boolean matches(String candidate) {
+        return prefix ? candidate.startsWith(value) : candidate.equals(value);
+    }
+}
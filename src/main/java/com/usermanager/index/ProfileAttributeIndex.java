@@ -0,0 +1,209 @@
+package com.usermanager.index;
+
+import com.usermanager.event.ProfileChangedEvent;
+import com.usermanager.event.ProfileSnapshot;
+import com.usermanager.repository.projection.ProfileAttributeView;
+import com.usermanager.storage.ProfileAttributeStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from profile attribute values to the ids of active profiles.
+ *
+ * Values are kept sorted per attribute key, so a prefix search is a range scan over the values,
+ * and the profile ids of each value are kept sorted, so results can be paged with the last
+ * returned id as a keyset cursor. The index is loaded through the configured
+ * {@link ProfileAttributeStore} when the application is ready and kept current from committed
+ * {@link ProfileChangedEvent}s; changes that arrive while loading are replayed on top.
+ */
+@Component
+public class ProfileAttributeIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileAttributeIndex.class);
+
+    private final ProfileAttributeStore attributeStore;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, NavigableMap<String, NavigableSet<UUID>>> postings = new HashMap<>();
+    private final Map<UUID, Map<String, String>> documents = new HashMap<>();
+    private List<Runnable> pendingChanges;
+
+    @Autowired
+    public ProfileAttributeIndex(ProfileAttributeStore attributeStore) {
+        this.attributeStore = attributeStore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                return;
+            }
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<UUID, Map<String, String>> attributesByProfile = new HashMap<>();
+        try {
+            for (ProfileAttributeView view : attributeStore.findAllActiveAttributes()) {
+                attributesByProfile.computeIfAbsent(view.getProfileId(), id -> new HashMap<>())
+                        .put(view.getAttributeKey(), view.getAttributeValue());
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            attributesByProfile.forEach(this::put);
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+            log.info("Profile attribute index built with {} profiles and {} keys", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        ProfileSnapshot profile = event.after();
+        apply(() -> {
+            if (profile.active()) {
+                put(profile.id(), profile.attributes());
+            } else {
+                remove(profile.id());
+            }
+        });
+    }
+
+    /**
+     * Returns up to {@code limit} ids of profiles matching every criterion, in ascending id
+     * order and starting after {@code after} when given.
+     */
+    public List<UUID> search(List<ProfileAttributeCriterion> criteria, UUID after, int limit) {
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("At least one attribute criterion is required");
+        }
+
+        lock.readLock().lock();
+        try {
+            List<NavigableSet<UUID>> candidates = new ArrayList<>(criteria.size());
+            for (ProfileAttributeCriterion criterion : criteria) {
+                NavigableSet<UUID> matches = matches(criterion);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                candidates.add(matches);
+            }
+            // Drive from the smallest candidate set and probe the others
+            candidates.sort(Comparator.comparingInt(NavigableSet::size));
+            NavigableSet<UUID> driver = candidates.get(0);
+            List<NavigableSet<UUID>> probes = candidates.subList(1, candidates.size());
+
+            List<UUID> profileIds = new ArrayList<>(Math.min(limit, driver.size()));
+            for (UUID profileId : after != null ? driver.tailSet(after, false) : driver) {
+                if (probes.stream().allMatch(probe -> probe.contains(profileId))) {
+                    profileIds.add(profileId);
+                    if (profileIds.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return profileIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helper methods
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private NavigableSet<UUID> matches(ProfileAttributeCriterion criterion) {
+        NavigableMap<String, NavigableSet<UUID>> values = postings.get(criterion.key());
+        if (values == null) {
+            return new TreeSet<>();
+        }
+        if (!criterion.prefix()) {
+            NavigableSet<UUID> profileIds = values.get(criterion.value());
+            return profileIds != null ? profileIds : new TreeSet<>();
+        }
+
+        NavigableSet<UUID> profileIds = new TreeSet<>();
+        for (Map.Entry<String, NavigableSet<UUID>> entry : values.tailMap(criterion.value(), true).entrySet()) {
+            if (!criterion.matches(entry.getKey())) {
+                break;
+            }
+            profileIds.addAll(entry.getValue());
+        }
+        return profileIds;
+    }
+
+    private void put(UUID profileId, Map<String, String> attributes) {
+        remove(profileId);
+        Map<String, String> indexed = new HashMap<>();
+        attributes.forEach((key, value) -> {
+            if (value != null) {
+                postings.computeIfAbsent(key, k -> new TreeMap<>())
+                        .computeIfAbsent(value, v -> new TreeSet<>())
+                        .add(profileId);
+                indexed.put(key, value);
+            }
+        });
+        documents.put(profileId, indexed);
+    }
+
+    private void remove(UUID profileId) {
+        Map<String, String> attributes = documents.remove(profileId);
+        if (attributes == null) {
+            return;
+        }
+        attributes.forEach((key, value) -> {
+            NavigableMap<String, NavigableSet<UUID>> values = postings.get(key);
+            NavigableSet<UUID> profileIds = values.get(value);
+            profileIds.remove(profileId);
+            if (profileIds.isEmpty()) {
+                values.remove(value);
+                if (values.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        });
+    }
+}
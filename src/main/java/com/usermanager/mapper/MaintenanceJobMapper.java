@@ -0,0 +1,21 @@
+package com.usermanager.mapper;
+
+import com.usermanager.domain.entity.MaintenanceJob;
+import com.usermanager.domain.entity.MaintenanceJobItem;
+import com.usermanager.dto.MaintenanceJobDto;
+import com.usermanager.dto.MaintenanceJobItemDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface MaintenanceJobMapper {
+
+    MaintenanceJobDto toDto(MaintenanceJob job);
+
+    @Mapping(target = "userId", source = "key.userId")
+    MaintenanceJobItemDto toItemDto(MaintenanceJobItem item);
+}
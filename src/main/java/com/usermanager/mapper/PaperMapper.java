@@ -0,0 +1,48 @@
+package com.usermanager.mapper;
+
+import com.usermanager.domain.entity.Paper;
+import com.usermanager.dto.PaperDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface PaperMapper {
+
+    @Mapping(target = "createdById", source = "createdBy.id")
+    @Mapping(target = "approvedById", source = "approvedBy.id")
+    PaperDto toDto(Paper paper);
+
+    List<PaperDto> toDtoList(List<Paper> papers);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "code", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "filePath", ignore = true)
+    @Mapping(target = "fileName", ignore = true)
+    @Mapping(target = "fileSize", ignore = true)
+    @Mapping(target = "storedFileSize", ignore = true)
+    @Mapping(target = "mimeType", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
+    @Mapping(target = "versionNumber", ignore = true)
+    @Mapping(target = "isLatestVersion", ignore = true)
+    @Mapping(target = "parentPaperId", ignore = true)
+    @Mapping(target = "publishedAt", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "approvedBy", ignore = true)
+    @Mapping(target = "requiredPermissions", ignore = true)
+    @Mapping(target = "tags", ignore = true)
+    @Mapping(target = "downloadCount", ignore = true)
+    @Mapping(target = "viewCount", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "active", ignore = true)
+    void updateEntity(@MappingTarget Paper paper, PaperDto paperDto);
+}
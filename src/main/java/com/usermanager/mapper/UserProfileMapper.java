@@ -0,0 +1,56 @@
+package com.usermanager.mapper;
+
+import com.usermanager.domain.entity.UserProfile;
+import com.usermanager.dto.UserProfileDto;
+import com.usermanager.storage.ProfileAttributeStore;
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(
+    componentModel = "spring",
+    unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface UserProfileMapper {
+
+    // Attributes and preferences are read through the store, so the configured storage mode decides
+    // whether the element collections are loaded
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "attributes", expression = "java(store.getAttributes(profile))")
+    @Mapping(target = "preferences", expression = "java(store.getPreferences(profile))")
+    UserProfileDto toDto(UserProfile profile, @Context ProfileAttributeStore store);
+
+    List<UserProfileDto> toDtoList(List<UserProfile> profiles, @Context ProfileAttributeStore store);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "isDefault", ignore = true)
+    @Mapping(target = "attributes", ignore = true)
+    @Mapping(target = "preferences", ignore = true)
+    @Mapping(target = "permissions", ignore = true)
+    @Mapping(target = "attributesDoc", ignore = true)
+    @Mapping(target = "preferencesDoc", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "active", ignore = true)
+    UserProfile toEntity(UserProfileDto profileDto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "isDefault", ignore = true)
+    @Mapping(target = "attributes", ignore = true)
+    @Mapping(target = "preferences", ignore = true)
+    @Mapping(target = "permissions", ignore = true)
+    @Mapping(target = "attributesDoc", ignore = true)
+    @Mapping(target = "preferencesDoc", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "active", ignore = true)
+    void updateEntity(@MappingTarget UserProfile profile, UserProfileDto profileDto);
+}
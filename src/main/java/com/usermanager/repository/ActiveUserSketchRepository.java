@@ -0,0 +1,38 @@
+package com.usermanager.repository;
+
+import com.usermanager.domain.entity.ActiveUserSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ActiveUserSketchRepository extends JpaRepository<ActiveUserSketch, ActiveUserSketch.Key> {
+
+    @Query("SELECT s FROM ActiveUserSketch s WHERE s.key.day >= :from AND s.key.day <= :to")
+    List<ActiveUserSketch> findByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ActiveUserSketch s WHERE s.key = :key")
+    Optional<ActiveUserSketch> findForUpdate(@Param("key") ActiveUserSketch.Key key);
+
+    @Modifying
+    @Query(value = "INSERT INTO active_user_sketches (day, department, registers) " +
+                   "VALUES (:day, :department, :registers) " +
+                   "ON CONFLICT (day, department) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("day") LocalDate day,
+                       @Param("department") String department,
+                       @Param("registers") byte[] registers);
+
+    @Modifying
+    @Query("DELETE FROM ActiveUserSketch s WHERE s.key.day < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDate cutoff);
+}
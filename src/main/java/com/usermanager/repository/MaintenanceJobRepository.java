@@ -0,0 +1,44 @@
+package com.usermanager.repository;
+
+import com.usermanager.domain.entity.MaintenanceJob;
+import com.usermanager.domain.entity.MaintenanceJobItem;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface MaintenanceJobRepository extends JpaRepository<MaintenanceJob, UUID> {
+
+    Page<MaintenanceJob> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM MaintenanceJob j WHERE j.id = :id")
+    Optional<MaintenanceJob> findForUpdate(@Param("id") UUID id);
+
+    @Query("SELECT j.id FROM MaintenanceJob j WHERE j.status IN ('PENDING', 'RUNNING') ORDER BY j.createdAt")
+    List<UUID> findUnfinishedIds();
+
+    @Query("SELECT i FROM MaintenanceJobItem i WHERE i.key.jobId = :jobId AND i.key.userId > :after " +
+           "ORDER BY i.key.userId")
+    List<MaintenanceJobItem> findItems(@Param("jobId") UUID jobId, @Param("after") UUID after, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO maintenance_job_items (job_id, user_id, username, email, affected) " +
+                   "SELECT :jobId, u.id, u.username, u.email, :affected FROM users u WHERE u.id IN (:userIds) " +
+                   "ON CONFLICT (job_id, user_id) DO NOTHING",
+           nativeQuery = true)
+    int insertItems(@Param("jobId") UUID jobId,
+                    @Param("userIds") Collection<UUID> userIds,
+                    @Param("affected") boolean affected);
+}
@@ -0,0 +1,68 @@
+package com.usermanager.repository;
+
+import com.usermanager.domain.entity.PaperBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PaperBlobRepository extends JpaRepository<PaperBlob, UUID> {
+
+    Optional<PaperBlob> findByContentHash(String contentHash);
+
+    boolean existsByContentHash(String contentHash);
+
+    @Modifying
+    @Query(value = "INSERT INTO paper_blobs (content_hash, size_bytes, stored_size, compression, mime_type, " +
+                   "storage_path, reference_count) " +
+                   "VALUES (:contentHash, :sizeBytes, :sizeBytes, :compression, :mimeType, :storagePath, 1) " +
+                   "ON CONFLICT (content_hash) DO UPDATE SET " +
+                   "reference_count = paper_blobs.reference_count + 1, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int acquire(@Param("contentHash") String contentHash,
+                @Param("sizeBytes") long sizeBytes,
+                @Param("compression") String compression,
+                @Param("mimeType") String mimeType,
+                @Param("storagePath") String storagePath);
+
+    @Modifying
+    @Query("UPDATE PaperBlob b SET b.storedSize = :storedSize WHERE b.contentHash = :contentHash")
+    int updateStoredSize(@Param("contentHash") String contentHash, @Param("storedSize") long storedSize);
+
+    @Modifying
+    @Query("UPDATE PaperBlob b SET b.referenceCount = b.referenceCount - 1, b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.contentHash = :contentHash AND b.referenceCount > 0")
+    int release(@Param("contentHash") String contentHash);
+
+    // Every papers row counts, soft-deleted ones included, until it is hard-deleted
+    @Modifying
+    @Query(value = "UPDATE paper_blobs b SET reference_count = r.referenced " +
+                   "FROM (SELECT pb.id, COUNT(p.id) AS referenced FROM paper_blobs pb " +
+                   "LEFT JOIN papers p ON p.content_hash = pb.content_hash GROUP BY pb.id) r " +
+                   "WHERE b.id = r.id AND b.reference_count <> r.referenced",
+           nativeQuery = true)
+    int reconcileReferenceCounts();
+
+    @Query("SELECT b.id FROM PaperBlob b WHERE b.referenceCount <= 0 AND b.updatedAt < :cutoff ORDER BY b.updatedAt")
+    List<UUID> findUnreferencedBlobIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM PaperBlob b WHERE b.id = :id AND b.referenceCount <= 0")
+    Optional<PaperBlob> findUnreferencedForUpdate(@Param("id") UUID id);
+
+    @Query("SELECT COALESCE(SUM(b.storedSize), 0) FROM PaperBlob b")
+    long sumStoredBytes();
+
+    @Query("SELECT COALESCE(SUM(b.sizeBytes), 0) FROM PaperBlob b")
+    long sumLogicalBytes();
+}
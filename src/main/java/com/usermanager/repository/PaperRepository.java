@@ -4,14 +4,24 @@ import com.usermanager.domain.entity.Paper;
 import com.usermanager.domain.entity.User;
 import com.usermanager.domain.enums.PaperStatus;
 import com.usermanager.domain.enums.PaperType;
+import com.usermanager.repository.projection.PaperContentView;
+import com.usermanager.repository.projection.PaperExpiryView;
+import com.usermanager.repository.projection.PaperIndexView;
+import com.usermanager.repository.projection.PaperPermissionView;
+import com.usermanager.repository.projection.PaperRankingView;
+import com.usermanager.repository.projection.PaperTagView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -73,13 +83,27 @@ public interface PaperRepository extends JpaRepository<Paper, UUID> {
     @Query("SELECT p FROM Paper p WHERE p.createdBy.id = :userId AND p.active = true")
     Page<Paper> findByCreatedByIdAndActive(@Param("userId") UUID userId, Pageable pageable);
 
-    @Query("SELECT p FROM Paper p WHERE p.status = 'PUBLISHED' AND p.active = true AND " +
-           "(p.expiresAt IS NULL OR p.expiresAt > CURRENT_TIMESTAMP)")
+    // Expired papers are moved to EXPIRED by the expiry scheduler, so the status alone decides
+    @Query("SELECT p FROM Paper p WHERE p.status = 'PUBLISHED' AND p.active = true")
     Page<Paper> findPublishedAndNotExpired(Pageable pageable);
 
-    @Query("SELECT p FROM Paper p WHERE p.expiresAt IS NOT NULL AND p.expiresAt < CURRENT_TIMESTAMP AND p.active = true")
+    @Query("SELECT p FROM Paper p WHERE p.status = 'EXPIRED' AND p.active = true")
     List<Paper> findExpiredPapers();
 
+    @Query("SELECT p.id AS id, p.expiresAt AS expiresAt FROM Paper p WHERE p.status = 'PUBLISHED' AND " +
+           "p.active = true AND p.expiresAt IS NOT NULL AND p.expiresAt <= :until")
+    List<PaperExpiryView> findPublishedExpiringUntil(@Param("until") LocalDateTime until);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id FROM Paper p WHERE p.id IN :ids AND p.status = 'PUBLISHED' AND " +
+           "p.active = true AND p.expiresAt <= :now")
+    List<UUID> findDueForExpiryForUpdate(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Paper p SET p.status = :status, p.version = p.version + 1, p.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE p.id IN :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") PaperStatus status);
+
     @Query("SELECT p FROM Paper p WHERE p.publishedAt IS NOT NULL AND " +
            "p.publishedAt >= :startDate AND p.publishedAt <= :endDate AND p.active = true")
     List<Paper> findPublishedBetween(@Param("startDate") LocalDateTime startDate, 
@@ -89,7 +113,27 @@ public interface PaperRepository extends JpaRepository<Paper, UUID> {
     Page<Paper> findLatestVersionsOnly(Pageable pageable);
 
     @Query("SELECT p FROM Paper p WHERE p.parentPaperId = :parentPaperId AND p.active = true ORDER BY p.versionNumber DESC")
-    List<Paper> findVersionsByParentPaperId(@Param("parentPaperId") String parentPaperId);
+    List<Paper> findVersionsByParentPaperId(@Param("parentPaperId") UUID parentPaperId);
+
+    @Query("SELECT COALESCE(p.parentPaperId, p.id) FROM Paper p WHERE p.id = :id AND p.active = true")
+    Optional<UUID> findVersionChainId(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Paper p WHERE p.id = :id")
+    Optional<Paper> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("SELECT p FROM Paper p WHERE (p.id = :chainId OR p.parentPaperId = :chainId) AND " +
+           "p.isLatestVersion = true AND p.active = true")
+    Optional<Paper> findLatestVersion(@Param("chainId") UUID chainId);
+
+    @Query("SELECT MAX(p.versionNumber) FROM Paper p WHERE p.id = :chainId OR p.parentPaperId = :chainId")
+    Integer findMaxVersionNumber(@Param("chainId") UUID chainId);
+
+    @Query("SELECT p FROM Paper p WHERE (p.id = :chainId OR p.parentPaperId = :chainId) AND " +
+           "p.versionNumber < :beforeVersion AND p.active = true ORDER BY p.versionNumber DESC")
+    List<Paper> findVersionHistory(@Param("chainId") UUID chainId,
+                                   @Param("beforeVersion") Integer beforeVersion,
+                                   Pageable pageable);
 
     @Query("SELECT COUNT(p) FROM Paper p WHERE p.status = :status AND p.active = true")
     long countByStatusAndActive(@Param("status") PaperStatus status);
@@ -115,6 +159,62 @@ public interface PaperRepository extends JpaRepository<Paper, UUID> {
     @Query("SELECT p FROM Paper p WHERE :tag MEMBER OF p.tags AND p.active = true")
     Page<Paper> findByTagAndActive(@Param("tag") String tag, Pageable pageable);
 
+    // Page hydration; one query per collection avoids a tags x permissions row product
+    @Query("SELECT p FROM Paper p LEFT JOIN FETCH p.tags WHERE p.id IN :ids")
+    List<Paper> findAllWithTagsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p FROM Paper p LEFT JOIN FETCH p.requiredPermissions WHERE p.id IN :ids")
+    List<Paper> findAllWithRequiredPermissionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // In-memory index loading
+    @Query("SELECT p.id AS id, p.status AS status, p.type AS type, p.category AS category, " +
+           "p.isLatestVersion AS latestVersion FROM Paper p WHERE p.active = true")
+    List<PaperIndexView> findAllIndexViews();
+
+    @Query("SELECT p.id AS paperId, t AS tag FROM Paper p JOIN p.tags t WHERE p.active = true")
+    List<PaperTagView> findAllTagAssignments();
+
+    @Query("SELECT p.id AS paperId, c AS permissionCode FROM Paper p JOIN p.requiredPermissions c WHERE p.active = true")
+    List<PaperPermissionView> findAllPermissionAssignments();
+
+    @Query("SELECT p.id AS id, p.code AS code, p.title AS title, p.description AS description, " +
+           "p.category AS category, p.status AS status, p.type AS type, p.isLatestVersion AS latestVersion, " +
+           "p.active AS active, p.contentHash AS contentHash, p.fileName AS fileName, p.mimeType AS mimeType " +
+           "FROM Paper p WHERE p.id = :id")
+    Optional<PaperContentView> findContentViewById(@Param("id") UUID id);
+
+    @Query("SELECT c FROM Paper p JOIN p.requiredPermissions c WHERE p.id = :id")
+    List<String> findRequiredPermissionsById(@Param("id") UUID id);
+
+    @Query("SELECT p.id FROM Paper p WHERE p.active = true")
+    List<UUID> findAllActiveIds();
+
+    @Query("SELECT p.id FROM Paper p WHERE p.updatedAt >= :since")
+    List<UUID> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // Counters are incremented in place so concurrent views never conflict on the entity version
+    @Modifying
+    @Query("UPDATE Paper p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id AND p.active = true")
+    int incrementViewCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE Paper p SET p.downloadCount = p.downloadCount + 1 WHERE p.id = :id AND p.active = true")
+    int incrementDownloadCount(@Param("id") UUID id);
+
+    @Query("SELECT p.id AS id, p.code AS code, p.title AS title, p.viewCount AS viewCount, " +
+           "p.downloadCount AS downloadCount, p.publishedAt AS publishedAt, p.status AS status FROM Paper p WHERE p.active = true")
+    List<PaperRankingView> findRankingViews(Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.code AS code, p.title AS title, p.viewCount AS viewCount, " +
+           "p.downloadCount AS downloadCount, p.publishedAt AS publishedAt, p.status AS status FROM Paper p " +
+           "WHERE p.id IN :ids AND p.active = true")
+    List<PaperRankingView> findRankingViewsByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.id AS id, p.code AS code, p.title AS title, p.viewCount AS viewCount, " +
+           "p.downloadCount AS downloadCount, p.publishedAt AS publishedAt, p.status AS status FROM Paper p " +
+           "WHERE p.status = 'PUBLISHED' AND p.active = true AND p.publishedAt IS NOT NULL")
+    List<PaperRankingView> findPublishedRankingViews(Pageable pageable);
+
     @Query("SELECT p FROM Paper p WHERE p.active = true ORDER BY p.downloadCount DESC")
     Page<Paper> findMostDownloaded(Pageable pageable);
 
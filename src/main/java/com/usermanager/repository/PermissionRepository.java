@@ -61,6 +61,10 @@ public interface PermissionRepository extends JpaRepository<Permission, UUID> {
     @Query("SELECT p FROM Permission p JOIN p.roles r WHERE r.code = :roleCode AND p.active = true")
     List<Permission> findByRoleCodeAndActive(@Param("roleCode") String roleCode);
 
+    @Query("SELECT DISTINCT p.code FROM User u JOIN u.roles r JOIN r.permissions p " +
+           "WHERE u.username = :username AND u.active = true AND r.active = true AND p.active = true")
+    List<String> findActiveCodesByUsername(@Param("username") String username);
+
     @Query("SELECT COUNT(p) FROM Permission p WHERE p.type = :type AND p.active = true")
     long countByTypeAndActive(@Param("type") PermissionType type);
 
@@ -0,0 +1,68 @@
+package com.usermanager.repository;
+
+import com.usermanager.domain.entity.UserActivityRollup;
+import com.usermanager.domain.enums.ActivityMetric;
+import com.usermanager.domain.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserActivityRollupRepository extends JpaRepository<UserActivityRollup, UserActivityRollup.Key> {
+
+    @Query("SELECT r FROM UserActivityRollup r WHERE r.key.metric IN :metrics " +
+           "AND r.key.granularity = :granularity " +
+           "AND r.key.bucketStart >= :from AND r.key.bucketStart < :to " +
+           "ORDER BY r.key.bucketStart")
+    List<UserActivityRollup> findSeries(@Param("metrics") Collection<ActivityMetric> metrics,
+                                        @Param("granularity") RollupGranularity granularity,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    /**
+     * Adds the given deltas to their buckets in one statement. The arrays are parallel, one
+     * element per bucket.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_activity_rollups (metric, granularity, bucket_start, event_count) " +
+                   "SELECT * FROM unnest(CAST(:metrics AS varchar[]), CAST(:granularities AS varchar[]), " +
+                   "  CAST(:bucketStarts AS timestamp[]), CAST(:counts AS bigint[])) " +
+                   "ON CONFLICT (metric, granularity, bucket_start) DO UPDATE SET " +
+                   "event_count = user_activity_rollups.event_count + EXCLUDED.event_count",
+           nativeQuery = true)
+    int addCounts(@Param("metrics") String[] metrics,
+                  @Param("granularities") String[] granularities,
+                  @Param("bucketStarts") LocalDateTime[] bucketStarts,
+                  @Param("counts") long[] counts);
+
+    /**
+     * Adds the users created in [from, to) to the hourly and daily CREATIONS buckets, unless the
+     * chunk starting at {@code from} has already been claimed. Claiming the chunk and adding its
+     * counts happen in the same statement, so a chunk is counted exactly once.
+     */
+    @Modifying
+    @Query(value = "WITH claimed AS (" +
+                   "  INSERT INTO user_activity_backfill (chunk_start, cutoff) VALUES (:from, :cutoff) " +
+                   "  ON CONFLICT (chunk_start) DO NOTHING RETURNING chunk_start) " +
+                   "INSERT INTO user_activity_rollups (metric, granularity, bucket_start, event_count) " +
+                   "SELECT 'CREATIONS', g.granularity, date_trunc(g.unit, u.created_at), COUNT(*) " +
+                   "FROM claimed " +
+                   "CROSS JOIN (VALUES ('HOURLY', 'hour'), ('DAILY', 'day')) AS g(granularity, unit) " +
+                   "JOIN users u ON u.created_at >= :from AND u.created_at < :to " +
+                   "GROUP BY g.granularity, date_trunc(g.unit, u.created_at) " +
+                   "ON CONFLICT (metric, granularity, bucket_start) DO UPDATE SET " +
+                   "event_count = user_activity_rollups.event_count + EXCLUDED.event_count",
+           nativeQuery = true)
+    int backfillCreations(@Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to,
+                          @Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT MIN(cutoff) FROM user_activity_backfill", nativeQuery = true)
+    LocalDateTime findBackfillCutoff();
+}
@@ -3,13 +3,16 @@ package com.usermanager.repository;
 import com.usermanager.domain.entity.User;
 import com.usermanager.domain.entity.UserProfile;
 import com.usermanager.domain.enums.ProfileType;
+import com.usermanager.repository.projection.ProfileAttributeView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +48,32 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, UUID>
 
     Optional<UserProfile> findByUserIdAndIsDefaultTrue(UUID userId);
 
+    /**
+     * Makes {@code profileId} the only default profile of {@code userId} in one statement. The
+     * deferred uq_user_profile_default constraint is checked once both rows have been updated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserProfile up SET up.isDefault = CASE WHEN up.id = :profileId THEN true ELSE false END, " +
+           "up.version = up.version + 1, up.updatedAt = LOCAL DATETIME " +
+           "WHERE up.user.id = :userId AND (up.isDefault = true OR up.id = :profileId)")
+    int switchDefault(@Param("userId") UUID userId, @Param("profileId") UUID profileId);
+
+    @Query("SELECT up FROM UserProfile up WHERE up.user.id IN :userIds AND up.active = true " +
+           "AND (up.isDefault = true OR :defaultOnly = false)")
+    List<UserProfile> findActiveByUserIds(@Param("userIds") Collection<UUID> userIds,
+                                          @Param("defaultOnly") boolean defaultOnly);
+
+    // Each collection is fetched by its own query, which initializes it on the profiles already
+    // in the persistence context without multiplying rows across collections
+    @Query("SELECT up FROM UserProfile up LEFT JOIN FETCH up.attributes WHERE up.id IN :ids")
+    List<UserProfile> fetchAttributes(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT up FROM UserProfile up LEFT JOIN FETCH up.preferences WHERE up.id IN :ids")
+    List<UserProfile> fetchPreferences(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT up FROM UserProfile up LEFT JOIN FETCH up.permissions WHERE up.id IN :ids")
+    List<UserProfile> fetchPermissions(@Param("ids") Collection<UUID> ids);
+
     @Query("SELECT up FROM UserProfile up WHERE up.active = true")
     List<UserProfile> findAllActiveProfiles();
 
@@ -99,4 +128,58 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, UUID>
 
     @Query("SELECT up FROM UserProfile up WHERE :permissionCode MEMBER OF up.permissions AND up.active = true")
     List<UserProfile> findByPermissionAndActive(@Param("permissionCode") String permissionCode);
+
+    @Query("SELECT up FROM UserProfile up JOIN up.attributes a " +
+           "WHERE KEY(a) = :key AND VALUE(a) = :value AND up.active = true")
+    List<UserProfile> findByAttributeAndActive(@Param("key") String key, @Param("value") String value);
+
+    @Query("SELECT up FROM UserProfile up JOIN up.preferences p " +
+           "WHERE KEY(p) = :key AND VALUE(p) = :value AND up.active = true")
+    List<UserProfile> findByPreferenceAndActive(@Param("key") String key, @Param("value") String value);
+
+    @Query("SELECT up.id AS profileId, KEY(a) AS attributeKey, VALUE(a) AS attributeValue " +
+           "FROM UserProfile up JOIN up.attributes a WHERE up.active = true")
+    List<ProfileAttributeView> findAllActiveAttributeAssignments();
+
+    // Profiles without a document yet are read from the collection table
+    @Query(value = "SELECT p.id AS profileId, e.key AS attributeKey, e.value AS attributeValue " +
+                   "FROM user_profiles p CROSS JOIN LATERAL jsonb_each_text(p.attributes_doc) e " +
+                   "WHERE p.active = TRUE AND p.attributes_doc IS NOT NULL " +
+                   "UNION ALL " +
+                   "SELECT p.id, a.attribute_key, a.attribute_value " +
+                   "FROM user_profiles p JOIN user_profile_attributes a ON a.profile_id = p.id " +
+                   "WHERE p.active = TRUE AND p.attributes_doc IS NULL",
+           nativeQuery = true)
+    List<ProfileAttributeView> findAllActiveAttributeDocEntries();
+
+    // Containment lookups served by the GIN indexes on the JSONB documents
+    @Query(value = "SELECT * FROM user_profiles WHERE attributes_doc @> CAST(:document AS jsonb) AND active = true",
+           nativeQuery = true)
+    List<UserProfile> findByAttributesDocContaining(@Param("document") String document);
+
+    @Query(value = "SELECT * FROM user_profiles WHERE preferences_doc @> CAST(:document AS jsonb) AND active = true",
+           nativeQuery = true)
+    List<UserProfile> findByPreferencesDocContaining(@Param("document") String document);
+
+    /**
+     * Copies the collection rows of up to {@code batchSize} profiles that have no documents yet
+     * into their JSONB documents. Rows locked by concurrent writers are skipped and picked up by
+     * a later batch.
+     */
+    @Modifying
+    @Query(value = "UPDATE user_profiles p SET " +
+                   "attributes_doc = COALESCE(p.attributes_doc, " +
+                   "  (SELECT jsonb_object_agg(a.attribute_key, a.attribute_value) " +
+                   "   FROM user_profile_attributes a WHERE a.profile_id = p.id), CAST('{}' AS jsonb)), " +
+                   "preferences_doc = COALESCE(p.preferences_doc, " +
+                   "  (SELECT jsonb_object_agg(pr.preference_key, pr.preference_value) " +
+                   "   FROM user_profile_preferences pr WHERE pr.profile_id = p.id), CAST('{}' AS jsonb)) " +
+                   "WHERE p.id IN (SELECT id FROM user_profiles " +
+                   "  WHERE attributes_doc IS NULL OR preferences_doc IS NULL " +
+                   "  LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+           nativeQuery = true)
+    int backfillDocuments(@Param("batchSize") int batchSize);
+
+    @Query("SELECT COUNT(up) FROM UserProfile up WHERE up.attributesDoc IS NULL OR up.preferencesDoc IS NULL")
+    long countWithoutDocuments();
 }
\ No newline at end of file
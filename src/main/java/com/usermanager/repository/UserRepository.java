@@ -2,14 +2,18 @@ package com.usermanager.repository;
 
 import com.usermanager.domain.entity.User;
 import com.usermanager.domain.enums.UserStatus;
+import com.usermanager.repository.projection.UserLockView;
+import com.usermanager.repository.projection.UserStateView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -68,6 +72,23 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u WHERE u.loginAttempts >= :maxAttempts")
     List<User> findUsersWithExcessiveLoginAttempts(@Param("maxAttempts") Integer maxAttempts);
 
+    // Keyset chunks of the maintenance queries, ordered by id after the given checkpoint
+    @Query("SELECT u FROM User u WHERE u.lastLoginAt < :date AND u.id > :after ORDER BY u.id")
+    List<User> findUsersNotLoggedInSinceAfter(@Param("date") LocalDateTime date,
+                                              @Param("after") UUID after, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.emailVerified = false AND u.createdAt < :date AND u.id > :after ORDER BY u.id")
+    List<User> findUnverifiedUsersCreatedBeforeAfter(@Param("date") LocalDateTime date,
+                                                     @Param("after") UUID after, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.lockedUntil IS NOT NULL AND u.lockedUntil > CURRENT_TIMESTAMP " +
+           "AND u.id > :after ORDER BY u.id")
+    List<User> findLockedUsersAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.loginAttempts >= :maxAttempts AND u.id > :after ORDER BY u.id")
+    List<User> findUsersWithExcessiveLoginAttemptsAfter(@Param("maxAttempts") Integer maxAttempts,
+                                                        @Param("after") UUID after, Pageable pageable);
+
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.code = :roleCode AND u.active = true")
     List<User> findByRoleCodeAndActive(@Param("roleCode") String roleCode);
 
@@ -81,9 +102,65 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     long countUsersCreatedBetween(@Param("startDate") LocalDateTime startDate, 
                                   @Param("endDate") LocalDateTime endDate);
 
+    @Query("SELECT MIN(u.createdAt) FROM User u")
+    LocalDateTime findEarliestCreatedAt();
+
+    @Query("SELECT u.id AS id, u.lockedUntil AS lockedUntil FROM User u " +
+           "WHERE u.lockedUntil IS NOT NULL AND u.lockedUntil <= :until")
+    List<UserLockView> findLocksExpiringUntil(@Param("until") LocalDateTime until);
+
+    @Query("SELECT u FROM User u WHERE u.id IN :ids AND u.lockedUntil IS NOT NULL AND u.lockedUntil <= :now")
+    List<User> findExpiredLocks(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    // Bulk operations: rows are locked while their state is read, then changed by set-based updates
+    @Query(value = "SELECT id, username, status, department, active, locked_until AS \"lockedUntil\", " +
+                   "login_attempts AS \"loginAttempts\", last_login_at AS \"lastLoginAt\", email_verified AS \"emailVerified\" " +
+                   "FROM users WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<UserStateView> lockStates(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT u.id FROM User u WHERE (:department IS NULL OR u.department = :department) " +
+           "AND (:status IS NULL OR u.status = :status) " +
+           "AND (:roleCode IS NULL OR EXISTS (SELECT r.id FROM u.roles r WHERE r.code = :roleCode)) " +
+           "ORDER BY u.id")
+    List<UUID> findIdsByFilter(@Param("department") String department,
+                               @Param("status") UserStatus status,
+                               @Param("roleCode") String roleCode,
+                               Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE User u SET u.active = :active, u.status = :status, " +
+           "u.updatedAt = :now, u.version = COALESCE(u.version, 0) + 1 WHERE u.id IN :ids")
+    int bulkSetActive(@Param("ids") Collection<UUID> ids, @Param("active") boolean active,
+                      @Param("status") UserStatus status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.lockedUntil = :until, u.status = :status, " +
+           "u.updatedAt = :now, u.version = COALESCE(u.version, 0) + 1 WHERE u.id IN :ids")
+    int bulkLock(@Param("ids") Collection<UUID> ids, @Param("until") LocalDateTime until,
+                 @Param("status") UserStatus status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.lockedUntil = NULL, u.loginAttempts = 0, u.status = :status, " +
+           "u.updatedAt = :now, u.version = COALESCE(u.version, 0) + 1 WHERE u.id IN :ids")
+    int bulkUnlock(@Param("ids") Collection<UUID> ids, @Param("status") UserStatus status,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE User u SET u.emailVerified = true, " +
+           "u.updatedAt = :now, u.version = COALESCE(u.version, 0) + 1 WHERE u.id IN :ids")
+    int bulkVerifyEmail(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    // PostgreSQL only, called through AdvisoryLocks; transaction-scoped, false while another transaction holds the key
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
     @Query("SELECT u.department, COUNT(u) FROM User u WHERE u.active = true GROUP BY u.department")
     List<Object[]> countUsersByDepartment();
 
+    @Query("SELECT u.status, COUNT(u) FROM User u WHERE u.active = true GROUP BY u.status")
+    List<Object[]> countUsersByStatus();
+
     @Query("SELECT u FROM User u WHERE u.active = true ORDER BY u.lastLoginAt DESC")
     Page<User> findRecentlyActiveUsers(Pageable pageable);
 }
\ No newline at end of file
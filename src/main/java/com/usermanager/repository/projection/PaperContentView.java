@@ -0,0 +1,33 @@
+package com.usermanager.repository.projection;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+
+import java.util.UUID;
+
+public interface PaperContentView {
+
+    UUID getId();
+
+    String getCode();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getCategory();
+
+    PaperStatus getStatus();
+
+    PaperType getType();
+
+    Boolean getLatestVersion();
+
+    Boolean getActive();
+
+    String getContentHash();
+
+    String getFileName();
+
+    String getMimeType();
+}
@@ -0,0 +1,19 @@
+package com.usermanager.repository.projection;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+
+import java.util.UUID;
+
+public interface PaperIndexView {
+
+    UUID getId();
+
+    PaperStatus getStatus();
+
+    PaperType getType();
+
+    String getCategory();
+
+    Boolean getLatestVersion();
+}
@@ -0,0 +1,23 @@
+package com.usermanager.repository.projection;
+
+import com.usermanager.domain.enums.PaperStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface PaperRankingView {
+
+    UUID getId();
+
+    String getCode();
+
+    String getTitle();
+
+    Long getViewCount();
+
+    Long getDownloadCount();
+
+    LocalDateTime getPublishedAt();
+
+    PaperStatus getStatus();
+}
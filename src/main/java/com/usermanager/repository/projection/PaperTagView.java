@@ -0,0 +1,10 @@
+package com.usermanager.repository.projection;
+
+import java.util.UUID;
+
+public interface PaperTagView {
+
+    UUID getPaperId();
+
+    String getTag();
+}
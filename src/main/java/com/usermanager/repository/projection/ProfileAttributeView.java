@@ -0,0 +1,12 @@
+package com.usermanager.repository.projection;
+
+import java.util.UUID;
+
+public interface ProfileAttributeView {
+
+    UUID getProfileId();
+
+    String getAttributeKey();
+
+    String getAttributeValue();
+}
@@ -0,0 +1,11 @@
+package com.usermanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserLockView {
+
+    UUID getId();
+
+    LocalDateTime getLockedUntil();
+}
@@ -0,0 +1,25 @@
+package com.usermanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface UserStateView {
+
+    UUID getId();
+
+    String getUsername();
+
+    String getStatus();
+
+    String getDepartment();
+
+    Boolean getActive();
+
+    LocalDateTime getLockedUntil();
+
+    Integer getLoginAttempts();
+
+    LocalDateTime getLastLoginAt();
+
+    Boolean getEmailVerified();
+}
@@ -0,0 +1,60 @@
+package com.usermanager.scheduling;
+
+import com.usermanager.domain.entity.ActiveUserSketch;
+import com.usermanager.service.StatisticsService;
+import com.usermanager.stats.ActiveUserTracker;
+import com.usermanager.stats.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Merges the login sketches collected by {@link ActiveUserTracker} into the stored daily
+ * sketches and removes sketches past their retention.
+ */
+@Component
+public class ActiveUserSketchScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveUserSketchScheduler.class);
+
+    private final StatisticsService statisticsService;
+    private final ActiveUserTracker activeUserTracker;
+
+    @Autowired
+    public ActiveUserSketchScheduler(StatisticsService statisticsService, ActiveUserTracker activeUserTracker) {
+        this.statisticsService = statisticsService;
+        this.activeUserTracker = activeUserTracker;
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.active-users.flush-interval-ms}")
+    public void flush() {
+        Map<ActiveUserSketch.Key, HyperLogLog> sketches = activeUserTracker.drain();
+        if (sketches.isEmpty()) {
+            return;
+        }
+        try {
+            statisticsService.flushActiveUserSketches(sketches);
+        } catch (RuntimeException e) {
+            activeUserTracker.restore(sketches);
+            log.warn("Failed to flush {} active user sketches, retrying later", sketches.size(), e);
+        }
+    }
+
+    @Scheduled(cron = "${app.stats.active-users.purge-cron}")
+    public void purge() {
+        int deleted = statisticsService.purgeActiveUserSketches();
+        if (deleted > 0) {
+            log.info("Removed {} expired active user sketches", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+}
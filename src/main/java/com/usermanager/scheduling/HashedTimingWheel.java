@@ -0,0 +1,96 @@
+package com.usermanager.scheduling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel of keys with deadlines, in the style of Varghese and Lauck.
+ *
+ * Deadlines are rounded up to whole ticks and hashed into {@code wheelSize} slots by tick
+ * number. Scheduling and cancelling are O(1); advancing only visits the slots of the ticks that
+ * passed, and in each slot only the entries that are due are removed, entries for later rounds
+ * stay. A key is scheduled at most once; scheduling it again moves it. Not thread-safe.
+ */
+public class HashedTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Map<K, Long>> slots;
+    private final Map<K, Long> ticks = new HashMap<>();
+    private long cursor;
+
+    public HashedTimingWheel(Duration tick, int wheelSize, long nowMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tick.toMillis();
+        this.mask = wheelSize - 1;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new HashMap<>());
+        }
+        this.cursor = nowMillis / tickMillis;
+    }
+
+    public void schedule(K key, long deadlineMillis) {
+        // Deadlines in the past fire on the next advance
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), cursor);
+        Long previous = ticks.put(key, tick);
+        if (previous != null) {
+            slots.get(slotOf(previous)).remove(key);
+        }
+        slots.get(slotOf(tick)).put(key, tick);
+    }
+
+    public void cancel(K key) {
+        Long tick = ticks.remove(key);
+        if (tick != null) {
+            slots.get(slotOf(tick)).remove(key);
+        }
+    }
+
+    public boolean contains(K key) {
+        return ticks.containsKey(key);
+    }
+
+    public int size() {
+        return ticks.size();
+    }
+
+    /**
+     * Removes and returns up to {@code limit} keys whose deadline tick has been reached. When
+     * the limit cuts an advance short, the remaining due keys are returned by the next call.
+     */
+    public List<K> advance(long nowMillis, int limit) {
+        long now = nowMillis / tickMillis;
+        List<K> due = new ArrayList<>();
+        // After a long pause every slot is visited once rather than once per missed tick
+        long last = Math.min(now, cursor + mask);
+        for (long tick = cursor; tick <= last; tick++) {
+            Iterator<Map.Entry<K, Long>> entries = slots.get(slotOf(tick)).entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<K, Long> entry = entries.next();
+                if (entry.getValue() <= now) {
+                    if (due.size() == limit) {
+                        cursor = tick;
+                        return due;
+                    }
+                    entries.remove();
+                    ticks.remove(entry.getKey());
+                    due.add(entry.getKey());
+                }
+            }
+        }
+        cursor = now;
+        return due;
+    }
+
+    // Helper methods
+    private int slotOf(long tick) {
+        return (int) (tick & mask);
+    }
+}
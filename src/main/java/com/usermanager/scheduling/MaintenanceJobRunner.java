@@ -0,0 +1,117 @@
+package com.usermanager.scheduling;
+
+import com.usermanager.dto.MaintenanceChunkResult;
+import com.usermanager.event.MaintenanceJobSubmittedEvent;
+import com.usermanager.service.MaintenanceJobService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs maintenance jobs chunk by chunk on a small worker pool.
+ *
+ * Every chunk is a separate transaction that advances the job's checkpoint, so a job stopped
+ * by a shutdown or crash continues after the last committed chunk when the application starts
+ * again. Throughput is published as the {@code maintenance.jobs.users} counters and the
+ * {@code maintenance.jobs.chunk} timer, tagged by query and action.
+ */
+@Component
+public class MaintenanceJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MaintenanceJobRunner.class);
+
+    private final MaintenanceJobService maintenanceJobService;
+    private final MeterRegistry meterRegistry;
+    private final long chunkPauseMs;
+    private final ExecutorService workers;
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean stopping;
+
+    @Autowired
+    public MaintenanceJobRunner(MaintenanceJobService maintenanceJobService,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.maintenance.jobs.workers}") int workers,
+                                @Value("${app.maintenance.jobs.chunk-pause-ms}") long chunkPauseMs) {
+        this.maintenanceJobService = maintenanceJobService;
+        this.meterRegistry = meterRegistry;
+        this.chunkPauseMs = chunkPauseMs;
+        this.workers = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("maintenance-job-"));
+        meterRegistry.gaugeCollectionSize("maintenance.jobs.running", Tags.empty(), running);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        maintenanceJobService.findUnfinishedJobIds().forEach(this::submit);
+    }
+
+    @TransactionalEventListener
+    public void onJobSubmitted(MaintenanceJobSubmittedEvent event) {
+        submit(event.jobId());
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        stopping = true;
+        workers.shutdown();
+        // Running chunks finish and commit; jobs continue from there on next startup
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // Helper methods
+    private void submit(UUID jobId) {
+        if (running.add(jobId)) {
+            workers.execute(() -> run(jobId));
+        }
+    }
+
+    private void run(UUID jobId) {
+        try {
+            MaintenanceChunkResult result;
+            do {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                result = maintenanceJobService.processNextChunk(jobId);
+                sample.stop(meterRegistry.timer("maintenance.jobs.chunk",
+                        "query", result.query().name(), "action", result.action().name()));
+                usersCounter("processed", result).increment(result.processed());
+                usersCounter("affected", result).increment(result.affected());
+                if (!result.finished() && chunkPauseMs > 0) {
+                    Thread.sleep(chunkPauseMs);
+                }
+            } while (!result.finished() && !stopping);
+            if (result.finished()) {
+                log.info("Maintenance job {} finished", jobId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Maintenance job {} failed", jobId, e);
+            maintenanceJobService.failJob(jobId, e.getMessage());
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private Counter usersCounter(String outcome, MaintenanceChunkResult result) {
+        return meterRegistry.counter("maintenance.jobs.users",
+                "outcome", outcome, "query", result.query().name(), "action", result.action().name());
+    }
+}
@@ -0,0 +1,143 @@
+package com.usermanager.scheduling;
+
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PaperSnapshot;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.projection.PaperExpiryView;
+import com.usermanager.service.PaperService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Moves published papers to EXPIRED once their {@code expiresAt} has passed.
+ *
+ * Papers expiring within the configured horizon are kept in a queue ordered by expiry time,
+ * so each tick only looks at the head of the queue. The queue is seeded from the database on
+ * startup and on every refill, and kept current from {@link PaperChangedEvent}s in between.
+ * Rescheduled or cancelled papers leave their old queue entry behind; it is skipped when it
+ * no longer matches the expiry recorded in {@code scheduled}.
+ */
+@Component
+public class PaperExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaperExpiryScheduler.class);
+
+    private final PaperRepository paperRepository;
+    private final PaperService paperService;
+    private final Duration horizon;
+    private final int batchSize;
+
+    private final Object lock = new Object();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparing(Entry::expiresAt));
+    private final Map<UUID, LocalDateTime> scheduled = new HashMap<>();
+
+    @Autowired
+    public PaperExpiryScheduler(PaperRepository paperRepository,
+                                PaperService paperService,
+                                @Value("${app.papers.expiry.horizon}") Duration horizon,
+                                @Value("${app.papers.expiry.batch-size}") int batchSize) {
+        this.paperRepository = paperRepository;
+        this.paperService = paperService;
+        this.horizon = horizon;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refill();
+    }
+
+    @Scheduled(fixedDelayString = "${app.papers.expiry.refill-interval-ms}",
+               initialDelayString = "${app.papers.expiry.refill-interval-ms}")
+    public void refill() {
+        List<PaperExpiryView> upcoming = paperRepository.findPublishedExpiringUntil(LocalDateTime.now().plus(horizon));
+        synchronized (lock) {
+            // Merged rather than replaced, so changes committed while the query ran are kept.
+            // Entries that are no longer due are filtered out again by PaperService#expirePapers.
+            upcoming.forEach(view -> schedule(view.getId(), view.getExpiresAt()));
+        }
+        log.debug("Expiry queue refilled with {} upcoming papers", upcoming.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.papers.expiry.tick-interval-ms}")
+    public void expireDuePapers() {
+        List<UUID> due;
+        while (!(due = pollDue(LocalDateTime.now())).isEmpty()) {
+            try {
+                int expired = paperService.expirePapers(due);
+                log.info("Expired {} papers", expired);
+            } catch (RuntimeException e) {
+                // Papers stay published in the database; try these again on the next tick
+                log.error("Failed to expire {} papers", due.size(), e);
+                reschedule(due);
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaperChanged(PaperChangedEvent event) {
+        PaperSnapshot paper = event.after();
+        synchronized (lock) {
+            if (paper != null && paper.isPublished() && paper.active() && paper.expiresAt() != null
+                    && paper.expiresAt().isBefore(LocalDateTime.now().plus(horizon))) {
+                schedule(paper.id(), paper.expiresAt());
+            } else {
+                scheduled.remove(event.paperId());
+            }
+        }
+    }
+
+    // Helper methods
+    private void schedule(UUID paperId, LocalDateTime expiresAt) {
+        if (!expiresAt.equals(scheduled.put(paperId, expiresAt))) {
+            queue.add(new Entry(paperId, expiresAt));
+        }
+    }
+
+    private List<UUID> pollDue(LocalDateTime now) {
+        List<UUID> due = new ArrayList<>();
+        synchronized (lock) {
+            while (due.size() < batchSize && !queue.isEmpty() && !queue.peek().expiresAt().isAfter(now)) {
+                Entry entry = queue.poll();
+                if (entry.expiresAt().equals(scheduled.get(entry.paperId()))) {
+                    scheduled.remove(entry.paperId());
+                    due.add(entry.paperId());
+                }
+            }
+        }
+        return due;
+    }
+
+    private void reschedule(List<UUID> paperIds) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (lock) {
+            paperIds.forEach(paperId -> {
+                // Papers rescheduled by a change in the meantime keep their new expiry
+                if (!scheduled.containsKey(paperId)) {
+                    schedule(paperId, now);
+                }
+            });
+        }
+    }
+
+    private record Entry(UUID paperId, LocalDateTime expiresAt) {
+    }
+}
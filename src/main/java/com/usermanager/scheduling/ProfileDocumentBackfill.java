@@ -0,0 +1,64 @@
+package com.usermanager.scheduling;
+
+import com.usermanager.service.UserProfileService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the JSONB attribute and preference documents of profiles created before they existed.
+ *
+ * Each batch runs in its own short transaction and skips rows locked by other writers, so the
+ * backfill runs online next to regular traffic. Once no profile is left without documents the
+ * scheduler stops querying.
+ */
+@Component
+public class ProfileDocumentBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileDocumentBackfill.class);
+
+    private final UserProfileService userProfileService;
+    private final int batchSize;
+    private final long batchPauseMs;
+
+    private volatile boolean completed;
+
+    @Autowired
+    public ProfileDocumentBackfill(UserProfileService userProfileService,
+                                   @Value("${app.profiles.backfill.batch-size}") int batchSize,
+                                   @Value("${app.profiles.backfill.batch-pause-ms}") long batchPauseMs) {
+        this.userProfileService = userProfileService;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+    }
+
+    @Scheduled(initialDelayString = "${app.profiles.backfill.interval-ms}",
+               fixedDelayString = "${app.profiles.backfill.interval-ms}")
+    public void backfill() throws InterruptedException {
+        if (completed) {
+            return;
+        }
+
+        long total = 0;
+        int updated;
+        do {
+            updated = userProfileService.backfillDocuments(batchSize);
+            total += updated;
+            if (updated > 0) {
+                Thread.sleep(batchPauseMs);
+            }
+        } while (updated == batchSize);
+
+        if (total > 0) {
+            log.info("Backfilled documents of {} profiles", total);
+        }
+        // Locked rows were skipped; only stop once nothing is left
+        if (userProfileService.countProfilesWithoutDocuments() == 0) {
+            completed = true;
+            log.info("Profile document backfill completed");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.usermanager.scheduling;
+
+import com.usermanager.domain.entity.UserActivityRollup;
+import com.usermanager.service.StatisticsService;
+import com.usermanager.stats.ActivityBackfillChunk;
+import com.usermanager.stats.UserActivityRecorder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the activity counted by {@link UserActivityRecorder} to the rollup tables and fills
+ * them from the user history on first deployment.
+ *
+ * The backfill splits the history into monthly chunks that are claimed and counted in parallel,
+ * one transaction each. Chunks that were already counted are skipped, so restarting during or
+ * after a backfill is safe.
+ */
+@Component
+public class UserActivityRollupScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(UserActivityRollupScheduler.class);
+
+    private final StatisticsService statisticsService;
+    private final UserActivityRecorder activityRecorder;
+    private final ExecutorService backfillWorkers;
+
+    @Autowired
+    public UserActivityRollupScheduler(StatisticsService statisticsService,
+                                       UserActivityRecorder activityRecorder,
+                                       @Value("${app.stats.activity.backfill-threads}") int backfillThreads) {
+        this.statisticsService = statisticsService;
+        this.activityRecorder = activityRecorder;
+        this.backfillWorkers = Executors.newFixedThreadPool(backfillThreads,
+                new CustomizableThreadFactory("activity-backfill-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<ActivityBackfillChunk> chunks = statisticsService.planActivityBackfill();
+        if (chunks.isEmpty()) {
+            return;
+        }
+
+        AtomicLong buckets = new AtomicLong();
+        CompletableFuture<?>[] tasks = chunks.stream()
+                .map(chunk -> CompletableFuture.runAsync(() -> {
+                    buckets.addAndGet(statisticsService.backfillActivity(chunk));
+                }, backfillWorkers))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(tasks).whenComplete((result, failure) -> {
+            if (failure != null) {
+                log.error("User activity backfill failed, remaining chunks run on next startup", failure);
+            } else if (buckets.get() > 0) {
+                log.info("User activity backfill wrote {} buckets from {} monthly chunks up to {}",
+                        buckets.get(), chunks.size(), chunks.get(0).cutoff());
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.activity.flush-interval-ms}")
+    public void flush() {
+        Map<UserActivityRollup.Key, Long> deltas = activityRecorder.drain();
+        try {
+            statisticsService.flushActivity(deltas);
+        } catch (RuntimeException e) {
+            activityRecorder.restore(deltas);
+            log.warn("Failed to flush {} user activity buckets, retrying later", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        backfillWorkers.shutdownNow();
+        backfillWorkers.awaitTermination(30, TimeUnit.SECONDS);
+        flush();
+    }
+}
@@ -0,0 +1,147 @@
+package com.usermanager.scheduling;
+
+import com.usermanager.event.UserChangedEvent;
+import com.usermanager.event.UserSnapshot;
+import com.usermanager.event.UsersChangedEvent;
+import com.usermanager.repository.UserRepository;
+import com.usermanager.repository.projection.UserLockView;
+import com.usermanager.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Clears {@code lockedUntil} and the login attempts of users whose lock has run out, and moves
+ * them from LOCKED back to ACTIVE.
+ *
+ * Locks ending within the configured horizon are kept in a {@link HashedTimingWheel}, seeded
+ * from the partial index on {@code locked_until} on startup and on every refill, and kept
+ * current from {@link UserChangedEvent}s in between. Due users are unlocked in batches. Every
+ * replica runs its own wheel; the unlock transaction takes an {@link com.usermanager.config.AdvisoryLocks}
+ * lock, so only one node unlocks at a time, and a node that does not get the lock retries on its
+ * next tick.
+ */
+@Component
+public class UserUnlockScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(UserUnlockScheduler.class);
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final Duration horizon;
+    private final int batchSize;
+
+    private final Object lock = new Object();
+    private final HashedTimingWheel<UUID> wheel;
+
+    @Autowired
+    public UserUnlockScheduler(UserRepository userRepository,
+                               UserService userService,
+                               @Value("${app.users.unlock.horizon}") Duration horizon,
+                               @Value("${app.users.unlock.batch-size}") int batchSize,
+                               @Value("${app.users.unlock.tick-interval-ms}") long tickIntervalMs,
+                               @Value("${app.users.unlock.wheel-size}") int wheelSize) {
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.horizon = horizon;
+        this.batchSize = batchSize;
+        this.wheel = new HashedTimingWheel<>(Duration.ofMillis(tickIntervalMs), wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refill();
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.unlock.refill-interval-ms}",
+               initialDelayString = "${app.users.unlock.refill-interval-ms}")
+    public void refill() {
+        // Includes locks that ran out while no node was running; they fire on the next tick
+        List<UserLockView> upcoming = userRepository.findLocksExpiringUntil(LocalDateTime.now().plus(horizon));
+        synchronized (lock) {
+            upcoming.forEach(view -> wheel.schedule(view.getId(), toMillis(view.getLockedUntil())));
+        }
+        log.debug("Unlock wheel refilled with {} upcoming unlocks", upcoming.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.unlock.tick-interval-ms}")
+    public void unlockDueUsers() {
+        List<UUID> due;
+        while (!(due = pollDue()).isEmpty()) {
+            try {
+                OptionalInt unlocked = userService.unlockExpiredUsers(due);
+                if (unlocked.isEmpty()) {
+                    // Another node is unlocking; try these again on the next tick
+                    reschedule(due);
+                    return;
+                }
+                log.info("Unlocked {} users", unlocked.getAsInt());
+            } catch (RuntimeException e) {
+                // Users stay locked in the database; try these again on the next tick
+                log.error("Failed to unlock {} users", due.size(), e);
+                reschedule(due);
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        synchronized (lock) {
+            track(event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        synchronized (lock) {
+            event.changes().forEach(this::track);
+        }
+    }
+
+    // Helper methods
+    private void track(UserChangedEvent event) {
+        UserSnapshot user = event.after();
+        if (user != null && user.lockedUntil() != null
+                && user.lockedUntil().isBefore(LocalDateTime.now().plus(horizon))) {
+            wheel.schedule(user.id(), toMillis(user.lockedUntil()));
+        } else {
+            wheel.cancel(event.userId());
+        }
+    }
+
+    private List<UUID> pollDue() {
+        synchronized (lock) {
+            return wheel.advance(System.currentTimeMillis(), batchSize);
+        }
+    }
+
+    private void reschedule(List<UUID> userIds) {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            userIds.forEach(userId -> {
+                // Users rescheduled by a change in the meantime keep their new deadline
+                if (!wheel.contains(userId)) {
+                    wheel.schedule(userId, now);
+                }
+            });
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
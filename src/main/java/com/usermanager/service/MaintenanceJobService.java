@@ -0,0 +1,32 @@
+package com.usermanager.service;
+
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.dto.MaintenanceChunkResult;
+import com.usermanager.dto.MaintenanceJobDto;
+import com.usermanager.dto.MaintenanceJobItemDto;
+import com.usermanager.dto.MaintenanceJobRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface MaintenanceJobService {
+
+    MaintenanceJobDto createJob(MaintenanceJobRequest request, String requestedBy);
+
+    MaintenanceJobDto getJob(UUID id);
+
+    Page<MaintenanceJobDto> getJobs(Pageable pageable);
+
+    KeysetSlice<MaintenanceJobItemDto> getJobItems(UUID id, UUID after, int size);
+
+    boolean cancelJob(UUID id);
+
+    // Job execution
+    MaintenanceChunkResult processNextChunk(UUID id);
+
+    void failJob(UUID id, String errorMessage);
+
+    List<UUID> findUnfinishedJobIds();
+}
@@ -0,0 +1,60 @@
+package com.usermanager.service;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.dto.PaperContentHitDto;
+import com.usermanager.dto.PaperDto;
+import com.usermanager.dto.PaperLeaderboardDto;
+import com.usermanager.dto.PaperTagSearchResult;
+import com.usermanager.index.PaperTagQuery;
+import com.usermanager.stats.LeaderboardMetric;
+import com.usermanager.storage.PaperContentResource;
+import com.usermanager.stats.LeaderboardWindow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PaperService {
+
+    // CRUD operations
+    Optional<PaperDto> getPaperById(UUID id, String username);
+
+    PaperDto updatePaper(UUID id, PaperDto paperDto, String username);
+
+    PaperContentResource getContent(UUID id, String username);
+
+    // Lifecycle management
+    void publishPaper(UUID id, String username);
+
+    void archivePaper(UUID id, String username);
+
+    int expirePapers(Collection<UUID> ids);
+
+    // Maintenance operations
+    boolean rebuildContentIndex();
+
+    // Tag management
+    void addTag(UUID id, String tag, String username);
+
+    void removeTag(UUID id, String tag, String username);
+
+    // Usage counters
+    void recordView(UUID id, String username);
+
+    void recordDownload(UUID id, String username);
+
+    // Search and listing
+    Page<PaperDto> getPublishedPapers(String username, Pageable pageable);
+
+    PaperTagSearchResult searchByTags(String username, PaperTagQuery query, Pageable pageable, int facetLimit);
+
+    PaperTagSearchResult getVisiblePapers(String username, PaperTagQuery query, Pageable pageable, int facetLimit);
+
+    Page<PaperContentHitDto> searchContent(String username, String text, PaperStatus status, PaperType type,
+                                           boolean latestOnly, Pageable pageable);
+
+    PaperLeaderboardDto getLeaderboard(String username, LeaderboardMetric metric, LeaderboardWindow window, int limit);
+}
@@ -0,0 +1,22 @@
+package com.usermanager.service;
+
+import com.usermanager.domain.entity.Paper;
+
+import java.io.InputStream;
+
+public interface PaperStorageService {
+
+    // Content management
+    void attachContent(Paper paper, InputStream content, String fileName, String mimeType);
+
+    void shareContent(Paper source, Paper target);
+
+    void releaseContent(Paper paper);
+
+    InputStream openContent(Paper paper);
+
+    InputStream openContent(String contentHash);
+
+    // Maintenance operations
+    int collectGarbage();
+}
@@ -0,0 +1,21 @@
+package com.usermanager.service;
+
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.dto.PaperDto;
+import com.usermanager.dto.PaperVersionRequest;
+
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PaperVersionService {
+
+    // Version management
+    PaperDto createNewVersion(UUID paperId, PaperVersionRequest request, InputStream content,
+                              String fileName, String mimeType, String username);
+
+    Optional<PaperDto> getLatestVersion(UUID paperId, String username);
+
+    // Version history, newest first; beforeVersion is the cursor of the previous slice
+    KeysetSlice<PaperDto> getVersionHistory(UUID paperId, Integer beforeVersion, int size, String username);
+}
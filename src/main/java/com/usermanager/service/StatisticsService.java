@@ -0,0 +1,36 @@
+package com.usermanager.service;
+
+import com.usermanager.domain.entity.ActiveUserSketch;
+import com.usermanager.domain.entity.UserActivityRollup;
+import com.usermanager.domain.enums.ActivityMetric;
+import com.usermanager.domain.enums.RollupGranularity;
+import com.usermanager.dto.ActiveUsersDto;
+import com.usermanager.dto.ActivitySeriesDto;
+import com.usermanager.dto.StatisticsOverviewDto;
+import com.usermanager.stats.ActivityBackfillChunk;
+import com.usermanager.stats.HyperLogLog;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface StatisticsService {
+
+    StatisticsOverviewDto getOverview();
+
+    ActivitySeriesDto getActivitySeries(List<ActivityMetric> metrics, RollupGranularity granularity,
+                                        LocalDateTime from, LocalDateTime to);
+
+    int flushActivity(Map<UserActivityRollup.Key, Long> deltas);
+
+    List<ActivityBackfillChunk> planActivityBackfill();
+
+    int backfillActivity(ActivityBackfillChunk chunk);
+
+    ActiveUsersDto getActiveUsers(LocalDate date, boolean byDepartment);
+
+    void flushActiveUserSketches(Map<ActiveUserSketch.Key, HyperLogLog> sketches);
+
+    int purgeActiveUserSketches();
+}
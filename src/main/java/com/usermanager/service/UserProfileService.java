@@ -0,0 +1,50 @@
+package com.usermanager.service;
+
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.dto.UserProfileDto;
+import com.usermanager.index.ProfileAttributeCriterion;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserProfileService {
+
+    // CRUD operations
+    UserProfileDto createProfile(UserProfileDto profileDto);
+
+    Optional<UserProfileDto> getProfileById(UUID id);
+
+    List<UserProfileDto> getProfilesByUser(UUID userId);
+
+    Optional<UserProfileDto> getDefaultProfile(UUID userId);
+
+    Map<UUID, List<UserProfileDto>> getProfilesByUsers(List<UUID> userIds, boolean defaultOnly);
+
+    UserProfileDto updateProfile(UUID id, UserProfileDto profileDto);
+
+    void deleteProfile(UUID id);
+
+    UserProfileDto setDefaultProfile(UUID id);
+
+    // Attribute and preference management
+    UserProfileDto putAttribute(UUID id, String key, String value);
+
+    UserProfileDto removeAttribute(UUID id, String key);
+
+    UserProfileDto putPreference(UUID id, String key, String value);
+
+    UserProfileDto removePreference(UUID id, String key);
+
+    List<UserProfileDto> findByAttribute(String key, String value);
+
+    List<UserProfileDto> findByPreference(String key, String value);
+
+    KeysetSlice<UserProfileDto> searchByAttributes(List<ProfileAttributeCriterion> criteria, UUID after, int size);
+
+    // Maintenance operations
+    int backfillDocuments(int batchSize);
+
+    long countProfilesWithoutDocuments();
+}
@@ -1,13 +1,17 @@
 package com.usermanager.service;
 
+import com.usermanager.dto.BulkUserRequest;
+import com.usermanager.dto.BulkUserResultDto;
 import com.usermanager.dto.UserDto;
 import com.usermanager.domain.enums.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 public interface UserService {
@@ -32,6 +36,8 @@ public interface UserService {
     void activateUser(UUID id);
     
     void deactivateUser(UUID id);
+    
+    BulkUserResultDto bulkOperation(BulkUserRequest request);
 
     // Search and listing
     Page<UserDto> getAllUsers(Pageable pageable);
@@ -53,6 +59,9 @@ public interface UserService {
     
     void unlockUser(UUID id);
     
+    // Empty when another node is already unlocking
+    OptionalInt unlockExpiredUsers(Collection<UUID> ids);
+    
     void incrementLoginAttempts(UUID id);
     
     void resetLoginAttempts(UUID id);
@@ -0,0 +1,222 @@
+package com.usermanager.service.impl;
+
+import com.usermanager.domain.entity.MaintenanceJob;
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.enums.MaintenanceAction;
+import com.usermanager.domain.enums.MaintenanceQuery;
+import com.usermanager.domain.enums.UserStatus;
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.dto.MaintenanceChunkResult;
+import com.usermanager.dto.MaintenanceJobDto;
+import com.usermanager.dto.MaintenanceJobItemDto;
+import com.usermanager.dto.MaintenanceJobRequest;
+import com.usermanager.event.MaintenanceJobSubmittedEvent;
+import com.usermanager.event.MaintenanceNoticeEvent;
+import com.usermanager.event.UserChangedEvent;
+import com.usermanager.event.UserSnapshot;
+import com.usermanager.mapper.MaintenanceJobMapper;
+import com.usermanager.repository.MaintenanceJobRepository;
+import com.usermanager.repository.UserRepository;
+import com.usermanager.service.MaintenanceJobService;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class MaintenanceJobServiceImpl implements MaintenanceJobService {
+
+    // Smallest UUID; user ids are compared in the database's byte order
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final MaintenanceJobRepository maintenanceJobRepository;
+    private final UserRepository userRepository;
+    private final MaintenanceJobMapper maintenanceJobMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultChunkSize;
+    private final int maxChunkSize;
+    private final int maxPageSize;
+
+    @Autowired
+    public MaintenanceJobServiceImpl(MaintenanceJobRepository maintenanceJobRepository,
+                                     UserRepository userRepository,
+                                     MaintenanceJobMapper maintenanceJobMapper,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${app.maintenance.jobs.default-chunk-size}") int defaultChunkSize,
+                                     @Value("${app.maintenance.jobs.max-chunk-size}") int maxChunkSize,
+                                     @Value("${app.pagination.max-page-size}") int maxPageSize) {
+        this.maintenanceJobRepository = maintenanceJobRepository;
+        this.userRepository = userRepository;
+        this.maintenanceJobMapper = maintenanceJobMapper;
+        this.eventPublisher = eventPublisher;
+        this.defaultChunkSize = defaultChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public MaintenanceJobDto createJob(MaintenanceJobRequest request, String requestedBy) {
+        int chunkSize = request.chunkSize() != null ? Math.min(request.chunkSize(), maxChunkSize) : defaultChunkSize;
+        MaintenanceJob job = new MaintenanceJob(request.query(), request.action(), chunkSize);
+        job.setRequestedBy(requestedBy);
+
+        switch (request.query()) {
+            case INACTIVE, UNVERIFIED -> {
+                if (request.daysSince() == null) {
+                    throw new IllegalArgumentException("daysSince is required for " + request.query().name());
+                }
+                job.setCutoff(LocalDateTime.now().minusDays(request.daysSince()));
+            }
+            case EXCESSIVE_LOGIN_ATTEMPTS -> {
+                if (request.maxLoginAttempts() == null) {
+                    throw new IllegalArgumentException("maxLoginAttempts is required for " + request.query().name());
+                }
+                job.setMaxLoginAttempts(request.maxLoginAttempts());
+            }
+            case LOCKED -> {
+            }
+        }
+
+        MaintenanceJob savedJob = maintenanceJobRepository.save(job);
+        eventPublisher.publishEvent(new MaintenanceJobSubmittedEvent(savedJob.getId()));
+        return maintenanceJobMapper.toDto(savedJob);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MaintenanceJobDto getJob(UUID id) {
+        return maintenanceJobRepository.findById(id)
+                .map(maintenanceJobMapper::toDto)
+                .orElseThrow(() -> new EntityNotFoundException("Maintenance job not found with id: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MaintenanceJobDto> getJobs(Pageable pageable) {
+        return maintenanceJobRepository.findAllByOrderByCreatedAtDesc(pageable)
+                .map(maintenanceJobMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<MaintenanceJobItemDto> getJobItems(UUID id, UUID after, int size) {
+        if (!maintenanceJobRepository.existsById(id)) {
+            throw new EntityNotFoundException("Maintenance job not found with id: " + id);
+        }
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+        List<MaintenanceJobItemDto> rows = maintenanceJobRepository
+                .findItems(id, after != null ? after : FIRST_ID, PageRequest.of(0, limit + 1)).stream()
+                .map(maintenanceJobMapper::toItemDto)
+                .toList();
+        return KeysetSlice.of(rows, limit, row -> row.userId().toString());
+    }
+
+    @Override
+    public boolean cancelJob(UUID id) {
+        MaintenanceJob job = maintenanceJobRepository.findForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Maintenance job not found with id: " + id));
+        if (job.isFinished()) {
+            return false;
+        }
+        job.cancel();
+        return true;
+    }
+
+    @Override
+    public MaintenanceChunkResult processNextChunk(UUID id) {
+        // The row lock serializes chunks of the same job across workers and instances
+        MaintenanceJob job = maintenanceJobRepository.findForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Maintenance job not found with id: " + id));
+        if (job.isFinished()) {
+            return new MaintenanceChunkResult(job.getQuery(), job.getAction(), 0, 0, true);
+        }
+        job.start();
+
+        List<User> users = findChunk(job);
+        List<UUID> matched = new ArrayList<>(users.size());
+        List<UUID> affected = new ArrayList<>();
+        for (User user : users) {
+            matched.add(user.getId());
+            if (apply(job.getAction(), user)) {
+                affected.add(user.getId());
+            }
+        }
+
+        if (!affected.isEmpty()) {
+            maintenanceJobRepository.insertItems(job.getId(), affected, true);
+        }
+        if (affected.size() < matched.size()) {
+            Set<UUID> affectedIds = new HashSet<>(affected);
+            List<UUID> unaffected = matched.stream().filter(userId -> !affectedIds.contains(userId)).toList();
+            maintenanceJobRepository.insertItems(job.getId(), unaffected, false);
+        }
+        if (job.getAction() == MaintenanceAction.NOTIFY && !affected.isEmpty()) {
+            eventPublisher.publishEvent(new MaintenanceNoticeEvent(job.getId(), job.getQuery(), affected));
+        }
+
+        if (!users.isEmpty()) {
+            job.checkpoint(users.get(users.size() - 1).getId(), users.size(), affected.size());
+        }
+        if (users.size() < job.getChunkSize()) {
+            job.complete();
+        }
+        return new MaintenanceChunkResult(job.getQuery(), job.getAction(), users.size(), affected.size(), job.isFinished());
+    }
+
+    @Override
+    public void failJob(UUID id, String errorMessage) {
+        maintenanceJobRepository.findForUpdate(id)
+                .filter(job -> !job.isFinished())
+                .ifPresent(job -> job.fail(errorMessage));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findUnfinishedJobIds() {
+        return maintenanceJobRepository.findUnfinishedIds();
+    }
+
+    // Helper methods
+    private List<User> findChunk(MaintenanceJob job) {
+        UUID after = job.getLastUserId() != null ? job.getLastUserId() : FIRST_ID;
+        Pageable chunk = PageRequest.of(0, job.getChunkSize());
+        MaintenanceQuery query = job.getQuery();
+        return switch (query) {
+            case INACTIVE -> userRepository.findUsersNotLoggedInSinceAfter(job.getCutoff(), after, chunk);
+            case UNVERIFIED -> userRepository.findUnverifiedUsersCreatedBeforeAfter(job.getCutoff(), after, chunk);
+            case LOCKED -> userRepository.findLockedUsersAfter(after, chunk);
+            case EXCESSIVE_LOGIN_ATTEMPTS ->
+                    userRepository.findUsersWithExcessiveLoginAttemptsAfter(job.getMaxLoginAttempts(), after, chunk);
+        };
+    }
+
+    private boolean apply(MaintenanceAction action, User user) {
+        return switch (action) {
+            case REPORT -> false;
+            case NOTIFY -> user.isActive();
+            case DEACTIVATE -> {
+                if (!user.isActive()) {
+                    yield false;
+                }
+                UserSnapshot before = UserSnapshot.of(user);
+                user.deactivate();
+                user.setStatus(UserStatus.INACTIVE);
+                eventPublisher.publishEvent(UserChangedEvent.updated(before, UserSnapshot.of(user)));
+                yield true;
+            }
+        };
+    }
+}
@@ -0,0 +1,317 @@
+package com.usermanager.service.impl;
+
+import com.usermanager.domain.entity.Paper;
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.dto.PaperContentHitDto;
+import com.usermanager.dto.PaperDto;
+import com.usermanager.dto.PaperLeaderboardDto;
+import com.usermanager.dto.PaperTagSearchResult;
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PaperCounterEvent;
+import com.usermanager.event.PaperSnapshot;
+import com.usermanager.event.PapersExpiredEvent;
+import com.usermanager.index.PaperContentIndex;
+import com.usermanager.index.PaperTagHits;
+import com.usermanager.index.PaperTagIndex;
+import com.usermanager.index.PaperTagQuery;
+import com.usermanager.index.PaperVisibilityIndex;
+import com.usermanager.mapper.PaperMapper;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.PermissionRepository;
+import com.usermanager.repository.projection.PaperRankingView;
+import com.usermanager.service.PaperService;
+import com.usermanager.service.PaperStorageService;
+import com.usermanager.stats.LeaderboardMetric;
+import com.usermanager.stats.LeaderboardWindow;
+import com.usermanager.stats.PaperLeaderboard;
+import com.usermanager.storage.PaperContentResource;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class PaperServiceImpl implements PaperService {
+
+    private final PaperRepository paperRepository;
+    private final PermissionRepository permissionRepository;
+    private final PaperStorageService paperStorageService;
+    private final PaperMapper paperMapper;
+    private final PaperTagIndex paperTagIndex;
+    private final PaperVisibilityIndex paperVisibilityIndex;
+    private final PaperContentIndex paperContentIndex;
+    private final PaperLeaderboard paperLeaderboard;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public PaperServiceImpl(PaperRepository paperRepository,
+                            PermissionRepository permissionRepository,
+                            PaperStorageService paperStorageService,
+                            PaperMapper paperMapper,
+                            PaperTagIndex paperTagIndex,
+                            PaperVisibilityIndex paperVisibilityIndex,
+                            PaperContentIndex paperContentIndex,
+                            PaperLeaderboard paperLeaderboard,
+                            ApplicationEventPublisher eventPublisher) {
+        this.paperRepository = paperRepository;
+        this.permissionRepository = permissionRepository;
+        this.paperStorageService = paperStorageService;
+        this.paperMapper = paperMapper;
+        this.paperTagIndex = paperTagIndex;
+        this.paperVisibilityIndex = paperVisibilityIndex;
+        this.paperContentIndex = paperContentIndex;
+        this.paperLeaderboard = paperLeaderboard;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PaperDto> getPaperById(UUID id, String username) {
+        return paperRepository.findById(id)
+                .filter(Paper::isActive)
+                .filter(paper -> isVisibleTo(paper, username))
+                .map(paperMapper::toDto);
+    }
+
+    @Override
+    public PaperDto updatePaper(UUID id, PaperDto paperDto, String username) {
+        Paper updatedPaper = modify(id, username, paper -> paperMapper.updateEntity(paper, paperDto));
+        return paperMapper.toDto(updatedPaper);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaperContentResource getContent(UUID id, String username) {
+        Paper paper = paperRepository.findById(id)
+                .filter(Paper::isActive)
+                .filter(Paper::hasContent)
+                .filter(candidate -> isVisibleTo(candidate, username))
+                .orElseThrow(() -> new EntityNotFoundException("Paper content not found with id: " + id));
+
+        String contentHash = paper.getContentHash();
+        return new PaperContentResource(contentHash, paper.getFileName(), paper.getMimeType(), paper.getFileSize(),
+                () -> paperStorageService.openContent(contentHash));
+    }
+
+    @Override
+    public void publishPaper(UUID id, String username) {
+        modify(id, username, Paper::publish);
+    }
+
+    @Override
+    public void archivePaper(UUID id, String username) {
+        modify(id, username, Paper::archive);
+    }
+
+    @Override
+    public int expirePapers(Collection<UUID> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> dueIds = paperRepository.findDueForExpiryForUpdate(ids, now);
+        if (dueIds.isEmpty()) {
+            return 0;
+        }
+
+        int expired = paperRepository.updateStatus(dueIds, PaperStatus.EXPIRED);
+        eventPublisher.publishEvent(new PapersExpiredEvent(dueIds, now));
+        return expired;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean rebuildContentIndex() {
+        return paperContentIndex.rebuild();
+    }
+
+    @Override
+    public void addTag(UUID id, String tag, String username) {
+        validateTag(tag);
+        modify(id, username, paper -> paper.addTag(tag));
+    }
+
+    @Override
+    public void removeTag(UUID id, String tag, String username) {
+        validateTag(tag);
+        modify(id, username, paper -> paper.removeTag(tag));
+    }
+
+    @Override
+    public void recordView(UUID id, String username) {
+        requireVisible(id, username);
+        if (paperRepository.incrementViewCount(id) == 0) {
+            throw new EntityNotFoundException("Paper not found with id: " + id);
+        }
+        PaperRankingView counters = findCounters(id);
+        eventPublisher.publishEvent(new PaperCounterEvent(id, PaperCounterEvent.Counter.VIEWS,
+                counters.getViewCount(), LocalDateTime.now()));
+    }
+
+    @Override
+    public void recordDownload(UUID id, String username) {
+        requireVisible(id, username);
+        if (paperRepository.incrementDownloadCount(id) == 0) {
+            throw new EntityNotFoundException("Paper not found with id: " + id);
+        }
+        PaperRankingView counters = findCounters(id);
+        eventPublisher.publishEvent(new PaperCounterEvent(id, PaperCounterEvent.Counter.DOWNLOADS,
+                counters.getDownloadCount(), LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PaperDto> getPublishedPapers(String username, Pageable pageable) {
+        // Served from the indexes so invisible papers are skipped before paging; see searchVisible for ordering
+        PaperTagQuery published = new PaperTagQuery(null, null, PaperStatus.PUBLISHED, null, null, false);
+        return searchVisible(username, published, pageable, 0).papers();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaperTagSearchResult searchByTags(String username, PaperTagQuery query, Pageable pageable, int facetLimit) {
+        return searchVisible(username, query, pageable, facetLimit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaperTagSearchResult getVisiblePapers(String username, PaperTagQuery query, Pageable pageable, int facetLimit) {
+        return searchVisible(username, query, pageable, facetLimit);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<PaperContentHitDto> searchContent(String username, String text, PaperStatus status, PaperType type,
+                                                  boolean latestOnly, Pageable pageable) {
+        return paperContentIndex.search(text, status, type, latestOnly,
+                permissionRepository.findActiveCodesByUsername(username), pageable);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PaperLeaderboardDto getLeaderboard(String username, LeaderboardMetric metric, LeaderboardWindow window,
+                                              int limit) {
+        List<String> permissions = permissionRepository.findActiveCodesByUsername(username);
+        BitSet visible = paperVisibilityIndex.visibleDocs(permissions);
+        // Entries the lagging bitmap lets through are checked against the database and the board
+        // is ranked again without them; each pass only loads entries not checked before
+        Set<UUID> checked = new HashSet<>();
+        Set<UUID> hidden = new HashSet<>();
+        while (true) {
+            PaperLeaderboardDto board = paperLeaderboard.getLeaderboard(metric, window, limit,
+                    paperId -> !hidden.contains(paperId) && paperVisibilityIndex.contains(visible, paperId));
+            List<UUID> unchecked = board.entries().stream()
+                    .map(PaperLeaderboardDto.Entry::paperId)
+                    .filter(checked::add)
+                    .toList();
+            if (unchecked.isEmpty()) {
+                return board;
+            }
+            int hiddenBefore = hidden.size();
+            paperRepository.findAllWithRequiredPermissionsByIdIn(unchecked).stream()
+                    .filter(paper -> !paper.isActive() || !isVisibleTo(paper, permissions))
+                    .forEach(paper -> hidden.add(paper.getId()));
+            if (hidden.size() == hiddenBefore) {
+                return board;
+            }
+        }
+    }
+
+    // Papers the caller cannot see are treated as missing, so writes cannot reveal them either
+    private Paper modify(UUID id, String username, Consumer<Paper> change) {
+        Paper paper = paperRepository.findById(id)
+                .filter(Paper::isActive)
+                .filter(candidate -> isVisibleTo(candidate, username))
+                .orElseThrow(() -> new EntityNotFoundException("Paper not found with id: " + id));
+
+        PaperSnapshot before = PaperSnapshot.of(paper);
+        change.accept(paper);
+        Paper savedPaper = paperRepository.save(paper);
+        eventPublisher.publishEvent(PaperChangedEvent.updated(before, PaperSnapshot.of(savedPaper)));
+        return savedPaper;
+    }
+
+    private PaperTagSearchResult searchVisible(String username, PaperTagQuery query, Pageable pageable, int facetLimit) {
+        // The bitmaps hold no sortable fields and return papers in index order, so a requested
+        // sort is rejected rather than silently dropped
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalArgumentException("Sorting is not supported for indexed paper listings: "
+                    + pageable.getSort());
+        }
+        // Invisible papers are excluded before paging, so every fetched row belongs to the page
+        List<String> permissions = permissionRepository.findActiveCodesByUsername(username);
+        PaperTagHits hits = paperTagIndex.search(query, paperVisibilityIndex.visibleDocs(permissions),
+                pageable.getOffset(), pageable.getPageSize(), facetLimit);
+        return toSearchResult(hits, pageable, permissions);
+    }
+
+    private boolean isVisibleTo(Paper paper, String username) {
+        return paper.getRequiredPermissions().isEmpty()
+                || isVisibleTo(paper, permissionRepository.findActiveCodesByUsername(username));
+    }
+
+    private static boolean isVisibleTo(Paper paper, Collection<String> permissions) {
+        return permissions.containsAll(paper.getRequiredPermissions());
+    }
+
+    private PaperTagSearchResult toSearchResult(PaperTagHits hits, Pageable pageable, Collection<String> permissions) {
+        // The index decides the order; the lookups only hydrate the page, collections included
+        Map<UUID, Paper> papersById = Map.of();
+        if (!hits.paperIds().isEmpty()) {
+            paperRepository.findAllWithRequiredPermissionsByIdIn(hits.paperIds());
+            papersById = paperRepository.findAllWithTagsByIdIn(hits.paperIds()).stream()
+                    .collect(Collectors.toMap(Paper::getId, Function.identity()));
+        }
+        // The visibility bitmap can lag permission changes made on other nodes, so the hydrated
+        // rows are checked again; a page may come back short until the next index rebuild
+        List<PaperDto> papers = hits.paperIds().stream()
+                .map(papersById::get)
+                .filter(paper -> paper != null && isVisibleTo(paper, permissions))
+                .map(paperMapper::toDto)
+                .toList();
+
+        return new PaperTagSearchResult(
+                new PageImpl<>(papers, pageable, hits.totalElements()),
+                hits.tagFacets(),
+                hits.statusFacets(),
+                hits.typeFacets(),
+                hits.categoryFacets());
+    }
+
+    // Counters of papers the caller cannot see are left alone, so they cannot probe or inflate them
+    private void requireVisible(UUID id, String username) {
+        paperRepository.findById(id)
+                .filter(Paper::isActive)
+                .filter(paper -> isVisibleTo(paper, username))
+                .orElseThrow(() -> new EntityNotFoundException("Paper not found with id: " + id));
+    }
+
+    private PaperRankingView findCounters(UUID id) {
+        return paperRepository.findRankingViewsByIds(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Paper not found with id: " + id));
+    }
+
+    private void validateTag(String tag) {
+        if (tag == null || tag.isBlank() || tag.length() > 50) {
+            throw new IllegalArgumentException("Tag must be between 1 and 50 characters");
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.usermanager.service.impl;
+
+import com.usermanager.domain.entity.Paper;
+import com.usermanager.domain.entity.PaperBlob;
+import com.usermanager.domain.enums.BlobCompression;
+import com.usermanager.repository.PaperBlobRepository;
+import com.usermanager.service.PaperStorageService;
+import com.usermanager.storage.CompressionPolicy;
+import com.usermanager.storage.SeekableZstd;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stores paper files once per distinct content. Blobs are addressed by their SHA-256 hash and
+ * reference counted in {@code paper_blobs}; unreferenced blobs are removed by {@link #collectGarbage()}.
+ * Depending on the {@link CompressionPolicy}, a blob is written in the seekable zstd format and
+ * decompressed while it is read.
+ */
+@Service
+public class PaperStorageServiceImpl implements PaperStorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaperStorageServiceImpl.class);
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int GC_BATCH_SIZE = 500;
+
+    private final PaperBlobRepository paperBlobRepository;
+    private final CompressionPolicy compressionPolicy;
+    private final TransactionTemplate transactionTemplate;
+    private final Path storageRoot;
+    private final Duration gcGracePeriod;
+
+    @Autowired
+    public PaperStorageServiceImpl(PaperBlobRepository paperBlobRepository,
+                                   CompressionPolicy compressionPolicy,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.storage.papers.root}") String storageRoot,
+                                   @Value("${app.storage.papers.gc-grace-period}") Duration gcGracePeriod) {
+        this.paperBlobRepository = paperBlobRepository;
+        this.compressionPolicy = compressionPolicy;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.storageRoot = Paths.get(storageRoot).toAbsolutePath().normalize();
+        this.gcGracePeriod = gcGracePeriod;
+    }
+
+    @Override
+    @Transactional
+    public void attachContent(Paper paper, InputStream content, String fileName, String mimeType) {
+        ReceivedContent received = receive(content);
+        try {
+            String contentHash = received.contentHash();
+            // Content that is already stored keeps the representation it was first stored with
+            Optional<PaperBlob> existing = paperBlobRepository.findByContentHash(contentHash);
+            BlobCompression compression = existing.isPresent()
+                    ? existing.get().getCompression()
+                    : compressionPolicy.choose(mimeType, received.file());
+
+            // Upsert takes a row lock on the blob, so a concurrent garbage collection either
+            // finished deleting the file already or waits until this transaction commits.
+            paperBlobRepository.acquire(contentHash, received.size(), compression.name(), mimeType,
+                    storagePathFor(contentHash, compression));
+            PaperBlob blob = paperBlobRepository.findByContentHash(contentHash)
+                    .orElseThrow(() -> new IllegalStateException("Blob missing after acquire: " + contentHash));
+            long storedSize = materialize(blob, received.file());
+
+            if (paper.hasContent()) {
+                paperBlobRepository.release(paper.getContentHash());
+            }
+
+            paper.setContentHash(contentHash);
+            paper.setFilePath(blob.getStoragePath());
+            paper.setFileSize(received.size());
+            paper.setStoredFileSize(storedSize);
+            paper.setFileName(fileName);
+            paper.setMimeType(mimeType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store content for paper: " + paper.getCode(), e);
+        } finally {
+            deleteQuietly(received.file());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void shareContent(Paper source, Paper target) {
+        if (!source.hasContent()) {
+            return;
+        }
+
+        PaperBlob blob = paperBlobRepository.findByContentHash(source.getContentHash())
+                .orElseThrow(() -> new IllegalStateException("Blob missing for content: " + source.getContentHash()));
+        paperBlobRepository.acquire(blob.getContentHash(), blob.getSizeBytes(), blob.getCompression().name(),
+                blob.getMimeType(), blob.getStoragePath());
+        if (target.hasContent()) {
+            paperBlobRepository.release(target.getContentHash());
+        }
+
+        target.setContentHash(source.getContentHash());
+        target.setFilePath(source.getFilePath());
+        target.setFileSize(source.getFileSize());
+        target.setStoredFileSize(source.getStoredFileSize());
+        target.setFileName(source.getFileName());
+        target.setMimeType(source.getMimeType());
+    }
+
+    @Override
+    @Transactional
+    public void releaseContent(Paper paper) {
+        if (!paper.hasContent()) {
+            return;
+        }
+
+        paperBlobRepository.release(paper.getContentHash());
+        paper.setContentHash(null);
+        paper.setFilePath(null);
+        paper.setFileSize(null);
+        paper.setStoredFileSize(null);
+    }
+
+    @Override
+    public InputStream openContent(Paper paper) {
+        if (!paper.hasContent()) {
+            throw new EntityNotFoundException("Paper has no content: " + paper.getId());
+        }
+
+        return openContent(paper.getContentHash());
+    }
+
+    @Override
+    public InputStream openContent(String contentHash) {
+        try {
+            Path compressed = storageRoot.resolve(storagePathFor(contentHash, BlobCompression.ZSTD_SEEKABLE));
+            if (Files.exists(compressed)) {
+                return SeekableZstd.open(compressed);
+            }
+            return Files.newInputStream(storageRoot.resolve(storagePathFor(contentHash, BlobCompression.NONE)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open content: " + contentHash, e);
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${app.storage.papers.gc-cron}")
+    public int collectGarbage() {
+        // Repairs counts left behind by papers hard-deleted without releasing their content.
+        // Soft-deleted papers keep their content_hash and still count, so restores and audit
+        // reads of them keep working
+        transactionTemplate.executeWithoutResult(status -> paperBlobRepository.reconcileReferenceCounts());
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(gcGracePeriod);
+        int collected = 0;
+        List<UUID> candidates;
+        int collectedInBatch;
+        do {
+            candidates = paperBlobRepository.findUnreferencedBlobIds(cutoff, PageRequest.of(0, GC_BATCH_SIZE));
+            collectedInBatch = 0;
+            for (UUID blobId : candidates) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> collect(blobId)))) {
+                    collectedInBatch++;
+                }
+            }
+            collected += collectedInBatch;
+        } while (candidates.size() == GC_BATCH_SIZE && collectedInBatch > 0);
+
+        if (collected > 0) {
+            log.info("Collected {} unreferenced paper blobs", collected);
+        }
+        return collected;
+    }
+
+    private boolean collect(UUID blobId) {
+        return paperBlobRepository.findUnreferencedForUpdate(blobId)
+                .map(blob -> {
+                    try {
+                        // The file goes first, while the row lock still blocks new references
+                        Files.deleteIfExists(storageRoot.resolve(blob.getStoragePath()));
+                    } catch (IOException e) {
+                        log.warn("Failed to delete paper blob {}: {}", blob.getContentHash(), e.getMessage());
+                        return false;
+                    }
+                    paperBlobRepository.delete(blob);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private ReceivedContent receive(InputStream content) {
+        Path file = null;
+        try {
+            Path uploads = storageRoot.resolve("tmp");
+            Files.createDirectories(uploads);
+            file = Files.createTempFile(uploads, "upload-", ".tmp");
+
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(file)) {
+                size = in.transferTo(out);
+            }
+            return new ReceivedContent(file, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Failed to receive paper content", e);
+        } catch (NoSuchAlgorithmException e) {
+            deleteQuietly(file);
+            throw new IllegalStateException(HASH_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private long materialize(PaperBlob blob, Path received) throws IOException {
+        Path target = storageRoot.resolve(blob.getStoragePath());
+        if (Files.exists(target)) {
+            return blob.getStoredSize();
+        }
+
+        Files.createDirectories(target.getParent());
+        long storedSize;
+        if (blob.isCompressed()) {
+            Path compressed = Files.createTempFile(storageRoot.resolve("tmp"), "compress-", ".tmp");
+            try {
+                storedSize = SeekableZstd.compress(received, compressed,
+                        compressionPolicy.getLevel(), compressionPolicy.getFrameSize());
+                Files.move(compressed, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                deleteQuietly(compressed);
+            }
+        } else {
+            storedSize = Files.size(received);
+            Files.move(received, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        if (storedSize != blob.getStoredSize()) {
+            paperBlobRepository.updateStoredSize(blob.getContentHash(), storedSize);
+        }
+        return storedSize;
+    }
+
+    private static String storagePathFor(String contentHash, BlobCompression compression) {
+        String path = contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash;
+        return compression == BlobCompression.ZSTD_SEEKABLE ? path + ".zst" : path;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary upload {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record ReceivedContent(Path file, String contentHash, long size) {
+    }
+}
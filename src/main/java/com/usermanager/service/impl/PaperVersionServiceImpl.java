@@ -0,0 +1,193 @@
+package com.usermanager.service.impl;
+
+import com.usermanager.domain.entity.Paper;
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.dto.PaperDto;
+import com.usermanager.dto.PaperVersionRequest;
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PaperSnapshot;
+import com.usermanager.mapper.PaperMapper;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.PermissionRepository;
+import com.usermanager.repository.UserRepository;
+import com.usermanager.service.PaperStorageService;
+import com.usermanager.service.PaperVersionService;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class PaperVersionServiceImpl implements PaperVersionService {
+
+    private static final int MAX_CODE_LENGTH = 100;
+
+    private final PaperRepository paperRepository;
+    private final UserRepository userRepository;
+    private final PermissionRepository permissionRepository;
+    private final PaperStorageService paperStorageService;
+    private final PaperMapper paperMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxPageSize;
+
+    @Autowired
+    public PaperVersionServiceImpl(PaperRepository paperRepository,
+                                   UserRepository userRepository,
+                                   PermissionRepository permissionRepository,
+                                   PaperStorageService paperStorageService,
+                                   PaperMapper paperMapper,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.pagination.max-page-size}") int maxPageSize) {
+        this.paperRepository = paperRepository;
+        this.userRepository = userRepository;
+        this.permissionRepository = permissionRepository;
+        this.paperStorageService = paperStorageService;
+        this.paperMapper = paperMapper;
+        this.eventPublisher = eventPublisher;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public PaperDto createNewVersion(UUID paperId, PaperVersionRequest request, InputStream content,
+                                     String fileName, String mimeType, String username) {
+        List<String> permissions = permissionRepository.findActiveCodesByUsername(username);
+        UUID chainId = paperRepository.findById(paperId)
+                .filter(Paper::isActive)
+                .filter(paper -> isVisibleTo(paper, permissions))
+                .map(Paper::getVersionChainId)
+                .orElseThrow(() -> new EntityNotFoundException("Paper not found with id: " + paperId));
+
+        User author = userRepository.findByUsername(username)
+                .filter(User::isActive)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with username: " + username));
+
+        // Locking the first version serializes version creation per chain, so nothing
+        // about the chain is read before the lock is held
+        Paper first = paperRepository.findByIdForUpdate(chainId)
+                .orElseThrow(() -> new EntityNotFoundException("Paper not found with id: " + chainId));
+
+        Paper latest = paperRepository.findLatestVersion(chainId).orElse(first);
+        // The new version copies the latest one's content and may change its permissions
+        if (!isVisibleTo(latest, permissions)) {
+            throw new EntityNotFoundException("Paper not found with id: " + paperId);
+        }
+        Integer maxVersionNumber = paperRepository.findMaxVersionNumber(chainId);
+        int versionNumber = (maxVersionNumber != null ? maxVersionNumber : latest.getVersionNumber()) + 1;
+
+        Paper next = new Paper(versionCode(first.getCode(), versionNumber), latest.getTitle(), latest.getType(), author);
+        next.setDescription(latest.getDescription());
+        next.setCategory(latest.getCategory());
+        next.setExpiresAt(latest.getExpiresAt());
+        next.setTags(new HashSet<>(latest.getTags()));
+        next.setRequiredPermissions(new HashSet<>(latest.getRequiredPermissions()));
+        next.setStatus(PaperStatus.DRAFT);
+        next.setParentPaperId(chainId);
+        next.setVersionNumber(versionNumber);
+        next.setIsLatestVersion(true);
+        applyChanges(next, request);
+
+        if (content != null) {
+            paperStorageService.attachContent(next, content, fileName, mimeType);
+        } else {
+            paperStorageService.shareContent(latest, next);
+        }
+
+        // Flip is flushed before the insert so the latest-version unique index never sees two rows
+        if (latest.isLatestVersion()) {
+            PaperSnapshot before = PaperSnapshot.of(latest);
+            latest.setIsLatestVersion(false);
+            Paper previousVersion = paperRepository.saveAndFlush(latest);
+            eventPublisher.publishEvent(PaperChangedEvent.updated(before, PaperSnapshot.of(previousVersion)));
+        }
+        Paper savedVersion = paperRepository.save(next);
+        eventPublisher.publishEvent(PaperChangedEvent.created(PaperSnapshot.of(savedVersion)));
+        return paperMapper.toDto(savedVersion);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PaperDto> getLatestVersion(UUID paperId, String username) {
+        List<String> permissions = permissionRepository.findActiveCodesByUsername(username);
+        return paperRepository.findById(paperId)
+                .filter(paper -> isVisibleTo(paper, permissions))
+                .flatMap(paper -> paperRepository.findVersionChainId(paperId))
+                .flatMap(paperRepository::findLatestVersion)
+                .filter(latest -> isVisibleTo(latest, permissions))
+                .map(paperMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<PaperDto> getVersionHistory(UUID paperId, Integer beforeVersion, int size, String username) {
+        List<String> permissions = permissionRepository.findActiveCodesByUsername(username);
+        Paper paper = paperRepository.findById(paperId)
+                .filter(Paper::isActive)
+                .filter(candidate -> isVisibleTo(candidate, permissions))
+                .orElseThrow(() -> new EntityNotFoundException("Paper not found with id: " + paperId));
+
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+        int before = beforeVersion != null ? beforeVersion : Integer.MAX_VALUE;
+        List<Paper> rows = paperRepository.findVersionHistory(paper.getVersionChainId(), before,
+                PageRequest.of(0, limit + 1));
+        if (!rows.isEmpty()) {
+            // Loads the permissions of the whole slice at once for the visibility check
+            paperRepository.findAllWithRequiredPermissionsByIdIn(rows.stream().map(Paper::getId).toList());
+        }
+
+        // Versions can require different permissions; hidden ones are left out without moving the cursor
+        return KeysetSlice.of(rows, limit, row -> String.valueOf(row.getVersionNumber()))
+                .filter(row -> isVisibleTo(row, permissions))
+                .map(paperMapper::toDto);
+    }
+
+    private static boolean isVisibleTo(Paper paper, Collection<String> permissions) {
+        return permissions.containsAll(paper.getRequiredPermissions());
+    }
+
+    private void applyChanges(Paper paper, PaperVersionRequest request) {
+        if (request == null) {
+            return;
+        }
+        if (request.title() != null) {
+            paper.setTitle(request.title());
+        }
+        if (request.description() != null) {
+            paper.setDescription(request.description());
+        }
+        if (request.category() != null) {
+            paper.setCategory(request.category());
+        }
+        if (request.expiresAt() != null) {
+            paper.setExpiresAt(request.expiresAt());
+        }
+        if (request.tags() != null) {
+            paper.getTags().clear();
+            request.tags().forEach(paper::addTag);
+        }
+        if (request.requiredPermissions() != null) {
+            paper.getRequiredPermissions().clear();
+            request.requiredPermissions().forEach(paper::addRequiredPermission);
+        }
+    }
+
+    private static String versionCode(String baseCode, int versionNumber) {
+        String code = baseCode + "-v" + versionNumber;
+        if (code.length() > MAX_CODE_LENGTH) {
+            throw new IllegalArgumentException("Version code exceeds " + MAX_CODE_LENGTH + " characters: " + code);
+        }
+        return code;
+    }
+}
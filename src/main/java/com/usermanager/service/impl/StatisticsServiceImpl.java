@@ -0,0 +1,270 @@
+package com.usermanager.service.impl;
+
+import com.usermanager.domain.entity.ActiveUserSketch;
+import com.usermanager.domain.entity.UserActivityRollup;
+import com.usermanager.domain.enums.ActivityMetric;
+import com.usermanager.domain.enums.RollupGranularity;
+import com.usermanager.dto.ActiveUsersDto;
+import com.usermanager.dto.ActivitySeriesDto;
+import com.usermanager.dto.StatisticsOverviewDto;
+import com.usermanager.repository.ActiveUserSketchRepository;
+import com.usermanager.repository.UserActivityRollupRepository;
+import com.usermanager.repository.UserRepository;
+import com.usermanager.service.StatisticsService;
+import com.usermanager.stats.ActiveUserTracker;
+import com.usermanager.stats.ActivityBackfillChunk;
+import com.usermanager.stats.DashboardStatistics;
+import com.usermanager.stats.HyperLogLog;
+import com.usermanager.stats.UserActivityRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private static final int WEEKLY_DAYS = 7;
+    private static final int MONTHLY_DAYS = 30;
+
+    private final DashboardStatistics dashboardStatistics;
+    private final UserActivityRecorder activityRecorder;
+    private final UserActivityRollupRepository activityRollupRepository;
+    private final UserRepository userRepository;
+    private final ActiveUserTracker activeUserTracker;
+    private final ActiveUserSketchRepository activeUserSketchRepository;
+    private final int defaultPoints;
+    private final int maxPoints;
+    private final int sketchRetentionDays;
+
+    @Autowired
+    public StatisticsServiceImpl(DashboardStatistics dashboardStatistics,
+                                 UserActivityRecorder activityRecorder,
+                                 UserActivityRollupRepository activityRollupRepository,
+                                 UserRepository userRepository,
+                                 ActiveUserTracker activeUserTracker,
+                                 ActiveUserSketchRepository activeUserSketchRepository,
+                                 @Value("${app.stats.activity.default-points}") int defaultPoints,
+                                 @Value("${app.stats.activity.max-points}") int maxPoints,
+                                 @Value("${app.stats.active-users.retention-days}") int sketchRetentionDays) {
+        this.dashboardStatistics = dashboardStatistics;
+        this.activityRecorder = activityRecorder;
+        this.activityRollupRepository = activityRollupRepository;
+        this.userRepository = userRepository;
+        this.activeUserTracker = activeUserTracker;
+        this.activeUserSketchRepository = activeUserSketchRepository;
+        this.defaultPoints = defaultPoints;
+        this.maxPoints = maxPoints;
+        this.sketchRetentionDays = sketchRetentionDays;
+    }
+
+    @Override
+    public StatisticsOverviewDto getOverview() {
+        // Served from in-memory counters, no database access
+        return dashboardStatistics.getOverview();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActivitySeriesDto getActivitySeries(List<ActivityMetric> metrics, RollupGranularity granularity,
+                                               LocalDateTime from, LocalDateTime to) {
+        List<ActivityMetric> requested = metrics == null || metrics.isEmpty()
+                ? Arrays.asList(ActivityMetric.values())
+                : metrics.stream().distinct().toList();
+        Duration length = granularity.getLength();
+
+        // Buckets are [start, start + length); the bucket containing 'to' is included
+        LocalDateTime end = granularity.bucketOf(to != null ? to : LocalDateTime.now()).plus(length);
+        LocalDateTime start = from != null
+                ? granularity.bucketOf(from)
+                : end.minus(length.multipliedBy(defaultPoints));
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        long points = Duration.between(start, end).dividedBy(length);
+        if (points > maxPoints) {
+            throw new IllegalArgumentException("Range spans " + points + " buckets, at most " + maxPoints + " allowed");
+        }
+
+        List<LocalDateTime> buckets = new ArrayList<>((int) points);
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = bucket.plus(length)) {
+            buckets.add(bucket);
+        }
+
+        Map<ActivityMetric, long[]> counts = new EnumMap<>(ActivityMetric.class);
+        requested.forEach(metric -> {
+            long[] values = new long[buckets.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = activityRecorder.pendingCount(metric, granularity, buckets.get(i));
+            }
+            counts.put(metric, values);
+        });
+        for (UserActivityRollup rollup : activityRollupRepository.findSeries(requested, granularity, start, end)) {
+            int index = (int) (ChronoUnit.MINUTES.between(start, rollup.getKey().getBucketStart()) / length.toMinutes());
+            counts.get(rollup.getKey().getMetric())[index] += rollup.getEventCount();
+        }
+
+        List<ActivitySeriesDto.Series> series = requested.stream()
+                .map(metric -> {
+                    long[] values = counts.get(metric);
+                    return new ActivitySeriesDto.Series(metric, Arrays.stream(values).sum(),
+                            Arrays.stream(values).boxed().toList());
+                })
+                .toList();
+        return new ActivitySeriesDto(granularity, start, end, buckets, series);
+    }
+
+    @Override
+    @Transactional
+    public int flushActivity(Map<UserActivityRollup.Key, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        int size = deltas.size();
+        String[] metrics = new String[size];
+        String[] granularities = new String[size];
+        LocalDateTime[] bucketStarts = new LocalDateTime[size];
+        long[] counts = new long[size];
+        int i = 0;
+        for (Map.Entry<UserActivityRollup.Key, Long> delta : deltas.entrySet()) {
+            metrics[i] = delta.getKey().getMetric().name();
+            granularities[i] = delta.getKey().getGranularity().name();
+            bucketStarts[i] = delta.getKey().getBucketStart();
+            counts[i] = delta.getValue();
+            i++;
+        }
+        return activityRollupRepository.addCounts(metrics, granularities, bucketStarts, counts);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ActivityBackfillChunk> planActivityBackfill() {
+        LocalDateTime earliest = userRepository.findEarliestCreatedAt();
+        if (earliest == null) {
+            return List.of();
+        }
+        // An interrupted backfill resumes with the cutoff it started with
+        LocalDateTime cutoff = activityRollupRepository.findBackfillCutoff();
+        if (cutoff == null) {
+            cutoff = activityRecorder.getStartedAt();
+        }
+
+        List<ActivityBackfillChunk> chunks = new ArrayList<>();
+        LocalDateTime chunkStart = earliest.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        while (chunkStart.isBefore(cutoff)) {
+            LocalDateTime next = chunkStart.plusMonths(1);
+            chunks.add(new ActivityBackfillChunk(chunkStart, next.isBefore(cutoff) ? next : cutoff, cutoff));
+            chunkStart = next;
+        }
+        return chunks;
+    }
+
+    @Override
+    @Transactional
+    public int backfillActivity(ActivityBackfillChunk chunk) {
+        return activityRollupRepository.backfillCreations(chunk.from(), chunk.to(), chunk.cutoff());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActiveUsersDto getActiveUsers(LocalDate date, boolean byDepartment) {
+        LocalDate day = date != null ? date : LocalDate.now();
+        LocalDate monthStart = day.minusDays(MONTHLY_DAYS - 1);
+        LocalDate weekStart = day.minusDays(WEEKLY_DAYS - 1);
+
+        Map<ActiveUserSketch.Key, HyperLogLog> sketches = activeUserTracker.pendingBetween(monthStart, day);
+        for (ActiveUserSketch stored : activeUserSketchRepository.findByDayBetween(monthStart, day)) {
+            HyperLogLog sketch = HyperLogLog.fromBytes(stored.getRegisters());
+            sketches.merge(stored.getKey(), sketch, StatisticsServiceImpl::union);
+        }
+
+        // Stored sketches may predate a precision change; everything is folded to the lowest
+        int precision = sketches.values().stream()
+                .mapToInt(HyperLogLog::getPrecision)
+                .min()
+                .orElse(activeUserTracker.getPrecision());
+        WindowSketches total = new WindowSketches(precision);
+        Map<String, WindowSketches> departments = new TreeMap<>();
+        sketches.forEach((key, sketch) -> {
+            LocalDate sketchDay = key.getDay();
+            total.add(sketchDay, day, weekStart, sketch);
+            if (byDepartment) {
+                String department = key.getDepartment().equals(ActiveUserTracker.NO_DEPARTMENT)
+                        ? DashboardStatistics.NONE
+                        : key.getDepartment();
+                departments.computeIfAbsent(department, d -> new WindowSketches(precision))
+                        .add(sketchDay, day, weekStart, sketch);
+            }
+        });
+
+        Map<String, ActiveUsersDto.Counts> departmentCounts = new TreeMap<>();
+        departments.forEach((department, windows) -> departmentCounts.put(department, windows.counts()));
+        return new ActiveUsersDto(day, new HyperLogLog(precision).getRelativeError(), total.counts(), departmentCounts);
+    }
+
+    @Override
+    @Transactional
+    public void flushActiveUserSketches(Map<ActiveUserSketch.Key, HyperLogLog> sketches) {
+        sketches.forEach((key, sketch) -> {
+            if (activeUserSketchRepository.insertIfAbsent(key.getDay(), key.getDepartment(), sketch.toBytes()) > 0) {
+                return;
+            }
+            // Another writer created the row; merge under its lock
+            ActiveUserSketch stored = activeUserSketchRepository.findForUpdate(key)
+                    .orElseThrow(() -> new IllegalStateException("Sketch disappeared: " + key.getDay()));
+            stored.setRegisters(union(HyperLogLog.fromBytes(stored.getRegisters()), sketch).toBytes());
+        });
+    }
+
+    @Override
+    @Transactional
+    public int purgeActiveUserSketches() {
+        return activeUserSketchRepository.deleteOlderThan(LocalDate.now().minusDays(sketchRetentionDays));
+    }
+
+    // Helper methods
+    private static HyperLogLog union(HyperLogLog a, HyperLogLog b) {
+        // Merge into the lower precision, a higher one cannot be restored
+        HyperLogLog result = (a.getPrecision() <= b.getPrecision() ? a : b).copy();
+        result.merge(a.getPrecision() <= b.getPrecision() ? b : a);
+        return result;
+    }
+
+    private static final class WindowSketches {
+
+        private final HyperLogLog daily;
+        private final HyperLogLog weekly;
+        private final HyperLogLog monthly;
+
+        WindowSketches(int precision) {
+            this.daily = new HyperLogLog(precision);
+            this.weekly = new HyperLogLog(precision);
+            this.monthly = new HyperLogLog(precision);
+        }
+
+        void add(LocalDate sketchDay, LocalDate day, LocalDate weekStart, HyperLogLog sketch) {
+            monthly.merge(sketch);
+            if (!sketchDay.isBefore(weekStart)) {
+                weekly.merge(sketch);
+            }
+            if (sketchDay.equals(day)) {
+                daily.merge(sketch);
+            }
+        }
+
+        ActiveUsersDto.Counts counts() {
+            return new ActiveUsersDto.Counts(daily.estimate(), weekly.estimate(), monthly.estimate());
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.usermanager.service.impl;
+
+import com.usermanager.config.CacheConfig;
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.entity.UserProfile;
+import com.usermanager.dto.KeysetSlice;
+import com.usermanager.dto.UserProfileDto;
+import com.usermanager.event.ProfileChangedEvent;
+import com.usermanager.event.ProfileSnapshot;
+import com.usermanager.index.ProfileAttributeCriterion;
+import com.usermanager.index.ProfileAttributeIndex;
+import com.usermanager.mapper.UserProfileMapper;
+import com.usermanager.repository.UserProfileRepository;
+import com.usermanager.repository.UserRepository;
+import com.usermanager.service.UserProfileService;
+import com.usermanager.storage.ProfileAttributeStore;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class UserProfileServiceImpl implements UserProfileService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_ATTRIBUTE_VALUE_LENGTH = 1000;
+    private static final int MAX_PREFERENCE_VALUE_LENGTH = 500;
+
+    private final UserProfileRepository userProfileRepository;
+    private final UserRepository userRepository;
+    private final UserProfileMapper userProfileMapper;
+    private final ProfileAttributeStore attributeStore;
+    private final ProfileAttributeIndex attributeIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxPageSize;
+    private final int maxBatchSize;
+
+    @Autowired
+    public UserProfileServiceImpl(UserProfileRepository userProfileRepository,
+                                  UserRepository userRepository,
+                                  UserProfileMapper userProfileMapper,
+                                  ProfileAttributeStore attributeStore,
+                                  ProfileAttributeIndex attributeIndex,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${app.pagination.max-page-size}") int maxPageSize,
+                                  @Value("${app.profiles.batch.max-size}") int maxBatchSize) {
+        this.userProfileRepository = userProfileRepository;
+        this.userRepository = userRepository;
+        this.userProfileMapper = userProfileMapper;
+        this.attributeStore = attributeStore;
+        this.attributeIndex = attributeIndex;
+        this.eventPublisher = eventPublisher;
+        this.maxPageSize = maxPageSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public UserProfileDto createProfile(UserProfileDto profileDto) {
+        User user = userRepository.findById(profileDto.userId())
+                .filter(User::isActive)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + profileDto.userId()));
+
+        UserProfile profile = userProfileMapper.toEntity(profileDto);
+        profile.setUser(user);
+        attributeStore.replaceAttributes(profile, validated(profileDto.attributes(), MAX_ATTRIBUTE_VALUE_LENGTH));
+        attributeStore.replacePreferences(profile, validated(profileDto.preferences(), MAX_PREFERENCE_VALUE_LENGTH));
+        profile.activate();
+
+        UserProfile savedProfile = userProfileRepository.save(profile);
+        eventPublisher.publishEvent(ProfileChangedEvent.created(snapshotOf(savedProfile)));
+        return profileDto.isDefaultProfile() ? setDefaultProfile(savedProfile.getId()) : toDto(savedProfile);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserProfileDto> getProfileById(UUID id) {
+        return userProfileRepository.findById(id)
+                .filter(UserProfile::isActive)
+                .map(this::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserProfileDto> getProfilesByUser(UUID userId) {
+        return userProfileRepository.findByUserId(userId).stream()
+                .filter(UserProfile::isActive)
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DEFAULT_PROFILES, key = "#userId")
+    public Optional<UserProfileDto> getDefaultProfile(UUID userId) {
+        return userProfileRepository.findByUserIdAndIsDefaultTrue(userId)
+                .filter(UserProfile::isActive)
+                .map(this::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, List<UserProfileDto>> getProfilesByUsers(List<UUID> userIds, boolean defaultOnly) {
+        Set<UUID> distinctUserIds = new LinkedHashSet<>(userIds);
+        if (distinctUserIds.size() > maxBatchSize) {
+            throw new IllegalArgumentException("At most " + maxBatchSize + " users can be loaded per batch");
+        }
+
+        List<UserProfile> profiles = userProfileRepository.findActiveByUserIds(distinctUserIds, defaultOnly);
+        attributeStore.preload(profiles);
+        if (!profiles.isEmpty()) {
+            userProfileRepository.fetchPermissions(profiles.stream().map(UserProfile::getId).toList());
+        }
+
+        Map<UUID, List<UserProfileDto>> profilesByUser = new LinkedHashMap<>();
+        distinctUserIds.forEach(userId -> profilesByUser.put(userId, new ArrayList<>()));
+        profiles.forEach(profile -> profilesByUser.get(profile.getUser().getId()).add(toDto(profile)));
+        return profilesByUser;
+    }
+
+    @Override
+    public UserProfileDto updateProfile(UUID id, UserProfileDto profileDto) {
+        UserProfileDto updatedProfile = modify(id, profile -> {
+            userProfileMapper.updateEntity(profile, profileDto);
+            if (profileDto.attributes() != null) {
+                attributeStore.replaceAttributes(profile, validated(profileDto.attributes(), MAX_ATTRIBUTE_VALUE_LENGTH));
+            }
+            if (profileDto.preferences() != null) {
+                attributeStore.replacePreferences(profile, validated(profileDto.preferences(), MAX_PREFERENCE_VALUE_LENGTH));
+            }
+        });
+        return profileDto.isDefaultProfile() && !updatedProfile.isDefaultProfile()
+                ? setDefaultProfile(id)
+                : updatedProfile;
+    }
+
+    @Override
+    public UserProfileDto setDefaultProfile(UUID id) {
+        UserProfile profile = findActiveProfile(id);
+        ProfileSnapshot before = snapshotOf(profile);
+        userProfileRepository.switchDefault(before.userId(), id);
+
+        // The bulk update cleared the persistence context
+        UserProfile defaultProfile = findActiveProfile(id);
+        eventPublisher.publishEvent(ProfileChangedEvent.updated(before, snapshotOf(defaultProfile)));
+        return toDto(defaultProfile);
+    }
+
+    @Override
+    public void deleteProfile(UUID id) {
+        modify(id, profile -> {
+            profile.unsetAsDefault();
+            profile.deactivate();
+        });
+    }
+
+    @Override
+    public UserProfileDto putAttribute(UUID id, String key, String value) {
+        validateEntry(key, value, MAX_ATTRIBUTE_VALUE_LENGTH);
+        return modify(id, profile -> attributeStore.putAttribute(profile, key, value));
+    }
+
+    @Override
+    public UserProfileDto removeAttribute(UUID id, String key) {
+        return modify(id, profile -> attributeStore.removeAttribute(profile, key));
+    }
+
+    @Override
+    public UserProfileDto putPreference(UUID id, String key, String value) {
+        validateEntry(key, value, MAX_PREFERENCE_VALUE_LENGTH);
+        return modify(id, profile -> attributeStore.putPreference(profile, key, value));
+    }
+
+    @Override
+    public UserProfileDto removePreference(UUID id, String key) {
+        return modify(id, profile -> attributeStore.removePreference(profile, key));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserProfileDto> findByAttribute(String key, String value) {
+        return userProfileMapper.toDtoList(attributeStore.findByAttribute(key, value), attributeStore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserProfileDto> findByPreference(String key, String value) {
+        return userProfileMapper.toDtoList(attributeStore.findByPreference(key, value), attributeStore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<UserProfileDto> searchByAttributes(List<ProfileAttributeCriterion> criteria, UUID after, int size) {
+        int limit = Math.max(1, Math.min(size, maxPageSize));
+        List<UUID> profileIds = attributeIndex.search(criteria, after, limit + 1);
+
+        Map<UUID, UserProfile> profiles = userProfileRepository.findAllById(profileIds).stream()
+                .collect(Collectors.toMap(UserProfile::getId, Function.identity()));
+        // Keeps the index order, which the cursor relies on
+        List<UserProfile> rows = profileIds.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .toList();
+        // Collections of the whole slice are loaded in bulk, as in getProfilesByUsers
+        attributeStore.preload(rows);
+        if (!rows.isEmpty()) {
+            userProfileRepository.fetchPermissions(rows.stream().map(UserProfile::getId).toList());
+        }
+
+        return KeysetSlice.of(rows, limit, row -> row.getId().toString())
+                .map(this::toDto);
+    }
+
+    @Override
+    public int backfillDocuments(int batchSize) {
+        return userProfileRepository.backfillDocuments(batchSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countProfilesWithoutDocuments() {
+        return userProfileRepository.countWithoutDocuments();
+    }
+
+    // Helper methods
+    private UserProfileDto modify(UUID id, Consumer<UserProfile> change) {
+        UserProfile profile = findActiveProfile(id);
+        ProfileSnapshot before = snapshotOf(profile);
+        change.accept(profile);
+        UserProfile savedProfile = userProfileRepository.save(profile);
+        eventPublisher.publishEvent(ProfileChangedEvent.updated(before, snapshotOf(savedProfile)));
+        return toDto(savedProfile);
+    }
+
+    private ProfileSnapshot snapshotOf(UserProfile profile) {
+        return ProfileSnapshot.of(profile, attributeStore.getAttributes(profile));
+    }
+
+    private UserProfile findActiveProfile(UUID id) {
+        return userProfileRepository.findById(id)
+                .filter(UserProfile::isActive)
+                .orElseThrow(() -> new EntityNotFoundException("Profile not found with id: " + id));
+    }
+
+    private UserProfileDto toDto(UserProfile profile) {
+        return userProfileMapper.toDto(profile, attributeStore);
+    }
+
+    private static Map<String, String> validated(Map<String, String> entries, int maxValueLength) {
+        if (entries == null) {
+            return Map.of();
+        }
+        entries.forEach((key, value) -> validateEntry(key, value, maxValueLength));
+        return entries;
+    }
+
+    private static void validateEntry(String key, String value, int maxValueLength) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        if (value != null && value.length() > maxValueLength) {
+            throw new IllegalArgumentException("Value for '" + key + "' must not exceed " + maxValueLength + " characters");
+        }
+    }
+}
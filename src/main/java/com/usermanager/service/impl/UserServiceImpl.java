@@ -1,40 +1,74 @@
 package com.usermanager.service.impl;
 
+import com.usermanager.config.AdvisoryLocks;
 import com.usermanager.domain.entity.Role;
 import com.usermanager.domain.entity.User;
+import com.usermanager.domain.enums.BulkUserOperation;
 import com.usermanager.domain.enums.UserStatus;
+import com.usermanager.dto.BulkUserRequest;
+import com.usermanager.dto.BulkUserResultDto;
 import com.usermanager.dto.UserDto;
+import com.usermanager.event.UserChangedEvent;
+import com.usermanager.event.UserSnapshot;
+import com.usermanager.event.UsersChangedEvent;
 import com.usermanager.mapper.UserMapper;
 import com.usermanager.repository.RoleRepository;
 import com.usermanager.repository.UserRepository;
+import com.usermanager.repository.projection.UserStateView;
 import com.usermanager.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class UserServiceImpl implements UserService {
 
+    // Advisory lock key held by the node that is unlocking expired locks
+    private static final long UNLOCK_LOCK_KEY = 0x75736572756e6cL;
+
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
+    private final AdvisoryLocks advisoryLocks;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int bulkMaxSize;
+    private final int bulkChunkSize;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository, 
                           RoleRepository roleRepository,
-                          UserMapper userMapper) {
+                          UserMapper userMapper,
+                          AdvisoryLocks advisoryLocks,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${app.users.bulk.max-size}") int bulkMaxSize,
+                          @Value("${app.users.bulk.chunk-size}") int bulkChunkSize) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.userMapper = userMapper;
+        this.advisoryLocks = advisoryLocks;
+        this.eventPublisher = eventPublisher;
+        this.bulkMaxSize = bulkMaxSize;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     @Override
@@ -55,6 +89,7 @@ public class UserServiceImpl implements UserService {
         user.activate();
         
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(UserSnapshot.of(savedUser)));
         return userMapper.toDto(savedUser);
     }
 
@@ -106,8 +141,9 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("Email already exists: " + userDto.email());
         }
 
+        UserSnapshot before = UserSnapshot.of(existingUser);
         userMapper.updateEntity(existingUser, userDto);
-        User updatedUser = userRepository.save(existingUser);
+        User updatedUser = save(before, existingUser);
         return userMapper.toDto(updatedUser);
     }
 
@@ -115,7 +151,9 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(UUID id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
+        UserSnapshot before = UserSnapshot.of(user);
         userRepository.delete(user);
+        eventPublisher.publishEvent(UserChangedEvent.removed(before));
     }
 
     @Override
@@ -124,9 +162,10 @@ public class UserServiceImpl implements UserService {
                 .filter(User::isActive)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.deactivate();
         user.setStatus(UserStatus.INACTIVE);
-        userRepository.save(user);
+        save(before, user);
     }
 
     @Override
@@ -134,9 +173,10 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.activate();
         user.setStatus(UserStatus.ACTIVE);
-        userRepository.save(user);
+        save(before, user);
     }
 
     @Override
@@ -145,9 +185,10 @@ public class UserServiceImpl implements UserService {
                 .filter(User::isActive)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.deactivate();
         user.setStatus(UserStatus.INACTIVE);
-        userRepository.save(user);
+        save(before, user);
     }
 
     @Override
@@ -202,8 +243,9 @@ public class UserServiceImpl implements UserService {
                 .filter(User::isActive)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.lock(until);
-        userRepository.save(user);
+        save(before, user);
     }
 
     @Override
@@ -212,8 +254,102 @@ public class UserServiceImpl implements UserService {
                 .filter(User::isActive)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.unlock();
-        userRepository.save(user);
+        save(before, user);
+    }
+
+    @Override
+    public BulkUserResultDto bulkOperation(BulkUserRequest request) {
+        boolean byIds = request.userIds() != null && !request.userIds().isEmpty();
+        boolean byFilter = request.filter() != null && !request.filter().isEmpty();
+        if (byIds == byFilter) {
+            throw new IllegalArgumentException("Either userIds or a non-empty filter is required");
+        }
+
+        List<UUID> ids = byIds
+                ? request.userIds().stream().sorted().toList()
+                : userRepository.findIdsByFilter(request.filter().department(), request.filter().status(),
+                        request.filter().roleCode(), PageRequest.of(0, bulkMaxSize + 1));
+        if (ids.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("At most " + bulkMaxSize + " users per bulk operation");
+        }
+
+        BulkUserOperation operation = request.operation();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockUntil = request.lockUntil() != null ? request.lockUntil() : now.plusHours(24);
+        Map<UUID, BulkUserResultDto.Status> outcomes = new LinkedHashMap<>();
+        List<UserChangedEvent> changes = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+            Map<UUID, UserSnapshot> states = new HashMap<>();
+            userRepository.lockStates(chunk).forEach(view -> states.put(view.getId(), snapshotOf(view)));
+
+            List<UUID> changed = new ArrayList<>();
+            for (UUID id : chunk) {
+                UserSnapshot before = states.get(id);
+                BulkUserResultDto.Status status;
+                if (before == null) {
+                    status = BulkUserResultDto.Status.NOT_FOUND;
+                } else if (!before.active() && operation != BulkUserOperation.ACTIVATE) {
+                    status = BulkUserResultDto.Status.SKIPPED;
+                } else {
+                    UserSnapshot after = applyBulk(operation, before, lockUntil);
+                    if (after.equals(before)) {
+                        status = BulkUserResultDto.Status.UNCHANGED;
+                    } else {
+                        status = BulkUserResultDto.Status.UPDATED;
+                        changed.add(id);
+                        changes.add(UserChangedEvent.updated(before, after));
+                    }
+                }
+                outcomes.put(id, status);
+            }
+
+            if (!changed.isEmpty()) {
+                switch (operation) {
+                    case ACTIVATE -> userRepository.bulkSetActive(changed, true, UserStatus.ACTIVE, now);
+                    case DEACTIVATE, SOFT_DELETE -> userRepository.bulkSetActive(changed, false, UserStatus.INACTIVE, now);
+                    case LOCK -> userRepository.bulkLock(changed, lockUntil, UserStatus.LOCKED, now);
+                    case UNLOCK -> userRepository.bulkUnlock(changed, UserStatus.ACTIVE, now);
+                    case VERIFY_EMAIL -> userRepository.bulkVerifyEmail(changed, now);
+                }
+            }
+        }
+
+        // One event for the whole batch, so listeners refresh their state once
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new UsersChangedEvent(changes));
+        }
+
+        Map<BulkUserResultDto.Status, Long> counts = outcomes.values().stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        return new BulkUserResultDto(operation,
+                counts.getOrDefault(BulkUserResultDto.Status.UPDATED, 0L).intValue(),
+                counts.getOrDefault(BulkUserResultDto.Status.UNCHANGED, 0L).intValue(),
+                counts.getOrDefault(BulkUserResultDto.Status.SKIPPED, 0L).intValue(),
+                counts.getOrDefault(BulkUserResultDto.Status.NOT_FOUND, 0L).intValue(),
+                outcomes.entrySet().stream()
+                        .map(entry -> new BulkUserResultDto.Outcome(entry.getKey(), entry.getValue()))
+                        .toList());
+    }
+
+    @Override
+    public OptionalInt unlockExpiredUsers(Collection<UUID> ids) {
+        // Replicas each run their own unlock timer; the lock lets one of them unlock at a time
+        if (!advisoryLocks.tryLockForTransaction(UNLOCK_LOCK_KEY)) {
+            return OptionalInt.empty();
+        }
+        // Locks extended or lifted since they were scheduled are not due anymore
+        List<User> users = userRepository.findExpiredLocks(ids, LocalDateTime.now());
+        for (User user : users) {
+            UserSnapshot before = UserSnapshot.of(user);
+            user.expireLock();
+            eventPublisher.publishEvent(UserChangedEvent.updated(before, UserSnapshot.of(user)));
+        }
+        // Updates of the managed users are flushed in JDBC batches on commit
+        return OptionalInt.of(users.size());
     }
 
     @Override
@@ -222,8 +358,9 @@ public class UserServiceImpl implements UserService {
                 .filter(User::isActive)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.incrementLoginAttempts();
-        userRepository.save(user);
+        save(before, user);
     }
 
     @Override
@@ -232,8 +369,9 @@ public class UserServiceImpl implements UserService {
                 .filter(User::isActive)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.resetLoginAttempts();
-        userRepository.save(user);
+        save(before, user);
     }
 
     @Override
@@ -242,8 +380,9 @@ public class UserServiceImpl implements UserService {
                 .filter(User::isActive)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.updateLastLogin();
-        userRepository.save(user);
+        save(before, user);
     }
 
     @Override
@@ -252,8 +391,9 @@ public class UserServiceImpl implements UserService {
                 .filter(User::isActive)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         
+        UserSnapshot before = UserSnapshot.of(user);
         user.verifyEmail();
-        userRepository.save(user);
+        save(before, user);
     }
 
     @Override
@@ -362,4 +502,35 @@ public class UserServiceImpl implements UserService {
     public List<UserDto> findLockedUsers() {
         return userMapper.toDtoList(userRepository.findLockedUsers());
     }
+
+    // Helper methods
+    private static UserSnapshot snapshotOf(UserStateView view) {
+        return new UserSnapshot(view.getId(), view.getUsername(), UserStatus.valueOf(view.getStatus()),
+                view.getDepartment(), Boolean.TRUE.equals(view.getActive()), view.getLockedUntil(),
+                view.getLoginAttempts() != null ? view.getLoginAttempts() : 0, view.getLastLoginAt(),
+                Boolean.TRUE.equals(view.getEmailVerified()));
+    }
+
+    // Same state changes as the single-user operations
+    private static UserSnapshot applyBulk(BulkUserOperation operation, UserSnapshot user, LocalDateTime lockUntil) {
+        return switch (operation) {
+            case ACTIVATE -> new UserSnapshot(user.id(), user.username(), UserStatus.ACTIVE, user.department(),
+                    true, user.lockedUntil(), user.loginAttempts(), user.lastLoginAt(), user.emailVerified());
+            case DEACTIVATE, SOFT_DELETE -> new UserSnapshot(user.id(), user.username(), UserStatus.INACTIVE,
+                    user.department(), false, user.lockedUntil(), user.loginAttempts(), user.lastLoginAt(),
+                    user.emailVerified());
+            case LOCK -> new UserSnapshot(user.id(), user.username(), UserStatus.LOCKED, user.department(),
+                    user.active(), lockUntil, user.loginAttempts(), user.lastLoginAt(), user.emailVerified());
+            case UNLOCK -> new UserSnapshot(user.id(), user.username(), UserStatus.ACTIVE, user.department(),
+                    user.active(), null, 0, user.lastLoginAt(), user.emailVerified());
+            case VERIFY_EMAIL -> new UserSnapshot(user.id(), user.username(), user.status(), user.department(),
+                    user.active(), user.lockedUntil(), user.loginAttempts(), user.lastLoginAt(), true);
+        };
+    }
+
+    private User save(UserSnapshot before, User user) {
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(before, UserSnapshot.of(savedUser)));
+        return savedUser;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.usermanager.stats;
+
+import com.usermanager.domain.entity.ActiveUserSketch;
+import com.usermanager.event.UserChangedEvent;
+import com.usermanager.event.UserSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Adds users that log in to a {@link HyperLogLog} of their day and department.
+ *
+ * Only the sketches touched since the last flush are held in memory; they are drained and
+ * merged into {@code active_user_sketches}, so memory stays bounded by the departments active
+ * within one flush interval.
+ */
+@Component
+public class ActiveUserTracker {
+
+    public static final String NO_DEPARTMENT = "";
+
+    private final int precision;
+    private final Map<ActiveUserSketch.Key, HyperLogLog> pending = new HashMap<>();
+
+    @Autowired
+    public ActiveUserTracker(@Value("${app.stats.active-users.precision}") int precision) {
+        // Fail at startup rather than on the first login
+        this.precision = new HyperLogLog(precision).getPrecision();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        UserSnapshot before = event.before();
+        UserSnapshot after = event.after();
+        if (before == null || after == null || after.lastLoginAt() == null
+                || Objects.equals(before.lastLoginAt(), after.lastLoginAt())) {
+            return;
+        }
+        ActiveUserSketch.Key key = new ActiveUserSketch.Key(after.lastLoginAt().toLocalDate(),
+                after.department() != null ? after.department() : NO_DEPARTMENT);
+        synchronized (pending) {
+            pending.computeIfAbsent(key, k -> new HyperLogLog(precision)).add(after.id());
+        }
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public Map<ActiveUserSketch.Key, HyperLogLog> drain() {
+        synchronized (pending) {
+            Map<ActiveUserSketch.Key, HyperLogLog> drained = new HashMap<>(pending);
+            pending.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * Puts back sketches from a drain whose flush failed.
+     */
+    public void restore(Map<ActiveUserSketch.Key, HyperLogLog> sketches) {
+        synchronized (pending) {
+            sketches.forEach((key, sketch) -> pending.merge(key, sketch, (current, restored) -> {
+                current.merge(restored);
+                return current;
+            }));
+        }
+    }
+
+    /**
+     * Copies of the pending sketches for days in [from, to].
+     */
+    public Map<ActiveUserSketch.Key, HyperLogLog> pendingBetween(LocalDate from, LocalDate to) {
+        Map<ActiveUserSketch.Key, HyperLogLog> copies = new HashMap<>();
+        synchronized (pending) {
+            pending.forEach((key, sketch) -> {
+                if (!key.getDay().isBefore(from) && !key.getDay().isAfter(to)) {
+                    copies.put(key, sketch.copy());
+                }
+            });
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,14 @@
+package com.usermanager.stats;
+
+import java.time.LocalDateTime;
+
+/**
+ * Range [from, to) of user creations to add to the rollups. Every chunk of a backfill carries
+ * the same cutoff, the time from which activity is counted live instead.
+ */
+public record ActivityBackfillChunk(
+    LocalDateTime from,
+    LocalDateTime to,
+    LocalDateTime cutoff
+) {
+}
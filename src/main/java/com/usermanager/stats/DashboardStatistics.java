@@ -0,0 +1,318 @@
+package com.usermanager.stats;
+
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.domain.enums.ProfileType;
+import com.usermanager.domain.enums.UserStatus;
+import com.usermanager.dto.StatisticsOverviewDto;
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PaperSnapshot;
+import com.usermanager.event.ProfileChangedEvent;
+import com.usermanager.event.ProfileSnapshot;
+import com.usermanager.event.UserChangedEvent;
+import com.usermanager.event.UserSnapshot;
+import com.usermanager.event.UsersChangedEvent;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.ScreenRepository;
+import com.usermanager.repository.UserProfileRepository;
+import com.usermanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Dashboard aggregates kept as in-memory counters.
+ *
+ * Counters are adjusted from the before/after snapshots of committed {@link UserChangedEvent}s,
+ * {@link UsersChangedEvent}s, {@link PaperChangedEvent}s and {@link ProfileChangedEvent}s, and
+ * periodically reconciled with the GROUP BY queries to correct drift from writes made outside
+ * the services (screens have no write path in the application and are only refreshed that
+ * way). The GROUP BY queries share one repeatable-read snapshot. Deltas that arrive after the
+ * snapshot is taken are replayed on top of the loaded counts; those that arrived before it are
+ * dropped, since the queries already include them. The overview is built once per change, or
+ * once per bulk operation, and served as an immutable snapshot.
+ */
+@Component
+public class DashboardStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStatistics.class);
+
+    public static final String NONE = "(none)";
+
+    private final UserRepository userRepository;
+    private final PaperRepository paperRepository;
+    private final ScreenRepository screenRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate snapshotTemplate;
+
+    private final Object lock = new Object();
+    private final Counts<UserStatus> usersByStatus = new Counts<>();
+    private final Counts<String> usersByDepartment = new Counts<>();
+    private final Counts<PaperType> papersByType = new Counts<>();
+    private final Counts<String> papersByCategory = new Counts<>();
+    private final Counts<String> screensByModule = new Counts<>();
+    private final Counts<ProfileType> profilesByType = new Counts<>();
+    private final Counts<String> profilesByContext = new Counts<>();
+    private final List<Counts<?>> allCounts = List.of(usersByStatus, usersByDepartment, papersByType,
+            papersByCategory, screensByModule, profilesByType, profilesByContext);
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+    private LocalDateTime reconciledAt;
+
+    private volatile StatisticsOverviewDto snapshot;
+
+    @Autowired
+    public DashboardStatistics(UserRepository userRepository,
+                               PaperRepository paperRepository,
+                               ScreenRepository screenRepository,
+                               UserProfileRepository userProfileRepository,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.paperRepository = paperRepository;
+        this.screenRepository = screenRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.entityManager = entityManager;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+    }
+
+    public StatisticsOverviewDto getOverview() {
+        StatisticsOverviewDto current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (lock) {
+            if (snapshot == null) {
+                snapshot = buildOverview();
+            }
+            return snapshot;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms}",
+               initialDelayString = "${app.stats.reconcile-interval-ms}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (lock) {
+            allCounts.forEach(Counts::beginReconcile);
+        }
+        try {
+            snapshotTemplate.executeWithoutResult(status -> {
+                // The first statement fixes the snapshot every count query below reads from. Deltas
+                // delivered before it committed before it too, so they are already in the counts.
+                entityManager.createNativeQuery("SELECT 1").getSingleResult();
+                synchronized (lock) {
+                    allCounts.forEach(Counts::markSnapshot);
+                }
+                Map<UserStatus, Long> userStatuses = load(userRepository.countUsersByStatus(), key -> (UserStatus) key);
+                Map<String, Long> userDepartments = load(userRepository.countUsersByDepartment(), DashboardStatistics::label);
+                Map<PaperType, Long> paperTypes = load(paperRepository.countPapersByType(), key -> (PaperType) key);
+                Map<String, Long> paperCategories = load(paperRepository.countPapersByCategory(), DashboardStatistics::label);
+                Map<String, Long> screenModules = load(screenRepository.countScreensByModule(), DashboardStatistics::label);
+                Map<ProfileType, Long> profileTypes = load(userProfileRepository.countProfilesByType(), key -> (ProfileType) key);
+                Map<String, Long> profileContexts = load(userProfileRepository.countProfilesByContext(), DashboardStatistics::label);
+                synchronized (lock) {
+                    usersByStatus.finishReconcile(userStatuses);
+                    usersByDepartment.finishReconcile(userDepartments);
+                    papersByType.finishReconcile(paperTypes);
+                    papersByCategory.finishReconcile(paperCategories);
+                    screensByModule.finishReconcile(screenModules);
+                    profilesByType.finishReconcile(profileTypes);
+                    profilesByContext.finishReconcile(profileContexts);
+                    reconciledAt = LocalDateTime.now();
+                    snapshot = null;
+                }
+            });
+            log.debug("Dashboard statistics reconciled");
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                allCounts.forEach(Counts::abortReconcile);
+            }
+            throw e;
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        synchronized (lock) {
+            applyUserChange(event);
+            snapshot = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        synchronized (lock) {
+            event.changes().forEach(this::applyUserChange);
+            snapshot = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaperChanged(PaperChangedEvent event) {
+        synchronized (lock) {
+            PaperSnapshot before = event.before();
+            PaperSnapshot after = event.after();
+            if (before != null && before.active()) {
+                papersByType.add(before.type(), -1);
+                papersByCategory.add(label(before.category()), -1);
+            }
+            if (after != null && after.active()) {
+                papersByType.add(after.type(), 1);
+                papersByCategory.add(label(after.category()), 1);
+            }
+            snapshot = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        synchronized (lock) {
+            ProfileSnapshot before = event.before();
+            ProfileSnapshot after = event.after();
+            // Profiles without a context are not counted by context, as in countProfilesByContext
+            if (before != null && before.active()) {
+                profilesByType.add(before.type(), -1);
+                if (before.context() != null) {
+                    profilesByContext.add(before.context(), -1);
+                }
+            }
+            if (after != null && after.active()) {
+                profilesByType.add(after.type(), 1);
+                if (after.context() != null) {
+                    profilesByContext.add(after.context(), 1);
+                }
+            }
+            snapshot = null;
+        }
+    }
+
+    // Helper methods
+    private void applyUserChange(UserChangedEvent event) {
+        UserSnapshot before = event.before();
+        UserSnapshot after = event.after();
+        if (before != null && before.active()) {
+            usersByStatus.add(before.status(), -1);
+            usersByDepartment.add(label(before.department()), -1);
+        }
+        if (after != null && after.active()) {
+            usersByStatus.add(after.status(), 1);
+            usersByDepartment.add(label(after.department()), 1);
+        }
+    }
+
+    private static <K> Map<K, Long> load(List<Object[]> rows, Function<Object, K> keyOf) {
+        Map<K, Long> loaded = new HashMap<>();
+        for (Object[] row : rows) {
+            loaded.merge(keyOf.apply(row[0]), ((Number) row[1]).longValue(), Long::sum);
+        }
+        return loaded;
+    }
+
+    private StatisticsOverviewDto buildOverview() {
+        return new StatisticsOverviewDto(
+            new StatisticsOverviewDto.UserStatistics(usersByStatus.total(), usersByStatus.sorted(), usersByDepartment.sorted()),
+            new StatisticsOverviewDto.PaperStatistics(papersByType.total(), papersByType.sorted(), papersByCategory.sorted()),
+            new StatisticsOverviewDto.ScreenStatistics(screensByModule.total(), screensByModule.sorted()),
+            new StatisticsOverviewDto.ProfileStatistics(profilesByType.total(), profilesByType.sorted(), profilesByContext.sorted()),
+            reconciledAt
+        );
+    }
+
+    private static String label(Object key) {
+        return key != null ? key.toString() : NONE;
+    }
+
+    /**
+     * Counts per key. Deltas applied while a reconciliation runs are also recorded, so the ones
+     * that arrived after the query snapshot can be replayed on the loaded counts. Guarded by the
+     * enclosing lock.
+     */
+    private static final class Counts<K> {
+
+        private Map<K, Long> counts = new HashMap<>();
+        private List<Map.Entry<K, Long>> pending;
+        private int snapshotMark;
+
+        void add(K key, long delta) {
+            apply(key, delta);
+            if (pending != null) {
+                pending.add(Map.entry(key, delta));
+            }
+        }
+
+        void beginReconcile() {
+            pending = new ArrayList<>();
+            snapshotMark = 0;
+        }
+
+        // Deltas recorded so far are already part of the query snapshot
+        void markSnapshot() {
+            snapshotMark = pending.size();
+        }
+
+        void abortReconcile() {
+            pending = null;
+        }
+
+        void finishReconcile(Map<K, Long> loaded) {
+            counts = loaded;
+            pending.subList(snapshotMark, pending.size())
+                    .forEach(delta -> apply(delta.getKey(), delta.getValue()));
+            pending = null;
+        }
+
+        long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        // Largest counts first
+        Map<K, Long> sorted() {
+            Map<K, Long> sorted = new LinkedHashMap<>();
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(entry -> entry.getKey().toString()))
+                    .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+            return Collections.unmodifiableMap(sorted);
+        }
+
+        private void apply(K key, long delta) {
+            long count = counts.getOrDefault(key, 0L) + delta;
+            if (count > 0) {
+                counts.put(key, count);
+            } else {
+                counts.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.usermanager.stats;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * HyperLogLog distinct-count sketch over UUIDs with 2^precision one-byte registers.
+ *
+ * The standard error of {@link #estimate()} is about 1.04 / sqrt(2^precision), independent of
+ * the number of items added. Sketches of the same precision merge losslessly, so the sketch
+ * of a union is the merge of the sketches of its parts; sketches of different precisions are
+ * first folded to the lower one. Serialized sketches use a sparse encoding while few registers
+ * are set, which keeps sketches of small populations at a few hundred bytes.
+ */
+public final class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private static final byte DENSE = 0;
+    private static final byte SPARSE = 1;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public double getRelativeError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    public void add(UUID id) {
+        long hash = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+        int index = (int) (hash >>> (64 - precision));
+        // Guard bit keeps the rank within 64 - precision + 1
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Adds everything counted by {@code other} to this sketch. {@code other} must not have a
+     * lower precision; see {@link #foldTo(int)}.
+     */
+    public void merge(HyperLogLog other) {
+        HyperLogLog source = other.precision == precision ? other : other.foldTo(precision);
+        for (int i = 0; i < registers.length; i++) {
+            if (source.registers[i] > registers[i]) {
+                registers[i] = source.registers[i];
+            }
+        }
+    }
+
+    /**
+     * Returns this sketch at a lower precision, as if every item had been added to a sketch of
+     * that precision.
+     */
+    public HyperLogLog foldTo(int lowerPrecision) {
+        if (lowerPrecision > precision) {
+            throw new IllegalArgumentException("Cannot raise precision from " + precision + " to " + lowerPrecision);
+        }
+        HyperLogLog folded = new HyperLogLog(lowerPrecision);
+        int shift = precision - lowerPrecision;
+        for (int i = 0; i < registers.length; i++) {
+            if (registers[i] == 0) {
+                continue;
+            }
+            // The index bits dropped by folding become the leading bits of the rank
+            int dropped = i & ((1 << shift) - 1);
+            int rank = dropped != 0
+                    ? Integer.numberOfLeadingZeros(dropped) - (32 - shift) + 1
+                    : shift + registers[i];
+            int index = i >>> shift;
+            if (rank > folded.registers[index]) {
+                folded.registers[index] = (byte) rank;
+            }
+        }
+        return folded;
+    }
+
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // Linear counting is more accurate for small cardinalities
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+        for (byte register : registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public HyperLogLog copy() {
+        HyperLogLog copy = new HyperLogLog(precision);
+        System.arraycopy(registers, 0, copy.registers, 0, registers.length);
+        return copy;
+    }
+
+    public byte[] toBytes() {
+        int set = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                set++;
+            }
+        }
+        // Sparse entries take three bytes, dense registers one
+        if (set * 3 < registers.length) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 + 4 + set * 3);
+            buffer.put(SPARSE).put((byte) precision).putInt(set);
+            for (int i = 0; i < registers.length; i++) {
+                if (registers[i] != 0) {
+                    buffer.putShort((short) i).put(registers[i]);
+                }
+            }
+            return buffer.array();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(2 + registers.length);
+        buffer.put(DENSE).put((byte) precision).put(registers);
+        return buffer.array();
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte format = buffer.get();
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+        if (format == SPARSE) {
+            int set = buffer.getInt();
+            for (int i = 0; i < set; i++) {
+                int index = Short.toUnsignedInt(buffer.getShort());
+                sketch.registers[index] = buffer.get();
+            }
+        } else if (format == DENSE) {
+            buffer.get(sketch.registers);
+        } else {
+            throw new IllegalArgumentException("Unknown sketch format: " + format);
+        }
+        return sketch;
+    }
+
+    // Helper methods
+    private static long mix(long value) {
+        // Finalizer of MurmurHash3, spreads UUID bits over the whole word
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb34fe5c1b185L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
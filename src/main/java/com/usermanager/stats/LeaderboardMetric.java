@@ -0,0 +1,7 @@
+package com.usermanager.stats;
+
+public enum LeaderboardMetric {
+    VIEWS,
+    DOWNLOADS,
+    RECENT
+}
@@ -0,0 +1,23 @@
+package com.usermanager.stats;
+
+import java.time.Duration;
+
+public enum LeaderboardWindow {
+    ALL_TIME(null),
+    LAST_7_DAYS(Duration.ofDays(7)),
+    LAST_24_HOURS(Duration.ofHours(24));
+
+    private final Duration length;
+
+    LeaderboardWindow(Duration length) {
+        this.length = length;
+    }
+
+    public Duration getLength() {
+        return length;
+    }
+
+    public boolean isBounded() {
+        return length != null;
+    }
+}
@@ -0,0 +1,341 @@
+package com.usermanager.stats;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.dto.PaperLeaderboardDto;
+import com.usermanager.event.PaperChangedEvent;
+import com.usermanager.event.PaperCounterEvent;
+import com.usermanager.event.PaperSnapshot;
+import com.usermanager.event.PapersExpiredEvent;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.projection.PaperRankingView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Top papers by views, downloads and publication date, served from memory.
+ *
+ * All-time totals come from {@link PaperCounterEvent}s, which carry the counter value after the
+ * increment, and from a periodic reconciliation against the {@code papers} table. The 7-day and
+ * 24-hour windows are counted in hourly buckets from the same events; the table keeps no history,
+ * so those windows only cover activity seen by this instance. Rankings are recomputed on a fixed
+ * delay with bounded heaps and published as an immutable snapshot.
+ */
+@Component
+public class PaperLeaderboard {
+
+    private static final Logger log = LoggerFactory.getLogger(PaperLeaderboard.class);
+
+    private static final int HOURS_PER_WEEK = 7 * 24;
+    private static final int CANDIDATE_FACTOR = 4;
+
+    private static final Comparator<ScoredPaper> BY_SCORE = Comparator
+            .comparingLong(ScoredPaper::score)
+            .thenComparing(ScoredPaper::paperId);
+
+    private final PaperRepository paperRepository;
+    private final int size;
+    private final int candidateLimit;
+
+    private final Map<UUID, PaperInfo> papers = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> viewTotals = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> downloadTotals = new ConcurrentHashMap<>();
+    private final Map<UUID, HourlyCounter> recentViews = new ConcurrentHashMap<>();
+    private final Map<UUID, HourlyCounter> recentDownloads = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), null);
+
+    @Autowired
+    public PaperLeaderboard(PaperRepository paperRepository,
+                            @Value("${app.papers.leaderboard.size}") int size) {
+        this.paperRepository = paperRepository;
+        this.size = size;
+        this.candidateLimit = size * CANDIDATE_FACTOR;
+    }
+
+    public PaperLeaderboardDto getLeaderboard(LeaderboardMetric metric, LeaderboardWindow window, int limit) {
+        return getLeaderboard(metric, window, limit, paperId -> true);
+    }
+
+    /**
+     * Same as {@link #getLeaderboard(LeaderboardMetric, LeaderboardWindow, int)}, restricted to the
+     * papers accepted by {@code visible} and ranked among those. The board may then hold fewer
+     * than {@code limit} entries.
+     */
+    public PaperLeaderboardDto getLeaderboard(LeaderboardMetric metric, LeaderboardWindow window, int limit,
+                                              Predicate<UUID> visible) {
+        Snapshot current = snapshot;
+        List<PaperLeaderboardDto.Entry> entries = current.boards().getOrDefault(new BoardKey(metric, window), List.of());
+        int count = Math.max(1, Math.min(limit, size));
+        List<PaperLeaderboardDto.Entry> shown = new ArrayList<>(Math.min(count, entries.size()));
+        for (PaperLeaderboardDto.Entry entry : entries) {
+            if (shown.size() == count) {
+                break;
+            }
+            if (visible.test(entry.paperId())) {
+                shown.add(new PaperLeaderboardDto.Entry(shown.size() + 1, entry.paperId(), entry.code(),
+                        entry.title(), entry.score(), entry.publishedAt()));
+            }
+        }
+        return new PaperLeaderboardDto(metric, window, shown, current.refreshedAt());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.papers.leaderboard.reconcile-interval-ms}",
+               initialDelayString = "${app.papers.leaderboard.reconcile-interval-ms}")
+    public void reconcile() {
+        List<PaperRankingView> mostViewed = paperRepository.findRankingViews(
+                PageRequest.of(0, candidateLimit, Sort.by(Sort.Direction.DESC, "viewCount")));
+        List<PaperRankingView> mostDownloaded = paperRepository.findRankingViews(
+                PageRequest.of(0, candidateLimit, Sort.by(Sort.Direction.DESC, "downloadCount")));
+        List<PaperRankingView> mostRecent = paperRepository.findPublishedRankingViews(
+                PageRequest.of(0, candidateLimit, Sort.by(Sort.Direction.DESC, "publishedAt")));
+
+        reconcileTotals(viewTotals, mostViewed, PaperRankingView::getViewCount);
+        reconcileTotals(downloadTotals, mostDownloaded, PaperRankingView::getDownloadCount);
+
+        Set<UUID> loaded = new HashSet<>();
+        for (List<PaperRankingView> rows : List.of(mostViewed, mostDownloaded, mostRecent)) {
+            rows.forEach(row -> {
+                papers.put(row.getId(), PaperInfo.of(row));
+                loaded.add(row.getId());
+            });
+        }
+
+        // Keep metadata only for papers that can still rank
+        LocalDateTime oldestRecent = mostRecent.size() < candidateLimit
+                ? LocalDateTime.MIN
+                : mostRecent.get(mostRecent.size() - 1).getPublishedAt();
+        papers.entrySet().removeIf(entry -> !loaded.contains(entry.getKey())
+                && !isCounted(entry.getKey())
+                && !entry.getValue().publishedAfter(oldestRecent));
+
+        log.debug("Leaderboards reconciled, tracking {} papers", papers.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.papers.leaderboard.refresh-interval-ms}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        long currentHour = epochHour(now);
+        recentViews.values().removeIf(counter -> counter.sumSince(currentHour - HOURS_PER_WEEK + 1) == 0);
+        recentDownloads.values().removeIf(counter -> counter.sumSince(currentHour - HOURS_PER_WEEK + 1) == 0);
+
+        Map<BoardKey, List<ScoredPaper>> rankings = new HashMap<>();
+        for (LeaderboardWindow window : LeaderboardWindow.values()) {
+            rankings.put(new BoardKey(LeaderboardMetric.VIEWS, window), rankCounts(viewTotals, recentViews, window, currentHour));
+            rankings.put(new BoardKey(LeaderboardMetric.DOWNLOADS, window), rankCounts(downloadTotals, recentDownloads, window, currentHour));
+            rankings.put(new BoardKey(LeaderboardMetric.RECENT, window), rankRecent(window, now));
+        }
+
+        loadMissingPapers(rankings.values());
+
+        Map<BoardKey, List<PaperLeaderboardDto.Entry>> boards = new HashMap<>();
+        rankings.forEach((key, ranking) -> boards.put(key, toEntries(key.metric(), ranking)));
+        snapshot = new Snapshot(Map.copyOf(boards), now);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaperCounter(PaperCounterEvent event) {
+        boolean views = event.counter() == PaperCounterEvent.Counter.VIEWS;
+        (views ? viewTotals : downloadTotals).merge(event.paperId(), event.total(), Math::max);
+        (views ? recentViews : recentDownloads)
+                .computeIfAbsent(event.paperId(), id -> new HourlyCounter())
+                .increment(epochHour(event.occurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaperChanged(PaperChangedEvent event) {
+        PaperSnapshot paper = event.after();
+        if (paper == null || !paper.active()) {
+            forget(event.paperId());
+        } else if (paper.isPublished() || papers.containsKey(paper.id())) {
+            papers.put(paper.id(), PaperInfo.of(paper));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPapersExpired(PapersExpiredEvent event) {
+        event.paperIds().forEach(paperId -> papers.computeIfPresent(paperId, (id, info) -> info.unpublished()));
+    }
+
+    // Helper methods
+    private List<ScoredPaper> rankCounts(Map<UUID, Long> totals, Map<UUID, HourlyCounter> counters,
+                                         LeaderboardWindow window, long currentHour) {
+        PriorityQueue<ScoredPaper> heap = new PriorityQueue<>(size + 1, BY_SCORE);
+        if (window.isBounded()) {
+            long firstHour = currentHour - window.getLength().toHours() + 1;
+            counters.forEach((paperId, counter) -> offer(heap, new ScoredPaper(paperId, counter.sumSince(firstHour))));
+        } else {
+            totals.forEach((paperId, total) -> offer(heap, new ScoredPaper(paperId, total)));
+        }
+        return drain(heap);
+    }
+
+    private List<ScoredPaper> rankRecent(LeaderboardWindow window, LocalDateTime now) {
+        LocalDateTime since = window.isBounded() ? now.minus(window.getLength()) : LocalDateTime.MIN;
+        PriorityQueue<ScoredPaper> heap = new PriorityQueue<>(size + 1, BY_SCORE);
+        papers.forEach((paperId, info) -> {
+            if (info.publishedAfter(since)) {
+                offer(heap, new ScoredPaper(paperId, info.publishedAt().toEpochSecond(ZoneOffset.UTC)));
+            }
+        });
+        return drain(heap);
+    }
+
+    private void offer(PriorityQueue<ScoredPaper> heap, ScoredPaper paper) {
+        if (paper.score() <= 0) {
+            return;
+        }
+        heap.offer(paper);
+        if (heap.size() > size) {
+            heap.poll();
+        }
+    }
+
+    private List<ScoredPaper> drain(PriorityQueue<ScoredPaper> heap) {
+        List<ScoredPaper> ranking = new ArrayList<>(heap);
+        ranking.sort(BY_SCORE.reversed());
+        return ranking;
+    }
+
+    private void loadMissingPapers(Iterable<List<ScoredPaper>> rankings) {
+        Set<UUID> missing = new HashSet<>();
+        rankings.forEach(ranking -> ranking.stream()
+                .map(ScoredPaper::paperId)
+                .filter(paperId -> !papers.containsKey(paperId))
+                .forEach(missing::add));
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        paperRepository.findRankingViewsByIds(missing).forEach(row -> papers.put(row.getId(), PaperInfo.of(row)));
+        // Papers that were not found are gone or inactive
+        missing.stream().filter(paperId -> !papers.containsKey(paperId)).forEach(this::forget);
+    }
+
+    private List<PaperLeaderboardDto.Entry> toEntries(LeaderboardMetric metric, List<ScoredPaper> ranking) {
+        List<PaperLeaderboardDto.Entry> entries = new ArrayList<>(ranking.size());
+        for (ScoredPaper scored : ranking) {
+            PaperInfo info = papers.get(scored.paperId());
+            if (info != null) {
+                entries.add(new PaperLeaderboardDto.Entry(entries.size() + 1, scored.paperId(), info.code(),
+                        info.title(), metric == LeaderboardMetric.RECENT ? null : scored.score(), info.publishedAt()));
+            }
+        }
+        return List.copyOf(entries);
+    }
+
+    private void reconcileTotals(Map<UUID, Long> totals, List<PaperRankingView> rows, ToLongFunction<PaperRankingView> count) {
+        // Below the last candidate a paper cannot rank until a new increment reports its total again
+        long floor = rows.size() < candidateLimit ? Long.MAX_VALUE : count.applyAsLong(rows.get(rows.size() - 1));
+        Set<UUID> loaded = new HashSet<>();
+        rows.forEach(row -> {
+            totals.merge(row.getId(), count.applyAsLong(row), Math::max);
+            loaded.add(row.getId());
+        });
+        totals.entrySet().removeIf(entry -> !loaded.contains(entry.getKey()) && entry.getValue() < floor);
+    }
+
+    private boolean isCounted(UUID paperId) {
+        return viewTotals.containsKey(paperId) || downloadTotals.containsKey(paperId)
+                || recentViews.containsKey(paperId) || recentDownloads.containsKey(paperId);
+    }
+
+    private void forget(UUID paperId) {
+        papers.remove(paperId);
+        viewTotals.remove(paperId);
+        downloadTotals.remove(paperId);
+        recentViews.remove(paperId);
+        recentDownloads.remove(paperId);
+    }
+
+    private static long epochHour(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    private record BoardKey(LeaderboardMetric metric, LeaderboardWindow window) {
+    }
+
+    private record Snapshot(Map<BoardKey, List<PaperLeaderboardDto.Entry>> boards, LocalDateTime refreshedAt) {
+    }
+
+    private record ScoredPaper(UUID paperId, long score) {
+    }
+
+    private record PaperInfo(String code, String title, LocalDateTime publishedAt, boolean published) {
+
+        static PaperInfo of(PaperRankingView row) {
+            return new PaperInfo(row.getCode(), row.getTitle(), row.getPublishedAt(),
+                    row.getStatus() == PaperStatus.PUBLISHED);
+        }
+
+        static PaperInfo of(PaperSnapshot paper) {
+            return new PaperInfo(paper.code(), paper.title(), paper.publishedAt(), paper.isPublished());
+        }
+
+        boolean publishedAfter(LocalDateTime time) {
+            return published && publishedAt != null && publishedAt.isAfter(time);
+        }
+
+        PaperInfo unpublished() {
+            return new PaperInfo(code, title, publishedAt, false);
+        }
+    }
+
+    /**
+     * Counts per hour over the last week in a ring of hourly slots. A slot is reset when it is
+     * reused for a later hour.
+     */
+    private static final class HourlyCounter {
+
+        private final long[] hours = new long[HOURS_PER_WEEK];
+        private final long[] counts = new long[HOURS_PER_WEEK];
+
+        synchronized void increment(long hour) {
+            int slot = (int) Math.floorMod(hour, (long) HOURS_PER_WEEK);
+            if (hours[slot] != hour) {
+                hours[slot] = hour;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+        }
+
+        synchronized long sumSince(long firstHour) {
+            long total = 0;
+            for (int slot = 0; slot < HOURS_PER_WEEK; slot++) {
+                if (hours[slot] >= firstHour) {
+                    total += counts[slot];
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.usermanager.stats;
+
+import com.usermanager.domain.entity.UserActivityRollup;
+import com.usermanager.domain.enums.ActivityMetric;
+import com.usermanager.domain.enums.RollupGranularity;
+import com.usermanager.domain.enums.UserStatus;
+import com.usermanager.event.UserChangedEvent;
+import com.usermanager.event.UserSnapshot;
+import com.usermanager.event.UsersChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts user activity from committed {@link UserChangedEvent}s and {@link UsersChangedEvent}s into hourly and daily buckets
+ * held in memory until they are drained and added to {@code user_activity_rollups}.
+ *
+ * Deltas that have been drained but whose flush has not committed yet are neither pending nor
+ * stored, so a series read during a flush can briefly miss them.
+ */
+@Component
+public class UserActivityRecorder {
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final Map<UserActivityRollup.Key, Long> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        UserSnapshot before = event.before();
+        UserSnapshot after = event.after();
+        if (after == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (before == null) {
+            record(ActivityMetric.CREATIONS, now);
+            return;
+        }
+        if (after.lastLoginAt() != null && !Objects.equals(before.lastLoginAt(), after.lastLoginAt())) {
+            record(ActivityMetric.LOGINS, after.lastLoginAt());
+        }
+        if (after.status() == UserStatus.LOCKED && before.status() != UserStatus.LOCKED) {
+            record(ActivityMetric.LOCKOUTS, now);
+        }
+        if (after.emailVerified() && !before.emailVerified()) {
+            record(ActivityMetric.VERIFICATIONS, now);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        event.changes().forEach(this::onUserChanged);
+    }
+
+    /**
+     * Time at which live counting started. Activity before it is only known from the backfill.
+     */
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Removes and returns the pending deltas. Each bucket is removed atomically, so increments
+     * racing with the drain end up either in the result or in a new pending entry.
+     */
+    public Map<UserActivityRollup.Key, Long> drain() {
+        Map<UserActivityRollup.Key, Long> drained = new HashMap<>();
+        for (UserActivityRollup.Key key : pending.keySet()) {
+            Long count = pending.remove(key);
+            if (count != null) {
+                drained.put(key, count);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Puts back deltas from a drain whose flush failed.
+     */
+    public void restore(Map<UserActivityRollup.Key, Long> deltas) {
+        deltas.forEach((key, count) -> pending.merge(key, count, Long::sum));
+    }
+
+    public long pendingCount(ActivityMetric metric, RollupGranularity granularity, LocalDateTime bucketStart) {
+        return pending.getOrDefault(new UserActivityRollup.Key(metric, granularity, bucketStart), 0L);
+    }
+
+    // Helper methods
+    private void record(ActivityMetric metric, LocalDateTime time) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            pending.merge(new UserActivityRollup.Key(metric, granularity, granularity.bucketOf(time)), 1L, Long::sum);
+        }
+    }
+}
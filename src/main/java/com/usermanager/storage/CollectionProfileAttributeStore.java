@@ -0,0 +1,103 @@
+package com.usermanager.storage;
+
+import com.usermanager.domain.entity.UserProfile;
+import com.usermanager.repository.UserProfileRepository;
+import com.usermanager.repository.projection.ProfileAttributeView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps attributes and preferences in the element collection tables. Every write is mirrored
+ * into the JSONB documents as well, so switching to {@code jsonb} mode needs no catch-up.
+ */
+@Component
+@ConditionalOnProperty(name = "app.profiles.storage-mode", havingValue = "collections", matchIfMissing = true)
+public class CollectionProfileAttributeStore implements ProfileAttributeStore {
+
+    private final UserProfileRepository userProfileRepository;
+
+    @Autowired
+    public CollectionProfileAttributeStore(UserProfileRepository userProfileRepository) {
+        this.userProfileRepository = userProfileRepository;
+    }
+
+    @Override
+    public Map<String, String> getAttributes(UserProfile profile) {
+        return Collections.unmodifiableMap(new HashMap<>(profile.getAttributes()));
+    }
+
+    @Override
+    public Map<String, String> getPreferences(UserProfile profile) {
+        return Collections.unmodifiableMap(new HashMap<>(profile.getPreferences()));
+    }
+
+    @Override
+    public void putAttribute(UserProfile profile, String key, String value) {
+        profile.addAttribute(key, value);
+        profile.setAttributesDoc(new HashMap<>(profile.getAttributes()));
+    }
+
+    @Override
+    public void removeAttribute(UserProfile profile, String key) {
+        profile.removeAttribute(key);
+        profile.setAttributesDoc(new HashMap<>(profile.getAttributes()));
+    }
+
+    @Override
+    public void putPreference(UserProfile profile, String key, String value) {
+        profile.addPreference(key, value);
+        profile.setPreferencesDoc(new HashMap<>(profile.getPreferences()));
+    }
+
+    @Override
+    public void removePreference(UserProfile profile, String key) {
+        profile.removePreference(key);
+        profile.setPreferencesDoc(new HashMap<>(profile.getPreferences()));
+    }
+
+    @Override
+    public void replaceAttributes(UserProfile profile, Map<String, String> attributes) {
+        profile.getAttributes().clear();
+        profile.getAttributes().putAll(attributes);
+        profile.setAttributesDoc(new HashMap<>(attributes));
+    }
+
+    @Override
+    public void replacePreferences(UserProfile profile, Map<String, String> preferences) {
+        profile.getPreferences().clear();
+        profile.getPreferences().putAll(preferences);
+        profile.setPreferencesDoc(new HashMap<>(preferences));
+    }
+
+    @Override
+    public List<UserProfile> findByAttribute(String key, String value) {
+        return userProfileRepository.findByAttributeAndActive(key, value);
+    }
+
+    @Override
+    public List<UserProfile> findByPreference(String key, String value) {
+        return userProfileRepository.findByPreferenceAndActive(key, value);
+    }
+
+    @Override
+    public List<ProfileAttributeView> findAllActiveAttributes() {
+        return userProfileRepository.findAllActiveAttributeAssignments();
+    }
+
+    @Override
+    public void preload(List<UserProfile> profiles) {
+        if (profiles.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = profiles.stream().map(UserProfile::getId).toList();
+        userProfileRepository.fetchAttributes(ids);
+        userProfileRepository.fetchPreferences(ids);
+    }
+}
@@ -0,0 +1,107 @@
+package com.usermanager.storage;
+
+import com.usermanager.domain.enums.BlobCompression;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decides how a blob is stored. Mime types listed under {@code never} are stored as-is and
+ * types under {@code always} are compressed. Anything else is compressed only when a sample
+ * from the start of the file shrinks enough. Content that starts with the signature of a
+ * compressed format is never compressed again.
+ */
+@Component
+public class CompressionPolicy {
+
+    private static final byte[][] COMPRESSED_SIGNATURES = {
+        {0x1F, (byte) 0x8B},                                  // gzip
+        {0x50, 0x4B, 0x03, 0x04},                             // zip, docx, xlsx, pptx
+        {0x28, (byte) 0xB5, 0x2F, (byte) 0xFD},               // zstd
+        {0x42, 0x5A, 0x68},                                   // bzip2
+        {(byte) 0xFD, 0x37, 0x7A, 0x58, 0x5A, 0x00},          // xz
+        {0x37, 0x7A, (byte) 0xBC, (byte) 0xAF, 0x27, 0x1C},   // 7z
+        {(byte) 0x89, 0x50, 0x4E, 0x47},                      // png
+        {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}               // jpeg
+    };
+
+    private final boolean enabled;
+    private final int level;
+    private final int frameSize;
+    private final int sampleSize;
+    private final double maxSampleRatio;
+    private final List<String> alwaysTypes;
+    private final List<String> neverTypes;
+
+    @Autowired
+    public CompressionPolicy(@Value("${app.storage.papers.compression.enabled}") boolean enabled,
+                             @Value("${app.storage.papers.compression.level}") int level,
+                             @Value("${app.storage.papers.compression.frame-size}") DataSize frameSize,
+                             @Value("${app.storage.papers.compression.sample-size}") DataSize sampleSize,
+                             @Value("${app.storage.papers.compression.max-sample-ratio}") double maxSampleRatio,
+                             @Value("${app.storage.papers.compression.always}") List<String> alwaysTypes,
+                             @Value("${app.storage.papers.compression.never}") List<String> neverTypes) {
+        this.enabled = enabled;
+        this.level = level;
+        this.frameSize = (int) frameSize.toBytes();
+        this.sampleSize = (int) sampleSize.toBytes();
+        this.maxSampleRatio = maxSampleRatio;
+        this.alwaysTypes = alwaysTypes;
+        this.neverTypes = neverTypes;
+    }
+
+    public BlobCompression choose(String mimeType, Path file) throws IOException {
+        if (!enabled || matches(neverTypes, mimeType)) {
+            return BlobCompression.NONE;
+        }
+
+        byte[] sample;
+        try (InputStream in = Files.newInputStream(file)) {
+            sample = in.readNBytes(sampleSize);
+        }
+        if (sample.length == 0 || hasCompressedSignature(sample)) {
+            return BlobCompression.NONE;
+        }
+        if (matches(alwaysTypes, mimeType) || SeekableZstd.compressionRatio(sample, level) <= maxSampleRatio) {
+            return BlobCompression.ZSTD_SEEKABLE;
+        }
+        return BlobCompression.NONE;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    // Helper methods
+    private static boolean matches(List<String> patterns, String mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        String type = mimeType.toLowerCase();
+        int parameters = type.indexOf(';');
+        String baseType = (parameters >= 0 ? type.substring(0, parameters) : type).trim();
+        return patterns.stream()
+                .map(String::trim)
+                .anyMatch(pattern -> pattern.endsWith("*")
+                        ? baseType.startsWith(pattern.substring(0, pattern.length() - 1))
+                        : baseType.equals(pattern));
+    }
+
+    private static boolean hasCompressedSignature(byte[] sample) {
+        return Arrays.stream(COMPRESSED_SIGNATURES)
+                .anyMatch(signature -> sample.length >= signature.length
+                        && Arrays.equals(sample, 0, signature.length, signature, 0, signature.length));
+    }
+}
@@ -0,0 +1,142 @@
+package com.usermanager.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanager.domain.entity.UserProfile;
+import com.usermanager.repository.UserProfileRepository;
+import com.usermanager.repository.projection.ProfileAttributeView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps attributes and preferences in the JSONB documents on the profile row, so a profile
+ * loads with a single row and lookups by key and value use the GIN indexes.
+ *
+ * The element collections are no longer written in this mode. A profile whose documents have
+ * not been backfilled yet is read from, and on its first write copied out of, the collections.
+ */
+@Component
+@ConditionalOnProperty(name = "app.profiles.storage-mode", havingValue = "jsonb")
+public class JsonbProfileAttributeStore implements ProfileAttributeStore {
+
+    private final UserProfileRepository userProfileRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public JsonbProfileAttributeStore(UserProfileRepository userProfileRepository, ObjectMapper objectMapper) {
+        this.userProfileRepository = userProfileRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Map<String, String> getAttributes(UserProfile profile) {
+        Map<String, String> attributes = profile.getAttributesDoc();
+        return Collections.unmodifiableMap(new HashMap<>(attributes != null ? attributes : profile.getAttributes()));
+    }
+
+    @Override
+    public Map<String, String> getPreferences(UserProfile profile) {
+        Map<String, String> preferences = profile.getPreferencesDoc();
+        return Collections.unmodifiableMap(new HashMap<>(preferences != null ? preferences : profile.getPreferences()));
+    }
+
+    @Override
+    public void putAttribute(UserProfile profile, String key, String value) {
+        Map<String, String> attributes = attributesDocOf(profile);
+        attributes.put(key, value);
+        profile.setAttributesDoc(attributes);
+    }
+
+    @Override
+    public void removeAttribute(UserProfile profile, String key) {
+        Map<String, String> attributes = attributesDocOf(profile);
+        attributes.remove(key);
+        profile.setAttributesDoc(attributes);
+    }
+
+    @Override
+    public void putPreference(UserProfile profile, String key, String value) {
+        Map<String, String> preferences = preferencesDocOf(profile);
+        preferences.put(key, value);
+        profile.setPreferencesDoc(preferences);
+    }
+
+    @Override
+    public void removePreference(UserProfile profile, String key) {
+        Map<String, String> preferences = preferencesDocOf(profile);
+        preferences.remove(key);
+        profile.setPreferencesDoc(preferences);
+    }
+
+    @Override
+    public void replaceAttributes(UserProfile profile, Map<String, String> attributes) {
+        profile.setAttributesDoc(new HashMap<>(attributes));
+    }
+
+    @Override
+    public void replacePreferences(UserProfile profile, Map<String, String> preferences) {
+        profile.setPreferencesDoc(new HashMap<>(preferences));
+    }
+
+    @Override
+    public List<UserProfile> findByAttribute(String key, String value) {
+        return userProfileRepository.findByAttributesDocContaining(toDocument(key, value));
+    }
+
+    @Override
+    public List<UserProfile> findByPreference(String key, String value) {
+        return userProfileRepository.findByPreferencesDocContaining(toDocument(key, value));
+    }
+
+    @Override
+    public List<ProfileAttributeView> findAllActiveAttributes() {
+        return userProfileRepository.findAllActiveAttributeDocEntries();
+    }
+
+    @Override
+    public void preload(List<UserProfile> profiles) {
+        // Documents come with the profile row; only profiles not backfilled yet need the collections
+        List<UUID> attributeIds = profiles.stream()
+                .filter(profile -> profile.getAttributesDoc() == null)
+                .map(UserProfile::getId)
+                .toList();
+        List<UUID> preferenceIds = profiles.stream()
+                .filter(profile -> profile.getPreferencesDoc() == null)
+                .map(UserProfile::getId)
+                .toList();
+        if (!attributeIds.isEmpty()) {
+            userProfileRepository.fetchAttributes(attributeIds);
+        }
+        if (!preferenceIds.isEmpty()) {
+            userProfileRepository.fetchPreferences(preferenceIds);
+        }
+    }
+
+    // Helper methods
+    // Documents are copied and set again rather than mutated in place, so dirty checking
+    // always sees a changed value
+    private static Map<String, String> attributesDocOf(UserProfile profile) {
+        Map<String, String> attributes = profile.getAttributesDoc();
+        return new HashMap<>(attributes != null ? attributes : profile.getAttributes());
+    }
+
+    private static Map<String, String> preferencesDocOf(UserProfile profile) {
+        Map<String, String> preferences = profile.getPreferencesDoc();
+        return new HashMap<>(preferences != null ? preferences : profile.getPreferences());
+    }
+
+    private String toDocument(String key, String value) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(key, value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode lookup for key: " + key, e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.usermanager.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * Logical (decompressed) content of a paper file. Each call to {@link #getInputStream()} opens a
+ * new stream, and skipping on those streams is cheap, so Spring MVC can serve range requests
+ * from it directly.
+ */
+public class PaperContentResource extends AbstractResource {
+
+    private final String contentHash;
+    private final String fileName;
+    private final String mimeType;
+    private final long contentLength;
+    private final Supplier<InputStream> opener;
+
+    public PaperContentResource(String contentHash, String fileName, String mimeType, long contentLength,
+                                Supplier<InputStream> opener) {
+        this.contentHash = contentHash;
+        this.fileName = fileName;
+        this.mimeType = mimeType;
+        this.contentLength = contentLength;
+        this.opener = opener;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return opener.get();
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String getFilename() {
+        return fileName;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Paper content [" + contentHash + "]";
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+}
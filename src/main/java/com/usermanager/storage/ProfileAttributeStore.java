@@ -0,0 +1,45 @@
+package com.usermanager.storage;
+
+import com.usermanager.domain.entity.UserProfile;
+import com.usermanager.repository.projection.ProfileAttributeView;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the attributes and preferences of a {@link UserProfile}.
+ *
+ * The implementation is selected with {@code app.profiles.storage-mode}: {@code collections}
+ * keeps them in the element collection tables, {@code jsonb} in the JSONB documents on the
+ * profile row.
+ */
+public interface ProfileAttributeStore {
+
+    Map<String, String> getAttributes(UserProfile profile);
+
+    Map<String, String> getPreferences(UserProfile profile);
+
+    void putAttribute(UserProfile profile, String key, String value);
+
+    void removeAttribute(UserProfile profile, String key);
+
+    void putPreference(UserProfile profile, String key, String value);
+
+    void removePreference(UserProfile profile, String key);
+
+    void replaceAttributes(UserProfile profile, Map<String, String> attributes);
+
+    void replacePreferences(UserProfile profile, Map<String, String> preferences);
+
+    List<UserProfile> findByAttribute(String key, String value);
+
+    List<UserProfile> findByPreference(String key, String value);
+
+    List<ProfileAttributeView> findAllActiveAttributes();
+
+    /**
+     * Loads whatever {@link #getAttributes} and {@link #getPreferences} will read for
+     * {@code profiles}, in a fixed number of queries.
+     */
+    void preload(List<UserProfile> profiles);
+}
@@ -0,0 +1,89 @@
+package com.usermanager.storage;
+
+import com.github.luben.zstd.Zstd;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes and opens files in the Zstandard seekable format: independently compressed frames of
+ * a fixed logical size, followed by a seek table in a skippable frame. The files remain valid
+ * zstd streams, and a reader can start decompressing at the frame that holds any offset.
+ */
+public final class SeekableZstd {
+
+    static final int SKIPPABLE_MAGIC = 0x184D2A5E;
+    static final int SEEKABLE_MAGIC = 0x8F92EAB1;
+    static final int FOOTER_SIZE = 9;
+    static final int CHECKSUM_FLAG = 0x80;
+
+    private SeekableZstd() {
+    }
+
+    /**
+     * Compresses {@code source} into {@code target} and returns the number of bytes written.
+     */
+    public static long compress(Path source, Path target, int level, int frameSize) throws IOException {
+        byte[] input = new byte[frameSize];
+        byte[] output = new byte[(int) Zstd.compressBound(frameSize)];
+        List<int[]> frames = new ArrayList<>();
+        long written = 0;
+
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            int read;
+            while ((read = in.readNBytes(input, 0, frameSize)) > 0) {
+                long compressed = Zstd.compressByteArray(output, 0, output.length, input, 0, read, level);
+                if (Zstd.isError(compressed)) {
+                    throw new IOException("Zstd compression failed: " + Zstd.getErrorName(compressed));
+                }
+                out.write(output, 0, (int) compressed);
+                frames.add(new int[] {(int) compressed, read});
+                written += compressed;
+            }
+
+            ByteBuffer seekTable = ByteBuffer.allocate(8 + frames.size() * 8 + FOOTER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            seekTable.putInt(SKIPPABLE_MAGIC);
+            seekTable.putInt(frames.size() * 8 + FOOTER_SIZE);
+            for (int[] frame : frames) {
+                seekTable.putInt(frame[0]);
+                seekTable.putInt(frame[1]);
+            }
+            seekTable.putInt(frames.size());
+            seekTable.put((byte) 0);
+            seekTable.putInt(SEEKABLE_MAGIC);
+            out.write(seekTable.array());
+            written += seekTable.capacity();
+        }
+        return written;
+    }
+
+    /**
+     * Opens a seekable file for reading its decompressed content. {@link InputStream#skip} jumps
+     * to the frame holding the target offset without decompressing the frames before it.
+     */
+    public static SeekableZstdInputStream open(Path file) throws IOException {
+        return new SeekableZstdInputStream(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * Returns the compressed size of {@code sample} relative to its original size.
+     */
+    public static double compressionRatio(byte[] sample, int level) {
+        if (sample.length == 0) {
+            return 1.0;
+        }
+        return (double) Zstd.compress(sample, level).length / sample.length;
+    }
+}
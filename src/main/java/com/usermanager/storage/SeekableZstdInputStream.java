@@ -0,0 +1,153 @@
+package com.usermanager.storage;
+
+import com.github.luben.zstd.Zstd;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Decompressing stream over a file written by {@link SeekableZstd#compress}. Frames are loaded
+ * lazily, so skipping only moves the logical position.
+ */
+public final class SeekableZstdInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final long[] compressedOffsets;
+    private final int[] compressedSizes;
+    private final long[] decompressedOffsets;
+
+    private byte[] frame = new byte[0];
+    private int frameIndex = -1;
+    private long position;
+
+    SeekableZstdInputStream(FileChannel channel) throws IOException {
+        this.channel = channel;
+        try {
+            long fileSize = channel.size();
+            if (fileSize < SeekableZstd.FOOTER_SIZE) {
+                throw new IOException("File is too short for a seekable zstd footer");
+            }
+
+            ByteBuffer footer = readFully(fileSize - SeekableZstd.FOOTER_SIZE, SeekableZstd.FOOTER_SIZE);
+            int frameCount = footer.getInt();
+            int descriptor = footer.get() & 0xFF;
+            if (footer.getInt() != SeekableZstd.SEEKABLE_MAGIC) {
+                throw new IOException("Missing seekable zstd footer");
+            }
+
+            int entrySize = (descriptor & SeekableZstd.CHECKSUM_FLAG) != 0 ? 12 : 8;
+            ByteBuffer seekTable = readFully(fileSize - SeekableZstd.FOOTER_SIZE - (long) frameCount * entrySize,
+                    frameCount * entrySize);
+
+            this.compressedOffsets = new long[frameCount];
+            this.compressedSizes = new int[frameCount];
+            this.decompressedOffsets = new long[frameCount + 1];
+            long compressedOffset = 0;
+            for (int i = 0; i < frameCount; i++) {
+                compressedOffsets[i] = compressedOffset;
+                compressedSizes[i] = seekTable.getInt();
+                decompressedOffsets[i + 1] = decompressedOffsets[i] + Integer.toUnsignedLong(seekTable.getInt());
+                if (entrySize == 12) {
+                    seekTable.getInt();
+                }
+                compressedOffset += compressedSizes[i];
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long length() {
+        return decompressedOffsets[decompressedOffsets.length - 1];
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!loadFrameAtPosition()) {
+            return -1;
+        }
+        return frame[(int) (position++ - decompressedOffsets[frameIndex])] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < length && loadFrameAtPosition()) {
+            int frameOffset = (int) (position - decompressedOffsets[frameIndex]);
+            int frameLength = (int) (decompressedOffsets[frameIndex + 1] - decompressedOffsets[frameIndex]);
+            int count = Math.min(length - total, frameLength - frameOffset);
+            System.arraycopy(frame, frameOffset, buffer, offset + total, count);
+            position += count;
+            total += count;
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        long target = Math.min(position + n, length());
+        long skipped = target - position;
+        position = target;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        if (frameIndex < 0 || position < decompressedOffsets[frameIndex] || position >= decompressedOffsets[frameIndex + 1]) {
+            return 0;
+        }
+        return (int) (decompressedOffsets[frameIndex + 1] - position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Helper methods
+    private boolean loadFrameAtPosition() throws IOException {
+        if (position >= length()) {
+            return false;
+        }
+        if (frameIndex >= 0 && position >= decompressedOffsets[frameIndex] && position < decompressedOffsets[frameIndex + 1]) {
+            return true;
+        }
+
+        int index = Arrays.binarySearch(decompressedOffsets, 0, compressedOffsets.length, position);
+        index = index >= 0 ? index : -index - 2;
+
+        int frameLength = (int) (decompressedOffsets[index + 1] - decompressedOffsets[index]);
+        if (frame.length < frameLength) {
+            frame = new byte[frameLength];
+        }
+        byte[] compressed = readFully(compressedOffsets[index], compressedSizes[index]).array();
+        long decompressed = Zstd.decompressByteArray(frame, 0, frameLength, compressed, 0, compressed.length);
+        if (Zstd.isError(decompressed)) {
+            throw new IOException("Zstd decompression failed: " + Zstd.getErrorName(decompressed));
+        }
+        frameIndex = index;
+        return true;
+    }
+
+    private ByteBuffer readFully(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of seekable zstd file");
+            }
+        }
+        return buffer.flip();
+    }
+}
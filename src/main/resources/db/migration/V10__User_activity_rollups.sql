@@ -0,0 +1,16 @@
+-- Pre-bucketed user activity counts, one row per metric, granularity and bucket
+CREATE TABLE user_activity_rollups (
+    metric VARCHAR(20) NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (metric, granularity, bucket_start)
+);
+
+-- Chunks of users.created_at history already added to the rollups. All chunks share the
+-- cutoff of the first one; activity after it is counted live by the application.
+CREATE TABLE user_activity_backfill (
+    chunk_start TIMESTAMP PRIMARY KEY,
+    cutoff TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
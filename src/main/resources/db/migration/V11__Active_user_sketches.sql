@@ -0,0 +1,9 @@
+-- HyperLogLog sketches of the users that logged in, one per day and department
+-- (empty string for users without a department)
+CREATE TABLE active_user_sketches (
+    day DATE NOT NULL,
+    department VARCHAR(100) NOT NULL,
+    registers BYTEA NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (day, department)
+);
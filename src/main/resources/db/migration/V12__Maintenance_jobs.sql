@@ -0,0 +1,35 @@
+-- Batch maintenance jobs over users, processed in keyset chunks with a checkpoint per chunk
+
+CREATE TABLE maintenance_jobs (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    query_type VARCHAR(40) NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    cutoff TIMESTAMP,
+    max_login_attempts INTEGER,
+    chunk_size INTEGER NOT NULL,
+    last_user_id UUID,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    affected_count BIGINT NOT NULL DEFAULT 0,
+    requested_by VARCHAR(100),
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    error_message VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0,
+    active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+-- Users matched by a job, written in the same transaction as the checkpoint
+CREATE TABLE maintenance_job_items (
+    job_id UUID NOT NULL REFERENCES maintenance_jobs(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    affected BOOLEAN NOT NULL,
+    PRIMARY KEY (job_id, user_id)
+);
+
+CREATE INDEX idx_maintenance_job_unfinished ON maintenance_jobs(created_at) WHERE status IN ('PENDING', 'RUNNING');
+
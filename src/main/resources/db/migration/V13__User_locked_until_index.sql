@@ -0,0 +1,8 @@
+-- Supports seeding the unlock scheduler with a range query on lock expirations.
+-- Locked users are a small fraction of the table, so the index is partial.
+
+-- Built concurrently so writes to users are not blocked. Flyway runs
+-- CREATE INDEX CONCURRENTLY outside a transaction, so this migration must not
+-- contain other statements.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_locked_until ON users(locked_until)
+    WHERE locked_until IS NOT NULL;
@@ -0,0 +1,25 @@
+-- Content-addressed storage for paper files
+
+-- Paper Blobs table (one row per distinct file content)
+CREATE TABLE paper_blobs (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    content_hash VARCHAR(64) NOT NULL UNIQUE,
+    size_bytes BIGINT NOT NULL,
+    mime_type VARCHAR(100),
+    storage_path VARCHAR(500) NOT NULL,
+    reference_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0,
+    active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+-- Papers point at the blob holding their content
+ALTER TABLE papers ADD COLUMN content_hash VARCHAR(64);
+
+-- Paper Blob indexes
+CREATE INDEX idx_paper_blob_content_hash ON paper_blobs(content_hash);
+CREATE INDEX idx_paper_blob_unreferenced ON paper_blobs(updated_at) WHERE reference_count <= 0;
+
+-- Paper indexes
+CREATE INDEX idx_paper_content_hash ON papers(content_hash);
@@ -0,0 +1,36 @@
+-- Typed parent reference and latest-version indexes for paper versioning
+
+-- Parent references become UUIDs pointing at the first version of the chain
+ALTER TABLE papers
+    ALTER COLUMN parent_paper_id TYPE UUID
+    USING CASE
+        WHEN parent_paper_id ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$'
+        THEN parent_paper_id::uuid
+    END;
+
+UPDATE papers p SET parent_paper_id = NULL
+WHERE p.parent_paper_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM papers parent WHERE parent.id = p.parent_paper_id);
+
+ALTER TABLE papers
+    ADD CONSTRAINT fk_paper_parent_paper FOREIGN KEY (parent_paper_id) REFERENCES papers(id);
+
+-- Keep only the highest version of each chain flagged as latest
+UPDATE papers p SET is_latest_version = FALSE
+WHERE p.is_latest_version = TRUE
+  AND p.active = TRUE
+  AND EXISTS (
+      SELECT 1 FROM papers newer
+      WHERE COALESCE(newer.parent_paper_id, newer.id) = COALESCE(p.parent_paper_id, p.id)
+        AND newer.is_latest_version = TRUE
+        AND newer.active = TRUE
+        AND (newer.version_number > p.version_number
+             OR (newer.version_number = p.version_number AND newer.id > p.id))
+  );
+
+-- Paper versioning indexes
+CREATE INDEX idx_paper_parent_version ON papers(parent_paper_id, version_number DESC);
+CREATE UNIQUE INDEX uq_paper_latest_version ON papers((COALESCE(parent_paper_id, id)))
+    WHERE is_latest_version = TRUE AND active = TRUE;
+CREATE INDEX idx_paper_latest_active ON papers(created_at)
+    WHERE is_latest_version = TRUE AND active = TRUE;
@@ -0,0 +1,4 @@
+-- Supports seeding the paper expiry scheduler with a range query on upcoming expirations
+
+CREATE INDEX idx_paper_published_expires_at ON papers(expires_at)
+    WHERE status = 'PUBLISHED' AND active = TRUE AND expires_at IS NOT NULL;
@@ -0,0 +1,11 @@
+-- Compressed storage for paper blobs
+
+-- Existing blobs are stored uncompressed
+ALTER TABLE paper_blobs ADD COLUMN compression VARCHAR(20) NOT NULL DEFAULT 'NONE';
+ALTER TABLE paper_blobs ADD COLUMN stored_size BIGINT;
+UPDATE paper_blobs SET stored_size = size_bytes;
+ALTER TABLE paper_blobs ALTER COLUMN stored_size SET NOT NULL;
+
+-- Size of the stored file next to the logical file_size
+ALTER TABLE papers ADD COLUMN stored_file_size BIGINT;
+UPDATE papers SET stored_file_size = file_size WHERE content_hash IS NOT NULL;
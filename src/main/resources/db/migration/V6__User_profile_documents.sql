@@ -0,0 +1,7 @@
+-- JSONB documents holding profile attributes and preferences
+
+-- Nullable without a default, so adding the columns does not rewrite the table.
+-- NULL marks a profile that has not been backfilled from the collection tables yet;
+-- the backfill runs in small batches from the application (ProfileDocumentBackfill).
+ALTER TABLE user_profiles ADD COLUMN attributes_doc JSONB;
+ALTER TABLE user_profiles ADD COLUMN preferences_doc JSONB;
@@ -0,0 +1,9 @@
+-- GIN indexes for containment (@>) lookups on profile documents
+
+-- Built concurrently so writes to user_profiles are not blocked. Flyway runs
+-- CREATE INDEX CONCURRENTLY outside a transaction, so this migration must not
+-- contain other statements.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profile_attributes_doc
+    ON user_profiles USING GIN (attributes_doc jsonb_path_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profile_preferences_doc
+    ON user_profiles USING GIN (preferences_doc jsonb_path_ops);
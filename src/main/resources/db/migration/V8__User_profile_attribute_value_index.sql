@@ -0,0 +1,5 @@
+-- Serves attribute key/value lookups on the collection table (collections storage mode)
+
+-- text_pattern_ops also lets LIKE 'prefix%' use the index regardless of the database collation
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profile_attributes_key_value
+    ON user_profile_attributes (attribute_key, attribute_value text_pattern_ops);
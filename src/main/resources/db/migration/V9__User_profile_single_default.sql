@@ -0,0 +1,17 @@
+-- At most one default profile per user
+
+-- Keep only the most recently updated active default of each user
+UPDATE user_profiles SET is_default = FALSE WHERE is_default AND NOT active;
+UPDATE user_profiles p SET is_default = FALSE
+WHERE p.is_default AND EXISTS (
+    SELECT 1 FROM user_profiles o
+    WHERE o.user_id = p.user_id AND o.is_default AND o.id <> p.id
+      AND (o.updated_at > p.updated_at OR (o.updated_at = p.updated_at AND o.id > p.id))
+);
+
+-- Same rule as a partial unique index on (user_id) WHERE is_default, but deferrable: a unique
+-- index is checked row by row, which would reject the single UPDATE that moves the default flag
+-- from one profile to another. The constraint is checked once the statement has finished.
+ALTER TABLE user_profiles ADD CONSTRAINT uq_user_profile_default
+    EXCLUDE USING btree (user_id WITH =) WHERE (is_default)
+    DEFERRABLE INITIALLY IMMEDIATE;
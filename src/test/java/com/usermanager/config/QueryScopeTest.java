@@ -0,0 +1,82 @@
+package com.usermanager.config;
+
+import com.usermanager.domain.entity.Paper;
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.enums.PaperType;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({NPlusOneConfig.class, NPlusOneDetector.class})
+class QueryScopeTest {
+
+    private static final int PAPERS = 10;
+    private static final int THRESHOLD = 5;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<UUID> paperIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(new User("query-scope", "query-scope@example.com", "Query", "Scope"));
+        for (int i = 0; i < PAPERS; i++) {
+            Paper paper = new Paper("QS-" + i, "Paper " + i, PaperType.DOCUMENT, author);
+            paper.addTag("tag-" + i);
+            paperIds.add(paperRepository.save(paper).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void reportsLazyTagLoadingPerPaper() {
+        try (QueryScope queries = QueryScope.open("lazy tags")) {
+            paperRepository.findAllById(paperIds).forEach(paper -> paper.getTags().size());
+
+            assertThat(queries.repeatedFetches(THRESHOLD))
+                    .singleElement()
+                    .satisfies(fetch -> {
+                        assertThat(fetch.table()).isEqualTo("paper_tags");
+                        assertThat(fetch.count()).isEqualTo(PAPERS);
+                    });
+            assertThatThrownBy(() -> queries.assertNoRepeatedFetches(THRESHOLD))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("paper_tags");
+        }
+    }
+
+    @Test
+    void acceptsFetchJoinedTags() {
+        try (QueryScope queries = QueryScope.open("fetch-joined tags")) {
+            paperRepository.findAllWithTagsByIdIn(paperIds).forEach(paper -> paper.getTags().size());
+
+            queries.assertNoRepeatedFetches(THRESHOLD);
+            queries.assertStatementsAtMost(1);
+        }
+    }
+}
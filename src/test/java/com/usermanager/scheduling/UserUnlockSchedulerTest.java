@@ -0,0 +1,58 @@
+package com.usermanager.scheduling;
+
+import com.usermanager.config.AdvisoryLocks;
+import com.usermanager.domain.entity.User;
+import com.usermanager.domain.enums.UserStatus;
+import com.usermanager.mapper.UserMapper;
+import com.usermanager.repository.UserRepository;
+import com.usermanager.service.impl.UserServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A long tick keeps the scheduled tick from polling the wheel while the test drives it
+@DataJpaTest(properties = "app.users.unlock.tick-interval-ms=60000")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserUnlockScheduler.class, UserServiceImpl.class, AdvisoryLocks.class})
+class UserUnlockSchedulerTest {
+
+    @Autowired
+    private UserUnlockScheduler unlockScheduler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private UserMapper userMapper;
+
+    @Test
+    void unlockTickUnlocksExpiredLocksWithoutAdvisoryLocks() {
+        User user = new User("unlock-tick", "unlock-tick@example.com", "Unlock", "Tick");
+        user.lock(LocalDateTime.now().minusMinutes(1));
+        UUID userId = userRepository.saveAndFlush(user).getId();
+
+        unlockScheduler.refill();
+        unlockScheduler.unlockDueUsers();
+        entityManager.flush();
+        entityManager.clear();
+
+        User unlocked = userRepository.findById(userId).orElseThrow();
+        assertThat(unlocked.getStatus()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(unlocked.getLockedUntil()).isNull();
+        assertThat(unlocked.getLoginAttempts()).isZero();
+    }
+}
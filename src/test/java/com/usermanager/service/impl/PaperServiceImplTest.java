@@ -0,0 +1,96 @@
+package com.usermanager.service.impl;
+
+import com.usermanager.domain.enums.PaperStatus;
+import com.usermanager.dto.PaperDto;
+import com.usermanager.index.PaperContentIndex;
+import com.usermanager.index.PaperTagHits;
+import com.usermanager.index.PaperTagIndex;
+import com.usermanager.index.PaperTagQuery;
+import com.usermanager.index.PaperVisibilityIndex;
+import com.usermanager.mapper.PaperMapper;
+import com.usermanager.repository.PaperRepository;
+import com.usermanager.repository.PermissionRepository;
+import com.usermanager.service.PaperStorageService;
+import com.usermanager.stats.PaperLeaderboard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaperServiceImplTest {
+
+    @Mock
+    private PaperRepository paperRepository;
+    @Mock
+    private PermissionRepository permissionRepository;
+    @Mock
+    private PaperStorageService paperStorageService;
+    @Mock
+    private PaperMapper paperMapper;
+    @Mock
+    private PaperTagIndex paperTagIndex;
+    @Mock
+    private PaperVisibilityIndex paperVisibilityIndex;
+    @Mock
+    private PaperContentIndex paperContentIndex;
+    @Mock
+    private PaperLeaderboard paperLeaderboard;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PaperServiceImpl paperService;
+
+    @BeforeEach
+    void setUp() {
+        paperService = new PaperServiceImpl(paperRepository, permissionRepository, paperStorageService, paperMapper,
+                paperTagIndex, paperVisibilityIndex, paperContentIndex, paperLeaderboard, eventPublisher);
+    }
+
+    @Test
+    void getPublishedPapersRejectsSort() {
+        PageRequest sorted = PageRequest.of(0, 20, Sort.by("publishedAt").descending());
+
+        assertThatThrownBy(() -> paperService.getPublishedPapers("alice", sorted))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("publishedAt");
+        verifyNoInteractions(paperTagIndex);
+    }
+
+    @Test
+    void getPublishedPapersPagesInIndexOrderWithoutSort() {
+        BitSet visible = new BitSet();
+        visible.set(0, 3);
+        when(permissionRepository.findActiveCodesByUsername("alice")).thenReturn(List.of("PAPER_READ"));
+        when(paperVisibilityIndex.visibleDocs(List.of("PAPER_READ"))).thenReturn(visible);
+        when(paperTagIndex.search(any(), any(), anyLong(), anyInt(), anyInt()))
+                .thenReturn(new PaperTagHits(List.of(), 3, Map.of(), Map.of(), Map.of(), Map.of()));
+
+        Page<PaperDto> page = paperService.getPublishedPapers("alice", PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        verify(paperTagIndex).search(eq(new PaperTagQuery(null, null, PaperStatus.PUBLISHED, null, null, false)),
+                eq(visible), eq(2L), eq(2), eq(0));
+        verify(paperRepository, never()).findAllWithTagsByIdIn(any());
+    }
+}